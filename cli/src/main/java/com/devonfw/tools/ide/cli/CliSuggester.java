@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.property.EnumProperty;
@@ -230,8 +231,8 @@ public class CliSuggester {
   private List<String> getAllCommandletNames() {
 
     List<String> names = new ArrayList<>();
-    for (Commandlet cmd : this.context.getCommandletManager().getCommandlets()) {
-      names.add(cmd.getName());
+    for (CommandletDescriptor<?> descriptor : this.context.getCommandletManager().getCommandletDescriptors()) {
+      names.add(descriptor.getName());
     }
     return names;
   }
@@ -244,9 +245,9 @@ public class CliSuggester {
   private List<String> getAllToolNames() {
 
     List<String> names = new ArrayList<>();
-    for (Commandlet cmd : this.context.getCommandletManager().getCommandlets()) {
-      if (cmd instanceof ToolCommandlet) {
-        names.add(cmd.getName());
+    for (CommandletDescriptor<?> descriptor : this.context.getCommandletManager().getCommandletDescriptors()) {
+      if (descriptor.isType(ToolCommandlet.class)) {
+        names.add(descriptor.getName());
       }
     }
     return names;
@@ -6,6 +6,7 @@ import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.devonfw.tools.ide.commandlet.Commandlet;
 import com.devonfw.tools.ide.commandlet.CompleteCommandlet;
 import com.devonfw.tools.ide.commandlet.ContextCommandlet;
 import com.devonfw.tools.ide.context.AbstractIdeContext;
@@ -99,13 +100,17 @@ public final class Ideasy {
       startContext = this.context.getStartContext();
     }
     ContextCommandlet contextCommandlet = new ContextCommandlet(startContext);
+    boolean completion = false;
+    String keyword = null;
     while (arguments.hasNext()) {
       CliArgument current = arguments.next();
       String key = current.getKey();
       Property<?> property = contextCommandlet.getOption(key);
       if (property == null) {
-        if (CompleteCommandlet.NAME.equals(current.get())) {
+        keyword = current.get();
+        if (CompleteCommandlet.NAME.equals(keyword)) {
           arguments.preserveEndOptionsToken();
+          completion = true;
         }
         break;
       }
@@ -124,7 +129,20 @@ public final class Ideasy {
     if (this.context == null) {
       startContext = contextCommandlet.getStartContext();
       this.context = new IdeContextConsole(startContext);
+      if (!completion && isNetworkUsed(keyword)) {
+        // check if we are online in the background while the commandlet is doing its local work
+        this.context.getNetworkStatus().startOnlineCheck();
+      }
+    }
+  }
+
+  private boolean isNetworkUsed(String keyword) {
+
+    if (keyword == null) {
+      return false;
     }
+    Commandlet commandlet = this.context.getCommandletManager().getCommandletByFirstKeyword(keyword);
+    return (commandlet != null) && commandlet.isNetworkUsed();
   }
 
   /**
@@ -19,6 +19,7 @@ import com.devonfw.tools.ide.context.IdeStartContextImpl;
 import com.devonfw.tools.ide.git.GitContext;
 import com.devonfw.tools.ide.git.GitUrl;
 import com.devonfw.tools.ide.git.repository.RepositoryCommandlet;
+import com.devonfw.tools.ide.io.BackupStore;
 import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.property.FlagProperty;
 import com.devonfw.tools.ide.property.StringProperty;
@@ -33,6 +34,7 @@ import com.devonfw.tools.ide.tool.custom.CustomToolMetadata;
 import com.devonfw.tools.ide.tool.extra.ExtraToolInstallation;
 import com.devonfw.tools.ide.tool.extra.ExtraTools;
 import com.devonfw.tools.ide.tool.extra.ExtraToolsMapper;
+import com.devonfw.tools.ide.tool.repository.DownloadPrefetcher;
 import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
@@ -97,14 +99,59 @@ public abstract class AbstractUpdateCommandlet extends Commandlet {
     startContext.setForcePlugins(forcePlugins.isTrue());
     startContext.setForceRepositories(forceRepositories.isTrue());
 
-    updateSettings();
-    updateConf();
-    reloadContext();
+    // ide-urls are independent of the settings so we update them concurrently
+    ((AbstractIdeContext) this.context).startUrlsUpdate();
+    try {
+      updateSettings();
+      updateConf();
+      reloadContext();
+    } finally {
+      // never exit in the middle of the background update (e.g. if the settings update failed)
+      ((AbstractIdeContext) this.context).awaitUrlsUpdate();
+    }
     this.context.verifyIdeMinVersion(true);
 
     updateSoftware();
-    updateRepositories();
-    createStartScripts();
+    DownloadPrefetcher prefetcher = startPrefetch();
+    try {
+      updateCompletionIndex();
+      updateRepositories();
+      createStartScripts();
+      pruneBackups();
+    } finally {
+      awaitPrefetch(prefetcher);
+    }
+  }
+
+  private void pruneBackups() {
+
+    BackupStore backupStore = BackupStore.of(this.context);
+    if (Files.isDirectory(backupStore.getFolder())) {
+      this.context.newStep("Prune backups").run(() -> {
+        int count = backupStore.prune().size();
+        if (count > 0) {
+          LOG.info("Pruned {} backup(s) from {}", count, backupStore.getFolder());
+        }
+      });
+    }
+  }
+
+  private DownloadPrefetcher startPrefetch() {
+
+    if (this.skipTools.isTrue() || !IdeVariables.IDE_PREFETCH.get(this.context)) {
+      return null;
+    }
+    DownloadPrefetcher prefetcher = new DownloadPrefetcher(this.context);
+    prefetcher.start();
+    return prefetcher;
+  }
+
+  private void awaitPrefetch(DownloadPrefetcher prefetcher) {
+
+    if (prefetcher != null) {
+      Step step = this.context.newStep("Prefetch downloads");
+      step.run(() -> LOG.info("Prefetched {} download(s) of other projects.", prefetcher.await()));
+    }
   }
 
   private void reloadContext() {
@@ -302,6 +349,12 @@ public abstract class AbstractUpdateCommandlet extends Commandlet {
     step.run(() -> doUpdateSoftwareStep(step));
   }
 
+  private void updateCompletionIndex() {
+
+    Step step = this.context.newStep("Update completion index");
+    step.run(() -> this.context.getCompletionIndex().update());
+  }
+
   private void doUpdateSoftwareStep(Step step) {
 
     Set<ToolCommandlet> toolCommandlets = new HashSet<>();
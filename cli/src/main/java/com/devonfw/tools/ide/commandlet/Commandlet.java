@@ -213,6 +213,16 @@ public abstract class Commandlet {
     return false;
   }
 
+  /**
+   * @return {@code true} if this commandlet may need the network (e.g. to download or update), {@code false} otherwise. Only for such commandlets the
+   *     {@link com.devonfw.tools.ide.network.NetworkStatus#startOnlineCheck() online check} is started in the background so e.g. {@code ide env} invoked on
+   *     every {@code cd} does not probe the network.
+   */
+  public boolean isNetworkUsed() {
+
+    return !isProcessableOutput();
+  }
+
   /**
    * @return {@code true} to write a logfile (unless disabled via {@link com.devonfw.tools.ide.variable.IdeVariables#IDE_WRITE_LOGFILE}), {@code false}
    *     otherwise.
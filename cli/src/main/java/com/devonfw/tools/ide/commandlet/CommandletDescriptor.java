@@ -0,0 +1,215 @@
+package com.devonfw.tools.ide.commandlet;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.devonfw.tools.ide.cli.CliArgument;
+import com.devonfw.tools.ide.property.KeywordProperty;
+import com.devonfw.tools.ide.property.Property;
+
+/**
+ * Lightweight descriptor of a {@link Commandlet} registered in the {@link CommandletManager}. It holds the {@link #getName() name} and the
+ * {@link #getKeyword() first keyword} of the {@link Commandlet} so it can be found without being created. The {@link Commandlet} itself is only created on the
+ * first call of {@link #getCommandlet()}. This avoids to construct all {@link Commandlet}s with all their {@link Property properties} on every invocation of
+ * the CLI.
+ *
+ * @param <C> type of the {@link Commandlet}.
+ */
+public final class CommandletDescriptor<C extends Commandlet> {
+
+  private final Class<C> type;
+
+  private final String name;
+
+  private final String keyword;
+
+  private final String keywordName;
+
+  private final String alias;
+
+  private final Supplier<C> supplier;
+
+  private volatile C commandlet;
+
+  /**
+   * The constructor.
+   *
+   * @param type the {@link #getType() type}.
+   * @param name the {@link #getName() name}.
+   * @param keyword the {@link #getKeyword() keyword}.
+   * @param alias the {@link #getAlias() alias}.
+   * @param supplier the {@link Supplier} to create the {@link Commandlet} on demand.
+   */
+  CommandletDescriptor(Class<C> type, String name, String keyword, String alias, Supplier<C> supplier) {
+
+    super();
+    this.type = type;
+    this.name = name;
+    this.keyword = keyword;
+    if (keyword.startsWith("--")) {
+      this.keywordName = keyword.substring(2);
+    } else {
+      this.keywordName = keyword;
+    }
+    this.alias = alias;
+    this.supplier = supplier;
+  }
+
+  /**
+   * The constructor for a {@link Commandlet} that has already been created.
+   *
+   * @param commandlet the {@link Commandlet} to describe.
+   */
+  @SuppressWarnings("unchecked")
+  CommandletDescriptor(C commandlet) {
+
+    this((Class<C>) commandlet.getClass(), commandlet.getName(), getKeyword(commandlet), commandlet.getFirstKeyword().getAlias(), () -> commandlet);
+    verify(commandlet);
+    this.commandlet = commandlet;
+  }
+
+  private static String getKeyword(Commandlet commandlet) {
+
+    KeywordProperty keyword = commandlet.getFirstKeyword();
+    if (keyword == null) {
+      throw new IllegalStateException("Commandlet " + commandlet + " must have a keyword as first property!");
+    }
+    return keyword.getOptionName();
+  }
+
+  /**
+   * @return the {@link Class} reflecting the {@link Commandlet}.
+   */
+  public Class<C> getType() {
+
+    return this.type;
+  }
+
+  /**
+   * @param superType the {@link Class} reflecting the potential super-type (e.g. {@link com.devonfw.tools.ide.tool.ToolCommandlet}).
+   * @return {@code true} if the described {@link Commandlet} is an instance of the given {@link Class}, {@code false} otherwise.
+   */
+  public boolean isType(Class<?> superType) {
+
+    return superType.isAssignableFrom(this.type);
+  }
+
+  /**
+   * @return the {@link Commandlet#getName() name} of the {@link Commandlet}.
+   */
+  public String getName() {
+
+    return this.name;
+  }
+
+  /**
+   * @return the {@link KeywordProperty#getOptionName() option name} of the {@link Commandlet#getFirstKeyword() first keyword} (e.g. "--help" or "install").
+   */
+  public String getKeyword() {
+
+    return this.keyword;
+  }
+
+  /**
+   * @return the {@link KeywordProperty#getAlias() alias} of the {@link Commandlet#getFirstKeyword() first keyword} or {@code null} if undefined.
+   */
+  public String getAlias() {
+
+    return this.alias;
+  }
+
+  /**
+   * @return all strings that are matched by the {@link Commandlet#getFirstKeyword() first keyword}.
+   */
+  List<String> getKeywords() {
+
+    if (this.alias == null) {
+      if (this.keyword.equals(this.keywordName)) {
+        return List.of(this.keywordName);
+      }
+      return List.of(this.keywordName, this.keyword);
+    } else if (this.keyword.equals(this.keywordName)) {
+      return List.of(this.keywordName, this.alias);
+    }
+    return List.of(this.keywordName, this.keyword, this.alias);
+  }
+
+  /**
+   * @param argument the {@link CliArgument} that is the potential {@link Commandlet#getFirstKeyword() first keyword}.
+   * @return {@code true} if the {@link Commandlet#getFirstKeyword() first keyword} could match or complete the given {@link CliArgument} so the
+   *     {@link Commandlet} needs to be {@link #getCommandlet() created} to find out, {@code false} if it can not match for sure.
+   */
+  boolean isCandidate(CliArgument argument) {
+
+    String key = argument.getKey();
+    if (argument.isCompletion()) {
+      String arg = argument.get();
+      if (this.keywordName.startsWith(arg) || this.keyword.startsWith(arg)) {
+        return true;
+      } else if ((this.alias != null) && (this.alias.startsWith(arg) || argument.isShortOption())) {
+        return true;
+      } else if (argument.getValue() == null) {
+        return false;
+      }
+    }
+    return getKeywords().contains(key);
+  }
+
+  /**
+   * @return {@code true} if the {@link Commandlet} has already been created, {@code false} otherwise.
+   */
+  public boolean isCreated() {
+
+    return this.commandlet != null;
+  }
+
+  /**
+   * @return the {@link Commandlet} that is created on the first call.
+   */
+  public C getCommandlet() {
+
+    C result = this.commandlet;
+    if (result == null) {
+      synchronized (this) {
+        result = this.commandlet;
+        if (result == null) {
+          result = this.supplier.get();
+          verify(result);
+          this.commandlet = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private void verify(C cmd) {
+
+    if (cmd.getClass() != this.type) {
+      throw new IllegalStateException("Commandlet " + cmd + " is registered with the wrong type " + this.type.getName());
+    }
+    if (!cmd.getName().equals(this.name)) {
+      throw new IllegalStateException("Commandlet " + cmd + " is registered with the wrong name " + this.name);
+    }
+    KeywordProperty firstKeyword = cmd.getFirstKeyword();
+    if ((firstKeyword == null) || !firstKeyword.getOptionName().equals(this.keyword) || !Objects.equals(firstKeyword.getAlias(), this.alias)) {
+      throw new IllegalStateException("Commandlet " + cmd + " is registered with the wrong keyword " + this.keyword);
+    }
+    boolean hasRequiredProperty = false;
+    for (Property<?> property : cmd.getProperties()) {
+      if (property.isRequired()) {
+        hasRequiredProperty = true;
+        break;
+      }
+    }
+    if (!hasRequiredProperty) {
+      throw new IllegalStateException("Commandlet " + cmd + " must have at least one mandatory property!");
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return this.type.getSimpleName() + "[" + this.name + "]";
+  }
+}
@@ -36,10 +36,17 @@ public interface CommandletManager {
   Commandlet getCommandletByFirstKeyword(String keyword);
 
   /**
-   * @return the {@link Collection} of all registered {@link Commandlet}s.
+   * @return the {@link Collection} of all registered {@link Commandlet}s. Iterating this {@link Collection} will create all {@link Commandlet}s what is
+   *     expensive. Consider using {@link #getCommandletDescriptors()} instead if you only need some of them.
    */
   Collection<Commandlet> getCommandlets();
 
+  /**
+   * @return the {@link Collection} of the {@link CommandletDescriptor}s of all registered {@link Commandlet}s. Allows to filter by
+   *     {@link CommandletDescriptor#getName() name} or {@link CommandletDescriptor#getType() type} without creating the {@link Commandlet}s.
+   */
+  Collection<CommandletDescriptor<?>> getCommandletDescriptors();
+
   /**
    * @param name the {@link Commandlet#getName() name} of the requested {@link Commandlet}.
    * @return the requested {@link Commandlet}.
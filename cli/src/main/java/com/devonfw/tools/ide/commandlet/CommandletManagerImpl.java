@@ -1,12 +1,15 @@
 package com.devonfw.tools.ide.commandlet;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,7 +79,7 @@ import com.devonfw.tools.ide.tool.vscode.Vscode;
 import com.devonfw.tools.ide.tool.yarn.Yarn;
 
 /**
- * Implementation of {@link CommandletManager}.
+ * Implementation of {@link CommandletManager}. All {@link Commandlet}s are registered as {@link CommandletDescriptor} and only created on demand.
  */
 public class CommandletManagerImpl implements CommandletManager {
 
@@ -84,11 +87,13 @@ public class CommandletManagerImpl implements CommandletManager {
 
   private final IdeContext context;
 
-  private final Map<Class<? extends Commandlet>, Commandlet> commandletTypeMap;
+  private final Map<Class<? extends Commandlet>, CommandletDescriptor<?>> commandletTypeMap;
 
-  private final Map<String, Commandlet> commandletNameMap;
+  private final Map<String, CommandletDescriptor<?>> commandletNameMap;
 
-  private final Map<String, Commandlet> firstKeywordMap;
+  private final Map<String, CommandletDescriptor<?>> firstKeywordMap;
+
+  private final Collection<CommandletDescriptor<?>> descriptors;
 
   private final Collection<Commandlet> commandlets;
 
@@ -101,91 +106,116 @@ public class CommandletManagerImpl implements CommandletManager {
 
     super();
     this.context = context;
-    this.commandletTypeMap = new HashMap<>();
+    this.commandletTypeMap = new LinkedHashMap<>();
     this.commandletNameMap = new HashMap<>();
     this.firstKeywordMap = new HashMap<>();
-    this.commandlets = Collections.unmodifiableCollection(this.commandletTypeMap.values());
-    add(new HelpCommandlet(context));
-    add(new EnvironmentCommandlet(context));
-    add(new CompleteCommandlet(context));
-    add(new ShellCommandlet(context));
-    add(new InstallCommandlet(context));
-    add(new VersionSetCommandlet(context));
-    add(new VersionGetCommandlet(context));
-    add(new VersionListCommandlet(context));
-    add(new EditionGetCommandlet(context));
-    add(new EditionSetCommandlet(context));
-    add(new EditionListCommandlet(context));
-    add(new VersionCommandlet(context));
-    add(new StatusCommandlet(context));
-    add(new RepositoryCommandlet(context));
-    add(new UninstallCommandlet(context));
-    add(new LnCommandlet(context));
-    add(new UpdateCommandlet(context));
-    add(new CleanupCommandlet(context));
-    add(new UpgradeSettingsCommandlet(context));
-    add(new CreateCommandlet(context));
-    add(new BuildCommandlet(context));
-    add(new ReleaseCommandlet(context));
-    add(new InstallPluginCommandlet(context));
-    add(new UninstallPluginCommandlet(context));
-    add(new UpgradeCommandlet(context));
-    add(new TruststoreCommandlet(context));
-    add(new Gh(context));
-    add(new Helm(context));
-    add(new Java(context));
-    add(new Ng(context));
-    add(new Node(context));
-    add(new Npm(context));
-    add(new Mvn(context));
-    add(new Msvc(context));
-    add(new GcLogAnalyzer(context));
-    add(new GcViewer(context));
-    add(new Gradle(context));
-    add(new Eclipse(context));
-    add(new Terraform(context));
-    add(new Oc(context));
-    add(new Quarkus(context));
-    add(new Ruby(context));
-    add(new Rust(context));
-    add(new Kotlinc(context));
-    add(new KotlincNative(context));
-    add(new KubeCtl(context));
-    add(new Tomcat(context));
-    add(new Task(context));
-    add(new Vscode(context));
-    add(new Azure(context));
-    add(new Aws(context));
-    add(new Jmc(context));
-    add(new DotNet(context));
-    add(new Inso(context));
-    add(new Intellij(context));
-    add(new Jasypt(context));
-    add(new Docker(context));
-    add(new Sonar(context));
-    add(new AndroidStudio(context));
-    add(new GraalVm(context));
-    add(new PgAdmin(context));
-    add(new LazyDocker(context));
-    add(new Python(context));
-    add(new Pycharm(context));
-    add(new Spring(context));
-    add(new Uv(context));
-    add(new Yarn(context));
-    add(new Copilot(context));
-    add(new Corepack(context));
-    add(new Pip(context));
-    add(new Go(context));
-    add(new Gui(context));
-    add(new SquirrelSql(context));
-    add(new Spyder(context));
-    add(new Nest(context));
-    add(new Cdk(context));
-    add(new Claude(context));
-    add(new Mvnd(context));
-    add(new Just(context));
-    add(new SoapUi(context));
-    add(new Ruff(context));
+    this.descriptors = Collections.unmodifiableCollection(this.commandletTypeMap.values());
+    this.commandlets = new CommandletCollection();
+    add(HelpCommandlet.class, "help", "--help", "-h", () -> new HelpCommandlet(context));
+    add(EnvironmentCommandlet.class, "env", () -> new EnvironmentCommandlet(context));
+    add(CompleteCommandlet.class, "complete", () -> new CompleteCommandlet(context));
+    add(ShellCommandlet.class, "shell", () -> new ShellCommandlet(context));
+    add(InstallCommandlet.class, "install", () -> new InstallCommandlet(context));
+    add(VersionSetCommandlet.class, "set-version", () -> new VersionSetCommandlet(context));
+    add(VersionGetCommandlet.class, "get-version", () -> new VersionGetCommandlet(context));
+    add(VersionListCommandlet.class, "list-versions", () -> new VersionListCommandlet(context));
+    add(EditionGetCommandlet.class, "get-edition", () -> new EditionGetCommandlet(context));
+    add(EditionSetCommandlet.class, "set-edition", () -> new EditionSetCommandlet(context));
+    add(EditionListCommandlet.class, "list-editions", () -> new EditionListCommandlet(context));
+    add(VersionCommandlet.class, "version", "--version", "-v", () -> new VersionCommandlet(context));
+    add(StatusCommandlet.class, "status", () -> new StatusCommandlet(context));
+    add(RepositoryCommandlet.class, "repository", () -> new RepositoryCommandlet(context));
+    add(UninstallCommandlet.class, "uninstall", () -> new UninstallCommandlet(context));
+    add(LnCommandlet.class, "ln", () -> new LnCommandlet(context));
+    add(UpdateCommandlet.class, "update", () -> new UpdateCommandlet(context));
+    add(CleanupCommandlet.class, "cleanup", () -> new CleanupCommandlet(context));
+    add(UpgradeSettingsCommandlet.class, "upgrade-settings", () -> new UpgradeSettingsCommandlet(context));
+    add(CreateCommandlet.class, "create", () -> new CreateCommandlet(context));
+    add(BuildCommandlet.class, "build", () -> new BuildCommandlet(context));
+    add(ReleaseCommandlet.class, "release", () -> new ReleaseCommandlet(context));
+    add(InstallPluginCommandlet.class, "install-plugin", () -> new InstallPluginCommandlet(context));
+    add(UninstallPluginCommandlet.class, "uninstall-plugin", () -> new UninstallPluginCommandlet(context));
+    add(UpgradeCommandlet.class, "upgrade", () -> new UpgradeCommandlet(context));
+    add(TruststoreCommandlet.class, "fix-vpn-tls-problem", () -> new TruststoreCommandlet(context));
+    add(Gh.class, "gh", () -> new Gh(context));
+    add(Helm.class, "helm", () -> new Helm(context));
+    add(Java.class, "java", () -> new Java(context));
+    add(Ng.class, "ng", () -> new Ng(context));
+    add(Node.class, "node", () -> new Node(context));
+    add(Npm.class, "npm", () -> new Npm(context));
+    add(Mvn.class, "mvn", () -> new Mvn(context));
+    add(Msvc.class, "msvc", () -> new Msvc(context));
+    add(GcLogAnalyzer.class, "gcloganalyzer", () -> new GcLogAnalyzer(context));
+    add(GcViewer.class, "gcviewer", () -> new GcViewer(context));
+    add(Gradle.class, "gradle", () -> new Gradle(context));
+    add(Eclipse.class, "eclipse", () -> new Eclipse(context));
+    add(Terraform.class, "terraform", () -> new Terraform(context));
+    add(Oc.class, "oc", () -> new Oc(context));
+    add(Quarkus.class, "quarkus", () -> new Quarkus(context));
+    add(Ruby.class, "ruby", () -> new Ruby(context));
+    add(Rust.class, "rust", () -> new Rust(context));
+    add(Kotlinc.class, "kotlinc", () -> new Kotlinc(context));
+    add(KotlincNative.class, "kotlinc-native", () -> new KotlincNative(context));
+    add(KubeCtl.class, "kubectl", () -> new KubeCtl(context));
+    add(Tomcat.class, "tomcat", () -> new Tomcat(context));
+    add(Task.class, "task", () -> new Task(context));
+    add(Vscode.class, "vscode", () -> new Vscode(context));
+    add(Azure.class, "az", () -> new Azure(context));
+    add(Aws.class, "aws", () -> new Aws(context));
+    add(Jmc.class, "jmc", () -> new Jmc(context));
+    add(DotNet.class, "dotnet", () -> new DotNet(context));
+    add(Inso.class, "inso", () -> new Inso(context));
+    add(Intellij.class, "intellij", () -> new Intellij(context));
+    add(Jasypt.class, "jasypt", () -> new Jasypt(context));
+    add(Docker.class, "docker", () -> new Docker(context));
+    add(Sonar.class, "sonar", () -> new Sonar(context));
+    add(AndroidStudio.class, "android-studio", () -> new AndroidStudio(context));
+    add(GraalVm.class, "graalvm", () -> new GraalVm(context));
+    add(PgAdmin.class, "pgadmin", () -> new PgAdmin(context));
+    add(LazyDocker.class, "lazydocker", () -> new LazyDocker(context));
+    add(Python.class, "python", () -> new Python(context));
+    add(Pycharm.class, "pycharm", () -> new Pycharm(context));
+    add(Spring.class, "spring", () -> new Spring(context));
+    add(Uv.class, "uv", () -> new Uv(context));
+    add(Yarn.class, "yarn", () -> new Yarn(context));
+    add(Copilot.class, "copilot", () -> new Copilot(context));
+    add(Corepack.class, "corepack", () -> new Corepack(context));
+    add(Pip.class, "pip", () -> new Pip(context));
+    add(Go.class, "go", () -> new Go(context));
+    add(Gui.class, "gui", () -> new Gui(context));
+    add(SquirrelSql.class, "squirrel-sql", () -> new SquirrelSql(context));
+    add(Spyder.class, "spyder", () -> new Spyder(context));
+    add(Nest.class, "nest", () -> new Nest(context));
+    add(Cdk.class, "cdk", () -> new Cdk(context));
+    add(Claude.class, "claude", () -> new Claude(context));
+    add(Mvnd.class, "mvnd", () -> new Mvnd(context));
+    add(Just.class, "just", () -> new Just(context));
+    add(SoapUi.class, "soapui", () -> new SoapUi(context));
+    add(Ruff.class, "ruff", () -> new Ruff(context));
+  }
+
+  /**
+   * @param <C> type of the {@link Commandlet}.
+   * @param type the {@link Class} reflecting the {@link Commandlet} to register.
+   * @param name the {@link Commandlet#getName() name} of the {@link Commandlet} that is also its {@link Commandlet#getFirstKeyword() first keyword}.
+   * @param supplier the {@link Supplier} to create the {@link Commandlet} on demand.
+   */
+  protected <C extends Commandlet> void add(Class<C> type, String name, Supplier<C> supplier) {
+
+    add(type, name, name, null, supplier);
+  }
+
+  /**
+   * @param <C> type of the {@link Commandlet}.
+   * @param type the {@link Class} reflecting the {@link Commandlet} to register.
+   * @param name the {@link Commandlet#getName() name} of the {@link Commandlet}.
+   * @param keyword the {@link KeywordProperty#getOptionName() option name} of the {@link Commandlet#getFirstKeyword() first keyword}.
+   * @param alias the {@link KeywordProperty#getAlias() alias} of the {@link Commandlet#getFirstKeyword() first keyword} or {@code null} for none.
+   * @param supplier the {@link Supplier} to create the {@link Commandlet} on demand.
+   */
+  protected <C extends Commandlet> void add(Class<C> type, String name, String keyword, String alias, Supplier<C> supplier) {
+
+    add(new CommandletDescriptor<>(type, name, keyword, alias, supplier));
   }
 
   /**
@@ -193,44 +223,26 @@ public class CommandletManagerImpl implements CommandletManager {
    */
   protected void add(Commandlet commandlet) {
 
-    boolean hasRequiredProperty = false;
-    List<Property<?>> properties = commandlet.getProperties();
-    int propertyCount = properties.size();
-    KeywordProperty keyword = commandlet.getFirstKeyword();
-    if (keyword != null) {
-      String name = keyword.getName();
-      registerKeyword(name, commandlet);
-      String optionName = keyword.getOptionName();
-      if (!optionName.equals(name)) {
-        registerKeyword(optionName, commandlet);
-      }
-      String alias = keyword.getAlias();
-      if (alias != null) {
-        registerKeyword(alias, commandlet);
-      }
-    }
-    for (int i = 0; i < propertyCount; i++) {
-      Property<?> property = properties.get(i);
-      if (property.isRequired()) {
-        hasRequiredProperty = true;
-        break;
-      }
-    }
-    if (!hasRequiredProperty) {
-      throw new IllegalStateException("Commandlet " + commandlet + " must have at least one mandatory property!");
+    add(new CommandletDescriptor<>(commandlet));
+  }
+
+  private void add(CommandletDescriptor<?> descriptor) {
+
+    for (String keyword : descriptor.getKeywords()) {
+      registerKeyword(keyword, descriptor);
     }
-    this.commandletTypeMap.put(commandlet.getClass(), commandlet);
-    Commandlet duplicate = this.commandletNameMap.put(commandlet.getName(), commandlet);
+    this.commandletTypeMap.put(descriptor.getType(), descriptor);
+    CommandletDescriptor<?> duplicate = this.commandletNameMap.put(descriptor.getName(), descriptor);
     if (duplicate != null) {
-      throw new IllegalStateException("Commandlet " + commandlet + " has the same name as " + duplicate);
+      throw new IllegalStateException("Commandlet " + descriptor + " has the same name as " + duplicate);
     }
   }
 
-  private void registerKeyword(String keyword, Commandlet commandlet) {
+  private void registerKeyword(String keyword, CommandletDescriptor<?> descriptor) {
 
-    Commandlet duplicate = this.firstKeywordMap.putIfAbsent(keyword, commandlet);
+    CommandletDescriptor<?> duplicate = this.firstKeywordMap.putIfAbsent(keyword, descriptor);
     if (duplicate != null) {
-      LOG.debug("Duplicate keyword {} already used by {} so it cannot be associated also with {}", keyword, duplicate, commandlet);
+      LOG.debug("Duplicate keyword {} already used by {} so it cannot be associated also with {}", keyword, duplicate, descriptor);
     }
   }
 
@@ -240,26 +252,40 @@ public class CommandletManagerImpl implements CommandletManager {
     return this.commandlets;
   }
 
+  @Override
+  public Collection<CommandletDescriptor<?>> getCommandletDescriptors() {
+
+    return this.descriptors;
+  }
+
   @Override
   public <C extends Commandlet> C getCommandlet(Class<C> commandletType) {
 
-    Commandlet commandlet = this.commandletTypeMap.get(commandletType);
-    if (commandlet == null) {
+    CommandletDescriptor<?> descriptor = this.commandletTypeMap.get(commandletType);
+    if (descriptor == null) {
       throw new IllegalStateException("Commandlet for type " + commandletType + " is not registered!");
     }
-    return commandletType.cast(commandlet);
+    return commandletType.cast(descriptor.getCommandlet());
   }
 
   @Override
   public Commandlet getCommandlet(String name) {
 
-    return this.commandletNameMap.get(name);
+    return getCommandlet(this.commandletNameMap.get(name));
   }
 
   @Override
   public Commandlet getCommandletByFirstKeyword(String keyword) {
 
-    return this.firstKeywordMap.get(keyword);
+    return getCommandlet(this.firstKeywordMap.get(keyword));
+  }
+
+  private static Commandlet getCommandlet(CommandletDescriptor<?> descriptor) {
+
+    if (descriptor == null) {
+      return null;
+    }
+    return descriptor.getCommandlet();
   }
 
   @Override
@@ -281,7 +307,7 @@ public class CommandletManagerImpl implements CommandletManager {
 
     private final Commandlet firstCandidate;
 
-    private final Iterator<Commandlet> commandletIterator;
+    private final Iterator<CommandletDescriptor<?>> descriptorIterator;
 
     private final CliArguments arguments;
 
@@ -292,7 +318,7 @@ public class CommandletManagerImpl implements CommandletManager {
     private CommandletFinder(Commandlet firstCandidate, CliArguments arguments, CompletionCandidateCollector collector) {
 
       this.firstCandidate = firstCandidate;
-      this.commandletIterator = getCommandlets().iterator();
+      this.descriptorIterator = getCommandletDescriptors().iterator();
       this.arguments = arguments;
       this.collector = collector;
       if (isSuitable(firstCandidate)) {
@@ -326,11 +352,15 @@ public class CommandletManagerImpl implements CommandletManager {
 
     private Commandlet findNext() {
 
-      while (this.commandletIterator.hasNext()) {
-        Commandlet cmd = this.commandletIterator.next();
+      while (this.descriptorIterator.hasNext()) {
+        CommandletDescriptor<?> descriptor = this.descriptorIterator.next();
+        if (!descriptor.isCandidate(this.arguments.current())) {
+          continue; // avoid to create commandlets whose keyword cannot match
+        }
+        Commandlet cmd = descriptor.getCommandlet();
         if ((cmd != this.firstCandidate) && isSuitable(cmd)) {
           List<Property<?>> properties = cmd.getProperties();
-          // validation should already be done in add method and could be removed here...
+          // validation should already be done in CommandletDescriptor and could be removed here...
           if (properties.isEmpty()) {
             assert false : cmd.getClass().getSimpleName() + " has no properties!";
           } else {
@@ -349,4 +379,36 @@ public class CommandletManagerImpl implements CommandletManager {
       return null;
     }
   }
+
+  /**
+   * Read-only view on all registered {@link Commandlet}s that creates them on demand while iterating.
+   */
+  private final class CommandletCollection extends AbstractCollection<Commandlet> {
+
+    @Override
+    public Iterator<Commandlet> iterator() {
+
+      Iterator<CommandletDescriptor<?>> iterator = descriptors.iterator();
+      return new Iterator<>() {
+
+        @Override
+        public boolean hasNext() {
+
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Commandlet next() {
+
+          return iterator.next().getCommandlet();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+
+      return descriptors.size();
+    }
+  }
 }
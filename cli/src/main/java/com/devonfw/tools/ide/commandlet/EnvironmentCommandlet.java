@@ -144,8 +144,8 @@ public final class EnvironmentCommandlet extends Commandlet {
    */
   private void printBashCompletions() {
 
-    for (Commandlet commandlet : this.context.getCommandletManager().getCommandlets()) {
-      if (commandlet instanceof LocalToolCommandlet tool) {
+    for (CommandletDescriptor<?> descriptor : this.context.getCommandletManager().getCommandletDescriptors()) {
+      if (descriptor.isType(LocalToolCommandlet.class) && (descriptor.getCommandlet() instanceof LocalToolCommandlet tool)) {
         try {
           if (tool.isInstalled()) {
             String bashCompletion = tool.getBashCompletion();
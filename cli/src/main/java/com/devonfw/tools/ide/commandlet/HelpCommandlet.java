@@ -51,6 +51,12 @@ public final class HelpCommandlet extends Commandlet {
     return false;
   }
 
+  @Override
+  public boolean isNetworkUsed() {
+
+    return false;
+  }
+
   @Override
   public boolean isWriteLogFile() {
 
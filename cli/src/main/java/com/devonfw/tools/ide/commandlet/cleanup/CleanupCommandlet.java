@@ -2,14 +2,20 @@ package com.devonfw.tools.ide.commandlet.cleanup;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.BackupStore;
+import com.devonfw.tools.ide.io.BackupStore.BackupEntry;
+import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.property.FlagProperty;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.tool.mvn.MvnRepository;
 import com.devonfw.tools.ide.tool.repository.ToolRepository;
@@ -21,6 +27,9 @@ public class CleanupCommandlet extends Commandlet {
 
   private static final Logger LOG = LoggerFactory.getLogger(CleanupCommandlet.class);
 
+  /** {@link FlagProperty} to only report the unused software and the disk space that would be freed without deleting anything. */
+  public final FlagProperty dryRun;
+
   /**
    * Constructor.
    *
@@ -30,6 +39,7 @@ public class CleanupCommandlet extends Commandlet {
 
     super(context);
     addKeyword(getName());
+    this.dryRun = add(new FlagProperty("--dry-run"));
   }
 
   @Override
@@ -55,10 +65,24 @@ public class CleanupCommandlet extends Commandlet {
     step.run(() -> discoverUnusedSoftware(installedSoftware), true);
 
     logSoftwareToBeDeleted(installedSoftware.getTools());
+    BackupStore backupStore = BackupStore.of(this.context);
+    List<BackupEntry> backups = backupStore.findPrunable();
+    logBackupsToBePruned(backups);
 
-    if (hasSoftwareToDelete(installedSoftware.getTools())) {
-      this.context.askToContinue("Do you want to continue?");
-      deleteUnusedSoftware(installedSoftware.getTools());
+    if (this.dryRun.isTrue()) {
+      LOG.info("Dry run: nothing has been deleted.");
+    } else {
+      if (hasSoftwareToDelete(installedSoftware.getTools())) {
+        this.context.askToContinue("Do you want to continue?");
+        deleteUnusedSoftware(installedSoftware.getTools());
+      }
+      if (!backups.isEmpty()) {
+        this.context.askToContinue("Do you want to prune these backups?");
+        this.context.newStep("Prune backups").run(() -> {
+          backupStore.prune(backups);
+          LOG.info("Pruned {} backup(s).", backups.size());
+        });
+      }
     }
 
     LOG.debug("Finished cleanup commandlet");
@@ -73,19 +97,21 @@ public class CleanupCommandlet extends Commandlet {
 
     discoverInstalledSoftware(installedSoftware);
 
+    // the index of installed software is complete and only read from here, so the projects can be scanned concurrently
     List<Path> ideasyProjects = this.context.findProjects();
-    for (Path ideasyProject : ideasyProjects) {
+    ideasyProjects.parallelStream().forEach(ideasyProject -> {
       String projectName = ideasyProject.getFileName().toString();
       Path ideasyProjectSoftware = ideasyProject.resolve(IdeContext.FOLDER_SOFTWARE);
       discoverUsedSoftware(installedSoftware, ideasyProjectSoftware, projectName, 1);
       discoverUsedSoftware(installedSoftware, ideasyProjectSoftware.resolve(IdeContext.FOLDER_EXTRA), projectName);
-    }
+    });
 
     markUnusedSoftwareForDeletion(installedSoftware.getTools());
+    computeReclaimableSize(installedSoftware.getTools());
   }
 
   /**
-   * Discovers all installed tools in the default, Maven, and custom software repositories.
+   * Discovers all installed tools in the default, Maven, and custom software repositories. The tool folders of all repositories are scanned in parallel.
    *
    * @param installedSoftware the data structure to populate with installed software.
    */
@@ -93,68 +119,72 @@ public class CleanupCommandlet extends Commandlet {
 
     Path softwareRepositoryPath = this.context.getSoftwareRepositoryPath();
 
-    discoverInstalledSoftwareRepository(installedSoftware, softwareRepositoryPath.resolve(ToolRepository.ID_DEFAULT));
-    discoverInstalledSoftwareRepository(installedSoftware, softwareRepositoryPath.resolve(MvnRepository.ID));
+    List<Path> toolFolders = new ArrayList<>();
+    collectToolFolders(toolFolders, softwareRepositoryPath.resolve(ToolRepository.ID_DEFAULT));
+    collectToolFolders(toolFolders, softwareRepositoryPath.resolve(MvnRepository.ID));
 
     if (this.context.getSettingsPath() != null) {
-      discoverInstalledSoftwareRepository(installedSoftware, softwareRepositoryPath.resolve(this.context.getCustomToolRepository().getId()));
+      collectToolFolders(toolFolders, softwareRepositoryPath.resolve(this.context.getCustomToolRepository().getId()));
+    }
+
+    List<InstalledSoftwareTool> tools = toolFolders.parallelStream().map(this::discoverInstalledTool).toList();
+    for (InstalledSoftwareTool tool : tools) {
+      installedSoftware.addTool(tool);
     }
   }
 
   /**
-   * Discovers all installed tools in one software repository. Installed editions are then recursively discovered.
+   * Collects all tool folders of one software repository.
    *
-   * @param installedSoftware the data structure to populate with installed software.
+   * @param toolFolders the {@link List} where to add the tool folders.
    * @param repositoryFolder the software repository folder to scan.
    */
-  private void discoverInstalledSoftwareRepository(InstalledSoftware installedSoftware, Path repositoryFolder) {
+  private void collectToolFolders(List<Path> toolFolders, Path repositoryFolder) {
 
     if (!Files.isDirectory(repositoryFolder)) {
       return;
     }
 
-    List<Path> toolFolders = this.context.getFileAccess().listChildren(repositoryFolder, Files::isDirectory);
-    for (Path toolFolder : toolFolders) {
-      Path toolPath = this.context.getFileAccess().toRealPath(toolFolder);
-      InstalledSoftwareTool tool = new InstalledSoftwareTool(toolFolder.getFileName().toString(), toolPath);
-      installedSoftware.addTool(tool);
-      discoverInstalledEditions(installedSoftware, toolFolder, tool);
-    }
+    FileAccess fileAccess = this.context.getFileAccess();
+    Path realRepositoryFolder = fileAccess.toRealPath(repositoryFolder);
+    toolFolders.addAll(fileAccess.listChildren(realRepositoryFolder, Files::isDirectory));
   }
 
   /**
-   * Discovers all installed editions of the given tool.
+   * Discovers the given installed tool with all its installed editions and versions.
    *
-   * @param installedSoftware the installed software data structure.
    * @param toolFolder the folder containing the editions of the tool.
-   * @param tool the tool to populate with discovered editions.
+   * @return the discovered {@link InstalledSoftwareTool}.
    */
-  private void discoverInstalledEditions(InstalledSoftware installedSoftware, Path toolFolder, InstalledSoftwareTool tool) {
+  private InstalledSoftwareTool discoverInstalledTool(Path toolFolder) {
 
-    List<Path> editionFolders = this.context.getFileAccess().listChildren(toolFolder, Files::isDirectory);
+    FileAccess fileAccess = this.context.getFileAccess();
+    InstalledSoftwareTool tool = new InstalledSoftwareTool(toolFolder.getFileName().toString(), toRealChildPath(toolFolder));
+    List<Path> editionFolders = fileAccess.listChildren(tool.getPath(), Files::isDirectory);
     for (Path editionFolder : editionFolders) {
-      Path editionPath = this.context.getFileAccess().toRealPath(editionFolder);
-      InstalledSoftwareEdition edition = new InstalledSoftwareEdition(editionFolder.getFileName().toString(), editionPath);
-      installedSoftware.addEdition(tool, edition);
-      discoverInstalledVersions(installedSoftware, editionFolder, edition);
+      InstalledSoftwareEdition edition = new InstalledSoftwareEdition(editionFolder.getFileName().toString(), toRealChildPath(editionFolder));
+      tool.addEdition(edition);
+      List<Path> versionFolders = fileAccess.listChildren(edition.getPath(), Files::isDirectory);
+      for (Path versionFolder : versionFolders) {
+        edition.addVersion(new InstalledSoftwareVersion(versionFolder.getFileName().toString(), toRealChildPath(versionFolder)));
+      }
     }
+    return tool;
   }
 
   /**
-   * Discovers all installed versions of the given edition.
+   * Avoids the expensive resolution of every path segment via {@link FileAccess#toRealPath(Path)} for the common case of a regular folder.
    *
-   * @param installedSoftware the installed software data structure.
-   * @param editionFolder the folder containing the versions of the edition.
-   * @param edition the edition to populate with discovered versions.
+   * @param child the child {@link Path} of a folder that has already been resolved to its real path.
+   * @return the real {@link Path} of the given child.
    */
-  private void discoverInstalledVersions(InstalledSoftware installedSoftware, Path editionFolder, InstalledSoftwareEdition edition) {
+  private Path toRealChildPath(Path child) {
 
-    List<Path> versionFolders = this.context.getFileAccess().listChildren(editionFolder, Files::isDirectory);
-    for (Path versionFolder : versionFolders) {
-      Path versionPath = this.context.getFileAccess().toRealPath(versionFolder);
-      InstalledSoftwareVersion version = new InstalledSoftwareVersion(versionFolder.getFileName().toString(), versionPath);
-      installedSoftware.addVersion(edition, version);
+    FileAccess fileAccess = this.context.getFileAccess();
+    if (Files.isSymbolicLink(child) || fileAccess.isJunction(child)) {
+      return fileAccess.toRealPath(child);
     }
+    return child;
   }
 
   /**
@@ -228,6 +258,23 @@ public class CleanupCommandlet extends Commandlet {
     }
   }
 
+  /**
+   * Computes the disk space of all software versions marked for deletion concurrently.
+   *
+   * @param installedSoftwareTools the list of installed tools containing the versions to measure.
+   */
+  private void computeReclaimableSize(List<InstalledSoftwareTool> installedSoftwareTools) {
+
+    FileAccess fileAccess = this.context.getFileAccess();
+    installedSoftwareTools.stream()
+        .flatMap(tool -> tool.getEditions().stream())
+        .flatMap(edition -> edition.getVersions().stream())
+        .filter(InstalledSoftwareVersion::isDelete)
+        .toList()
+        .parallelStream()
+        .forEach(version -> version.setSize(fileAccess.getSize(version.getPath())));
+  }
+
   /**
    * Checks whether at least one installed software version is marked for deletion.
    *
@@ -253,9 +300,11 @@ public class CleanupCommandlet extends Commandlet {
     int totalAffectedTools = 0;
     int totalAffectedEditions = 0;
     int totalVersionsDeleted = 0;
+    long totalSize = 0;
 
     for (InstalledSoftwareTool tool : installedSoftwareTools) {
       String logOutputEdition = "";
+      long toolSize = 0;
 
       for (InstalledSoftwareEdition edition : tool.getEditions()) {
         String logOutputVersion = "";
@@ -263,7 +312,8 @@ public class CleanupCommandlet extends Commandlet {
 
         for (InstalledSoftwareVersion version : edition.getVersions()) {
           if (version.isDelete()) {
-            logOutputVersion += "\t\t - " + version.getName() + "\n";
+            logOutputVersion += "\t\t - " + version.getName() + " (" + formatSize(version.getSize()) + ")\n";
+            toolSize += Math.max(version.getSize(), 0);
             versionsDeleted++;
             totalVersionsDeleted++;
           }
@@ -279,8 +329,9 @@ public class CleanupCommandlet extends Commandlet {
       }
 
       if (!logOutputEdition.isBlank()) {
-        logOutput += " - " + tool.getName() + "\n" + logOutputEdition;
+        logOutput += " - " + tool.getName() + " (" + formatSize(toolSize) + ")\n" + logOutputEdition;
         totalAffectedTools++;
+        totalSize += toolSize;
       }
     }
 
@@ -288,9 +339,30 @@ public class CleanupCommandlet extends Commandlet {
       LOG.info("No installed tools will be deleted. All installed software is used by at least one project.");
     } else {
       LOG.info("The following installed tool versions will be deleted: \n" + logOutput);
-      LOG.info("Summary: {} installed tool versions across {} affected editions of {} affected tools will be deleted.", totalVersionsDeleted,
-          totalAffectedEditions, totalAffectedTools);
+      LOG.info("Summary: {} installed tool versions across {} affected editions of {} affected tools will be deleted freeing {}.", totalVersionsDeleted,
+          totalAffectedEditions, totalAffectedTools, formatSize(totalSize));
+    }
+  }
+
+  /**
+   * @param size the size in bytes.
+   * @return the given size formatted for the end user (e.g. "1.5 GiB").
+   */
+  static String formatSize(long size) {
+
+    if (size < 0) {
+      return "unknown size";
+    } else if (size < 1024) {
+      return size + " B";
     }
+    String[] units = { "KiB", "MiB", "GiB", "TiB" };
+    double value = size;
+    int unitIndex = -1;
+    do {
+      value = value / 1024;
+      unitIndex++;
+    } while ((value >= 1024) && (unitIndex < units.length - 1));
+    return String.format(Locale.ROOT, "%.1f %s", value, units[unitIndex]);
   }
 
   /**
@@ -330,6 +402,27 @@ public class CleanupCommandlet extends Commandlet {
     }
   }
 
+  /**
+   * Logs the backups of the current project (or of {@code IDE_ROOT/_ide} if not inside a project) exceeding the configured budget.
+   *
+   * @param backups the {@link BackupEntry backups} to prune.
+   */
+  private void logBackupsToBePruned(List<BackupEntry> backups) {
+
+    if (backups.isEmpty()) {
+      LOG.info("No backups will be pruned.");
+      return;
+    }
+    String logOutput = "";
+    long totalSize = 0;
+    for (BackupEntry backup : backups) {
+      logOutput += " - " + backup.path() + " (" + formatSize(backup.size()) + ")\n";
+      totalSize += backup.size();
+    }
+    LOG.info("The following backups exceed the configured budget and will be pruned: \n" + logOutput);
+    LOG.info("Summary: {} backup(s) with {} will be pruned.", backups.size(), formatSize(totalSize));
+  }
+
   /**
    * Checks whether the given folder exists and has no remaining children.
    *
@@ -27,40 +27,23 @@ public class InstalledSoftware {
   }
 
   /**
-   * Adds an installed tool.
+   * Adds an installed tool and indexes the installation paths of all versions it already contains.
    *
    * @param tool the tool to add.
    */
   public void addTool(InstalledSoftwareTool tool) {
 
     this.tools.add(tool);
+    for (InstalledSoftwareEdition edition : tool.getEditions()) {
+      for (InstalledSoftwareVersion version : edition.getVersions()) {
+        this.versionsByPath.put(version.getPath(), version);
+      }
+    }
   }
 
   /**
-   * Adds an edition to the given tool.
-   *
-   * @param tool the owning tool.
-   * @param edition the edition to add.
-   */
-  public void addEdition(InstalledSoftwareTool tool, InstalledSoftwareEdition edition) {
-
-    tool.addEdition(edition);
-  }
-
-  /**
-   * Adds a version to the given edition and indexes its installation path.
-   *
-   * @param edition the owning edition.
-   * @param version the version to add.
-   */
-  public void addVersion(InstalledSoftwareEdition edition, InstalledSoftwareVersion version) {
-
-    edition.addVersion(version);
-    this.versionsByPath.put(version.getPath(), version);
-  }
-
-  /**
-   * Finds the installed version containing the given path.
+   * Finds the installed version containing the given path. This method is only reading and may therefore be called concurrently once all tools have been
+   * added.
    *
    * @param path the referenced installation path.
    * @return the matching installed version or {@code null} if no version was found.
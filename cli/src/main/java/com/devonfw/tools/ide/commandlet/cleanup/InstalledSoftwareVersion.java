@@ -1,8 +1,8 @@
 package com.devonfw.tools.ide.commandlet.cleanup;
 
 import java.nio.file.Path;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a version of an IDE tool edition in the global software folder as discovered by the {@code cleanup} commandlet.
@@ -18,6 +18,9 @@ public class InstalledSoftwareVersion extends AbstractInstalledSoftwareItem {
   /** A flag indicating whether the version is marked for deletion. */
   private boolean delete;
 
+  /** The size of this version in bytes or {@code -1} if not yet computed. */
+  private long size;
+
   /**
    * Constructor.
    *
@@ -27,8 +30,9 @@ public class InstalledSoftwareVersion extends AbstractInstalledSoftwareItem {
   public InstalledSoftwareVersion(String name, Path path) {
 
     super(name, path);
-    this.usedBy = new HashSet<>();
+    this.usedBy = ConcurrentHashMap.newKeySet();
     this.delete = false;
+    this.size = -1;
   }
 
   /**
@@ -67,6 +71,22 @@ public class InstalledSoftwareVersion extends AbstractInstalledSoftwareItem {
     this.delete = delete;
   }
 
+  /**
+   * @return the size of this version in bytes or {@code -1} if not yet computed.
+   */
+  public long getSize() {
+
+    return this.size;
+  }
+
+  /**
+   * @param size the size of this version in bytes.
+   */
+  public void setSize(long size) {
+
+    this.size = size;
+  }
+
   /**
    * @return {@code true} if no project currently uses this version.
    */
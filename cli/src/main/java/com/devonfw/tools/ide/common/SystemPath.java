@@ -12,6 +12,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -20,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.os.SystemInfoImpl;
 import com.devonfw.tools.ide.os.WindowsPathSyntax;
 import com.devonfw.tools.ide.variable.IdeVariables;
@@ -50,6 +52,8 @@ public class SystemPath {
 
   private final IdeContext context;
 
+  private final Map<String, Path> binaryCache;
+
   private static final List<String> EXTENSION_PRIORITY = List.of(".exe", ".cmd", ".bat", ".msi", ".ps1", "");
 
   /**
@@ -177,6 +181,7 @@ public class SystemPath {
     this.extraPathEntries = extraPathEntries;
     this.tool2pathMap = tool2PathMap;
     this.paths = paths;
+    this.binaryCache = new ConcurrentHashMap<>();
   }
 
   private void collectToolPath(Path softwarePath) {
@@ -184,16 +189,17 @@ public class SystemPath {
     if (softwarePath == null) {
       return;
     }
-    if (Files.isDirectory(softwarePath)) {
+    FileAccess fileAccess = this.context.getFileAccess();
+    if (fileAccess.isDirectory(softwarePath)) {
       try (Stream<Path> children = Files.list(softwarePath)) {
         Iterator<Path> iterator = children.iterator();
         while (iterator.hasNext()) {
           Path child = iterator.next();
           String tool = child.getFileName().toString();
-          if (!"extra".equals(tool) && Files.isDirectory(child)) {
+          if (!"extra".equals(tool) && fileAccess.isDirectory(child)) {
             Path toolPath = child;
             Path bin = child.resolve("bin");
-            if (Files.isDirectory(bin)) {
+            if (fileAccess.isDirectory(bin)) {
               toolPath = bin;
             }
             this.tool2pathMap.put(tool, toolPath);
@@ -232,7 +238,7 @@ public class SystemPath {
 
       Path fileToExecute = path.resolve(tool + extension);
 
-      if (Files.exists(fileToExecute, LinkOption.NOFOLLOW_LINKS)) {
+      if (exists(fileToExecute)) {
         return fileToExecute;
       }
     }
@@ -240,6 +246,15 @@ public class SystemPath {
     return null;
   }
 
+  /**
+   * @param file the potential binary {@link Path} to probe.
+   * @return {@code true} if the given {@link Path} exists, {@code false} otherwise.
+   */
+  boolean exists(Path file) {
+
+    return Files.exists(file, LinkOption.NOFOLLOW_LINKS);
+  }
+
   /**
    * @param binaryName the name of the tool.
    * @return {@code true} if the given {@code tool} is a binary that can be found on the PATH, {@code false} otherwise.
@@ -260,12 +275,28 @@ public class SystemPath {
   }
 
   /**
+   * Finds the binary for the given {@code toolPath}. If a simple name (e.g. "git") is given, the result is cached so repeated lookups (e.g. when spawning the
+   * same process many times) do not probe all PATH entries again. The cache is cleared when the PATH is {@link #setPath(String, Path) changed}.
+   *
    * @param toolPath the {@link Path} to the tool installation.
    * @return the {@link Path} to the binary executable of the tool. E.g. if "mvn" is given then ".../software/mvn/bin/mvn" could be returned. If the executable
    *     was not found on PATH, the same {@link Path} instance is returned that was given as argument.
    */
   public Path findBinary(Path toolPath) {
-    return findBinary(toolPath, p -> true);
+
+    if (toolPath.getParent() != null) {
+      return findBinary(toolPath, p -> true);
+    }
+    String binaryName = toolPath.getFileName().toString();
+    Path binaryPath = this.binaryCache.get(binaryName);
+    if (binaryPath == null) {
+      binaryPath = findBinary(toolPath, p -> true);
+      if (binaryPath != toolPath) {
+        // only cache binaries that have been found so a binary installed later is still found without invalidation
+        this.binaryCache.put(binaryName, binaryPath);
+      }
+    }
+    return binaryPath;
   }
 
   /**
@@ -328,6 +359,7 @@ public class SystemPath {
   public void setPath(String tool, Path path) {
 
     this.tool2pathMap.put(tool, path);
+    this.binaryCache.clear();
   }
 
   @Override
@@ -0,0 +1,318 @@
+package com.devonfw.tools.ide.completion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.git.GitContext;
+import com.devonfw.tools.ide.os.SystemInfo;
+import com.devonfw.tools.ide.url.model.UrlMetadata;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Precomputed index for auto-completion with the {@link #getSortedEditions(String) editions} and {@link #getSortedVersions(String, String) versions} of all
+ * tools from the {@link IdeContext#getUrlsPath() ide-urls}. Computing the versions from {@link UrlMetadata} requires to walk the entire folder structure of a
+ * tool edition and to sort the versions what is too slow to be done on every TAB press. Therefore, the index is {@link #update() written} when ide-urls are
+ * updated (via {@code ide update}) and completion can be answered by reading a single small file. The index is keyed by the commit id of ide-urls and is
+ * considered outdated if ide-urls have been pulled to a different commit after it has been written or if it was written for a different OS or architecture.
+ * If ide-urls is not a git repository (e.g. a local copy), the index is considered outdated if it is older than the ide-urls folder or than
+ * {@link #INDEX_RETENTION_WITHOUT_COMMIT_ID}. In such case completion falls back to {@link UrlMetadata}.
+ */
+public class CompletionIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompletionIndex.class);
+
+  /** The name of the index file inside {@link IdeContext#getIdePath() IDE_ROOT/_ide}. */
+  public static final String FILE_COMPLETION_INDEX = "completion.index";
+
+  /** The retention of the index if ide-urls is not a git repository and there is no commit id to compare with. */
+  static final Duration INDEX_RETENTION_WITHOUT_COMMIT_ID = Duration.ofDays(1);
+
+  private static final String HEADER_PREFIX = "@";
+
+  private static final String REF_PREFIX = "ref: ";
+
+  private static final String FILE_PACKED_REFS = "packed-refs";
+
+  private final IdeContext context;
+
+  private Map<String, List<String>> entries;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public CompletionIndex(IdeContext context) {
+
+    super();
+    this.context = context;
+  }
+
+  /**
+   * @return the {@link Path} to the index file or {@code null} if no {@link IdeContext#getIdePath() IDE_ROOT/_ide} is available.
+   */
+  public Path getIndexFile() {
+
+    Path idePath = this.context.getIdePath();
+    if (idePath == null) {
+      return null;
+    }
+    return idePath.resolve(FILE_COMPLETION_INDEX);
+  }
+
+  /**
+   * @param tool the name of the tool.
+   * @return the sorted {@link List} of the editions of the given tool or {@code null} if not available from the index.
+   */
+  public List<String> getSortedEditions(String tool) {
+
+    return getEntries().get(tool);
+  }
+
+  /**
+   * @param tool the name of the tool.
+   * @param edition the edition of the tool.
+   * @return the {@link List} of the versions of the given tool edition sorted in descending order (latest version first) or {@code null} if not available
+   *     from the index.
+   */
+  public List<String> getSortedVersions(String tool, String edition) {
+
+    return getEntries().get(tool + "/" + edition);
+  }
+
+  private Map<String, List<String>> getEntries() {
+
+    if (this.entries == null) {
+      this.entries = load();
+    }
+    return this.entries;
+  }
+
+  private Map<String, List<String>> load() {
+
+    Path indexFile = getIndexFile();
+    if ((indexFile == null) || !Files.exists(indexFile)) {
+      return Map.of();
+    }
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(indexFile);
+    } catch (IOException e) {
+      LOG.debug("Failed to read completion index {}", indexFile, e);
+      return Map.of();
+    }
+    if (lines.isEmpty() || !isUpToDate(lines.getFirst(), indexFile)) {
+      LOG.debug("Ignoring outdated completion index {}", indexFile);
+      return Map.of();
+    }
+    Map<String, List<String>> map = new HashMap<>(lines.size());
+    for (int i = 1; i < lines.size(); i++) {
+      String line = lines.get(i);
+      int equalsIndex = line.indexOf('=');
+      if (equalsIndex > 0) {
+        String values = line.substring(equalsIndex + 1);
+        List<String> list;
+        if (values.isEmpty()) {
+          list = List.of();
+        } else {
+          list = Arrays.asList(values.split(","));
+        }
+        map.put(line.substring(0, equalsIndex), Collections.unmodifiableList(list));
+      }
+    }
+    return map;
+  }
+
+  /**
+   * @param header the first line of the index file with the OS, architecture and the commit id of ide-urls it was written for.
+   * @param indexFile the {@link Path} to the index file.
+   * @return {@code true} if the index is up-to-date, {@code false} otherwise.
+   */
+  private boolean isUpToDate(String header, Path indexFile) {
+
+    String system = header;
+    String indexedCommitId = null;
+    int spaceIndex = header.indexOf(' ');
+    if (spaceIndex > 0) {
+      system = header.substring(0, spaceIndex);
+      indexedCommitId = header.substring(spaceIndex + 1);
+    }
+    if (!system.equals(getSystemHeader())) {
+      LOG.debug("Completion index was created for a different system.");
+      return false;
+    }
+    try {
+      String commitId = readUrlsCommitId();
+      if (commitId == null) {
+        // without git repository (e.g. a local copy of ide-urls) there is no commit id to compare with
+        return isUpToDateByModificationTime(indexFile);
+      }
+      return commitId.equals(indexedCommitId);
+    } catch (IOException e) {
+      LOG.debug("Failed to determine commit id of ide-urls.", e);
+      return false;
+    }
+  }
+
+  private boolean isUpToDateByModificationTime(Path indexFile) throws IOException {
+
+    long indexModified = Files.getLastModifiedTime(indexFile).toMillis();
+    long age = System.currentTimeMillis() - indexModified;
+    if ((age < 0) || (age > INDEX_RETENTION_WITHOUT_COMMIT_ID.toMillis())) {
+      LOG.debug("Completion index has expired.");
+      return false;
+    }
+    Path urlsPath = this.context.getUrlsPath();
+    if ((urlsPath != null) && Files.exists(urlsPath) && (Files.getLastModifiedTime(urlsPath).toMillis() > indexModified)) {
+      LOG.debug("Completion index is older than ide-urls.");
+      return false;
+    }
+    return true;
+  }
+
+  private String getSystemHeader() {
+
+    SystemInfo systemInfo = this.context.getSystemInfo();
+    return HEADER_PREFIX + systemInfo.getOs() + "-" + systemInfo.getArchitecture();
+  }
+
+  /**
+   * Reads the commit id of ide-urls directly from the git metadata. Spawning a git process would be too slow for completion that has to answer within
+   * milliseconds. Unlike the last modification time of {@code .git/HEAD} that is touched on every pull, the commit id only changes if ide-urls actually
+   * changed.
+   *
+   * @return the commit id of the {@link IdeContext#getUrlsPath() ide-urls} or {@code null} if not a git repository.
+   * @throws IOException on error reading the git metadata.
+   */
+  private String readUrlsCommitId() throws IOException {
+
+    Path urlsPath = this.context.getUrlsPath();
+    if (urlsPath == null) {
+      return null;
+    }
+    Path gitFolder = urlsPath.resolve(GitContext.GIT_FOLDER);
+    Path headFile = gitFolder.resolve(GitContext.FILE_HEAD);
+    if (!Files.exists(headFile)) {
+      return null;
+    }
+    String head = Files.readString(headFile).trim();
+    if (!head.startsWith(REF_PREFIX)) {
+      return head; // detached HEAD
+    }
+    String ref = head.substring(REF_PREFIX.length()).trim();
+    Path refFile = gitFolder.resolve(ref);
+    if (Files.exists(refFile)) {
+      return Files.readString(refFile).trim();
+    }
+    Path packedRefs = gitFolder.resolve(FILE_PACKED_REFS);
+    if (Files.exists(packedRefs)) {
+      for (String line : Files.readAllLines(packedRefs)) {
+        if (line.endsWith(" " + ref)) {
+          return line.substring(0, line.indexOf(' '));
+        }
+      }
+    }
+    return head; // unborn branch
+  }
+
+  /**
+   * Writes the index file from the {@link IdeContext#getUrls() ide-urls} unless it is already up-to-date.
+   *
+   * @return {@code true} if the index file has been written, {@code false} otherwise (already up-to-date).
+   */
+  public boolean update() {
+
+    Path indexFile = getIndexFile();
+    if (indexFile == null) {
+      return false;
+    }
+    UrlMetadata urls = this.context.getUrls();
+    String header = readHeader(indexFile);
+    if ((header != null) && isUpToDate(header, indexFile)) {
+      LOG.debug("Completion index {} is up-to-date.", indexFile);
+      return false;
+    }
+    write(urls, indexFile);
+    return true;
+  }
+
+  private static String readHeader(Path indexFile) {
+
+    if (!Files.exists(indexFile)) {
+      return null;
+    }
+    try (var reader = Files.newBufferedReader(indexFile)) {
+      return reader.readLine();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void write(UrlMetadata urls, Path indexFile) {
+
+    List<String> lines = new ArrayList<>();
+    String header = getSystemHeader();
+    try {
+      String commitId = readUrlsCommitId();
+      if (commitId != null) {
+        header = header + " " + commitId;
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to determine commit id of ide-urls.", e);
+    }
+    lines.add(header);
+    Map<String, List<String>> map = new HashMap<>();
+    for (String tool : urls.getSortedTools()) {
+      List<String> editions = urls.getSortedEditions(tool);
+      lines.add(tool + "=" + String.join(",", editions));
+      map.put(tool, editions);
+      for (String edition : editions) {
+        List<String> versions = new ArrayList<>();
+        try {
+          for (VersionIdentifier version : urls.getSortedVersions(tool, edition, null)) {
+            versions.add(version.toString());
+          }
+        } catch (RuntimeException e) {
+          LOG.debug("Failed to index versions of tool {} in edition {}.", tool, edition, e);
+          continue;
+        }
+        String key = tool + "/" + edition;
+        lines.add(key + "=" + String.join(",", versions));
+        map.put(key, Collections.unmodifiableList(versions));
+      }
+    }
+    // write atomically since completion may read the index concurrently
+    Path tmpFile = null;
+    try {
+      Files.createDirectories(indexFile.getParent());
+      tmpFile = Files.createTempFile(indexFile.getParent(), FILE_COMPLETION_INDEX, ".tmp");
+      Files.write(tmpFile, lines);
+      Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Failed to write completion index {}", indexFile, e);
+      if (tmpFile != null) {
+        try {
+          Files.deleteIfExists(tmpFile);
+        } catch (IOException ignore) {
+          // best effort cleanup
+        }
+      }
+    }
+    this.entries = map;
+    LOG.debug("Wrote completion index {} with {} entries.", indexFile, map.size());
+  }
+
+}
@@ -9,7 +9,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -17,6 +19,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.FileHandler;
 import java.util.logging.LogManager;
@@ -31,6 +34,7 @@ import com.devonfw.tools.ide.cli.CliArguments;
 import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.cli.CliSuggester;
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
 import com.devonfw.tools.ide.commandlet.CommandletManager;
 import com.devonfw.tools.ide.commandlet.CommandletManagerImpl;
 import com.devonfw.tools.ide.commandlet.ContextCommandlet;
@@ -40,11 +44,14 @@ import com.devonfw.tools.ide.commandlet.UpgradeCommandlet;
 import com.devonfw.tools.ide.common.SystemPath;
 import com.devonfw.tools.ide.completion.CompletionCandidate;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
+import com.devonfw.tools.ide.completion.CompletionIndex;
 import com.devonfw.tools.ide.environment.AbstractEnvironmentVariables;
 import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.devonfw.tools.ide.environment.EnvironmentVariablesPropertiesCache;
 import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
 import com.devonfw.tools.ide.environment.IdeSystem;
 import com.devonfw.tools.ide.environment.IdeSystemImpl;
+import com.devonfw.tools.ide.git.GitBackgroundSync;
 import com.devonfw.tools.ide.git.GitContext;
 import com.devonfw.tools.ide.git.GitContextImpl;
 import com.devonfw.tools.ide.git.GitUrl;
@@ -71,7 +78,9 @@ import com.devonfw.tools.ide.property.KeywordProperty;
 import com.devonfw.tools.ide.property.Property;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.step.StepImpl;
+import com.devonfw.tools.ide.step.StepTraceWriter;
 import com.devonfw.tools.ide.tool.LocalToolCommandlet;
+import com.devonfw.tools.ide.tool.PackageManagerBasedLocalToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolInstallation;
 import com.devonfw.tools.ide.tool.custom.CustomToolRepository;
 import com.devonfw.tools.ide.tool.custom.CustomToolRepositoryImpl;
@@ -168,6 +177,10 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
 
   protected UrlMetadata urlMetadata;
 
+  private GitBackgroundSync urlsSync;
+
+  private CompletionIndex completionIndex;
+
   protected Path defaultExecutionDirectory;
 
   private StepImpl currentStep;
@@ -477,13 +490,26 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
   private EnvironmentVariables createVariables() {
 
     AbstractEnvironmentVariables system = createSystemVariables();
-    AbstractEnvironmentVariables user = system.extend(this.userHomeIde, EnvironmentVariablesType.USER);
-    AbstractEnvironmentVariables settings = user.extend(this.settingsPath, EnvironmentVariablesType.SETTINGS);
-    AbstractEnvironmentVariables workspace = settings.extend(this.workspacePath, EnvironmentVariablesType.WORKSPACE);
-    AbstractEnvironmentVariables conf = workspace.extend(this.confPath, EnvironmentVariablesType.CONF);
+    EnvironmentVariablesPropertiesCache cache = createPropertiesCache();
+    AbstractEnvironmentVariables user = system.extend(this.userHomeIde, EnvironmentVariablesType.USER, cache);
+    AbstractEnvironmentVariables settings = user.extend(this.settingsPath, EnvironmentVariablesType.SETTINGS, cache);
+    AbstractEnvironmentVariables workspace = settings.extend(this.workspacePath, EnvironmentVariablesType.WORKSPACE, cache);
+    AbstractEnvironmentVariables conf = workspace.extend(this.confPath, EnvironmentVariablesType.CONF, cache);
+    cache.save();
     return conf.resolved();
   }
 
+  private EnvironmentVariablesPropertiesCache createPropertiesCache() {
+
+    Path cacheFile = null;
+    Path idePath = getIdePath();
+    // tests may run directly on the test resources that shall not be polluted
+    if (!isTest() && (idePath != null) && Files.isDirectory(idePath)) {
+      cacheFile = idePath.resolve(EnvironmentVariablesPropertiesCache.FILE_PROPERTIES_CACHE);
+    }
+    return new EnvironmentVariablesPropertiesCache(cacheFile);
+  }
+
   protected AbstractEnvironmentVariables createSystemVariables() {
 
     return EnvironmentVariables.ofSystem(this);
@@ -829,14 +855,77 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
   public UrlMetadata getUrls() {
 
     if (this.urlMetadata == null) {
-      if (!isTest()) {
-        getGitContext().pullOrCloneAndResetIfNeeded(IDE_URLS_GIT, getUrlsPath(), null);
+      GitUrl urlsGitUrl = getUrlsGitUrl();
+      GitBackgroundSync sync = this.urlsSync;
+      this.urlsSync = null;
+      if (sync != null) {
+        try {
+          sync.await();
+        } catch (IllegalStateException e) {
+          // retry in the foreground where errors are handled interactively
+          LOG.warn(e.getMessage());
+          sync = null;
+        }
+      }
+      if ((sync == null) && (urlsGitUrl != null)) {
+        getGitContext().shallowCloneOrUpdateIfNeeded(urlsGitUrl, getUrlsPath());
       }
       this.urlMetadata = new UrlMetadata(this);
     }
     return this.urlMetadata;
   }
 
+  /**
+   * @return the {@link GitUrl} of the {@link #getUrlsPath() ide-urls} repository or {@code null} to never update it (e.g. in tests).
+   */
+  protected GitUrl getUrlsGitUrl() {
+
+    if (isTest()) {
+      return null;
+    }
+    return IDE_URLS_GIT;
+  }
+
+  /**
+   * Starts to update the {@link #getUrlsPath() ide-urls} in the background so this network operation can run concurrently with other work such as the update
+   * of the settings. The next call of {@link #getUrls()} will wait for this update to complete. Does nothing if the ide-urls are already loaded or if no
+   * {@link #getIdeRoot() IDE_ROOT} is available.
+   */
+  public void startUrlsUpdate() {
+
+    Path urlsPath = getUrlsPath();
+    GitUrl urlsGitUrl = getUrlsGitUrl();
+    if ((this.urlMetadata != null) || (this.urlsSync != null) || (urlsPath == null) || (urlsGitUrl == null)) {
+      return;
+    }
+    this.urlsSync = GitBackgroundSync.startShallowCloneOrUpdate(this, "ide-urls", urlsGitUrl, urlsPath);
+  }
+
+  /**
+   * Waits for a pending {@link #startUrlsUpdate() update of the ide-urls} to complete so the process never exits while git is still writing the repository.
+   * Errors are only logged here and handled by the next call of {@link #getUrls()} that retries the update in the foreground.
+   */
+  public void awaitUrlsUpdate() {
+
+    GitBackgroundSync sync = this.urlsSync;
+    if (sync != null) {
+      try {
+        sync.await();
+      } catch (RuntimeException e) {
+        LOG.debug("Background update of ide-urls failed.", e);
+      }
+    }
+  }
+
+  @Override
+  public CompletionIndex getCompletionIndex() {
+
+    if (this.completionIndex == null) {
+      this.completionIndex = new CompletionIndex(this);
+    }
+    return this.completionIndex;
+  }
+
   @Override
   public boolean isQuietMode() {
 
@@ -971,14 +1060,27 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
   @Override
   public void setEnvironmentOfInstalledTools(EnvironmentContext environmentContext) {
 
-    if (getSoftwarePath() == null) {
+    Path softwarePath = getSoftwarePath();
+    if (softwarePath == null) {
       return;
     }
-    for (Commandlet commandlet : getCommandletManager().getCommandlets()) {
-      if (commandlet instanceof LocalToolCommandlet tool) {
+    // we determine the installed tools from the folder names first to only create the commandlets of installed tools
+    Set<String> installedTools = new HashSet<>();
+    for (Path folder : List.of(softwarePath, getSoftwareExtraPath())) {
+      for (Path child : this.fileAccess.listChildren(folder, Files::isDirectory)) {
+        installedTools.add(child.getFileName().toString());
+      }
+    }
+    if (installedTools.isEmpty()) {
+      return;
+    }
+    Collection<CommandletDescriptor<?>> descriptors = getCommandletManager().getCommandletDescriptors();
+    for (CommandletDescriptor<?> descriptor : descriptors) {
+      if (descriptor.isType(LocalToolCommandlet.class) && isInstalledTool(descriptor, descriptors, installedTools)
+          && (descriptor.getCommandlet() instanceof LocalToolCommandlet tool)) {
         Path toolPath = tool.getToolPath();
         // we cannot use isInstalled() here since it may spawn processes (e.g. "npm --version") what would be way too expensive.
-        if ((toolPath != null) && Files.isDirectory(toolPath)) {
+        if ((toolPath != null) && this.fileAccess.isDirectory(toolPath)) {
           try {
             // for performance optimization, we do a hack here and assume that the installedVersion is never used by any setEnvironment method implementation.
             ToolInstallation toolInstallation = new ToolInstallation(toolPath, toolPath, tool.getToolBinPath(), VersionIdentifier.LATEST, false);
@@ -991,6 +1093,34 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     }
   }
 
+  /**
+   * @param descriptor the {@link CommandletDescriptor} of a {@link LocalToolCommandlet}.
+   * @param descriptors all {@link CommandletDescriptor}s.
+   * @param installedTools the names of the folders in the {@link #getSoftwarePath() software path}.
+   * @return {@code true} if the tool may be installed and its {@link LocalToolCommandlet} has to be created, {@code false} if it is not installed for sure.
+   *     A {@link PackageManagerBasedLocalToolCommandlet} is installed into the folder of its
+   *     {@link PackageManagerBasedLocalToolCommandlet#getParentToolType(Class) parent tool}. If that cannot be determined without creating the
+   *     {@link LocalToolCommandlet}, the tool is considered as installed.
+   */
+  private static boolean isInstalledTool(CommandletDescriptor<?> descriptor, Collection<CommandletDescriptor<?>> descriptors, Set<String> installedTools) {
+
+    String folderName = descriptor.getName();
+    if (descriptor.isType(PackageManagerBasedLocalToolCommandlet.class)) {
+      Class<?> parentType = PackageManagerBasedLocalToolCommandlet.getParentToolType(descriptor.getType());
+      folderName = null;
+      for (CommandletDescriptor<?> parent : descriptors) {
+        if (parent.getType() == parentType) {
+          folderName = parent.getName();
+          break;
+        }
+      }
+      if (folderName == null) {
+        return true;
+      }
+    }
+    return installedTools.contains(folderName);
+  }
+
   /**
    * @return a new instance of {@link ProcessContext}.
    * @see #newProcess()
@@ -1285,6 +1415,25 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       step.close();
       assert (this.currentStep == null);
       step.logSummary(supressStepSuccess);
+      writeTrace(step, cmd);
+    }
+  }
+
+  private void writeTrace(StepImpl step, Commandlet cmd) {
+
+    Path idePath = getIdePath();
+    if ((idePath == null) || (cmd == null) || !cmd.isWriteLogFile()) {
+      return;
+    }
+    try {
+      if (Boolean.TRUE.equals(IdeVariables.IDE_WRITE_TRACE.get(this))) {
+        Path traceFile = createLogfilePath(idePath, cmd, ".trace.json");
+        getFileAccess().mkdirs(traceFile.getParent());
+        new StepTraceWriter().write(step, traceFile);
+        LOG.debug("Wrote step trace to {}", traceFile);
+      }
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to write step trace: {}", e.toString());
     }
   }
 
@@ -1359,7 +1508,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       properties.setProperty("handlers", JulConsoleHandler.class.getName() + "," + fileHandlerName);
       properties.setProperty(fileHandlerName + ".formatter", SimpleFormatter.class.getName());
       properties.setProperty(fileHandlerName + ".encoding", "UTF-8");
-      this.logfile = createLogfilePath(idePath, cmd);
+      this.logfile = createLogfilePath(idePath, cmd, ".log");
       getFileAccess().mkdirs(this.logfile.getParent());
       properties.setProperty(fileHandlerName + ".pattern", this.logfile.toString());
     } else {
@@ -1369,7 +1518,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     return properties;
   }
 
-  private Path createLogfilePath(Path idePath, Commandlet cmd) {
+  private Path createLogfilePath(Path idePath, Commandlet cmd, String extension) {
     LocalDateTime now = LocalDateTime.now();
     Path logsPath = idePath.resolve(FOLDER_LOGS).resolve(DateTimeUtil.formatDate(now, true));
     StringBuilder sb = new StringBuilder(32);
@@ -1385,7 +1534,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       sb.append('-');
     }
     sb.append(DateTimeUtil.formatTime(now));
-    sb.append(".log");
+    sb.append(extension);
     return logsPath.resolve(sb.toString());
   }
 
@@ -12,6 +12,7 @@ import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.commandlet.CommandletManager;
 import com.devonfw.tools.ide.common.SystemPath;
+import com.devonfw.tools.ide.completion.CompletionIndex;
 import com.devonfw.tools.ide.environment.EnvironmentVariables;
 import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
 import com.devonfw.tools.ide.environment.IdeSystem;
@@ -509,6 +510,11 @@ public interface IdeContext extends IdeStartContext {
    */
   UrlMetadata getUrls();
 
+  /**
+   * @return the {@link CompletionIndex} with precomputed editions and versions from the {@link #getUrls() ide-urls} for fast auto-completion.
+   */
+  CompletionIndex getCompletionIndex();
+
   /**
    * @return the {@link Path} to the download cache. All downloads will be placed here using a unique naming pattern that allows to reuse these artifacts. So if
    *     the same artifact is requested again it will be taken from the cache to avoid downloading it again.
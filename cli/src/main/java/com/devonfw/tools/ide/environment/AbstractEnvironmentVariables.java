@@ -5,7 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +15,7 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.variable.VariableDefinition;
 import com.devonfw.tools.ide.variable.VariableSyntax;
+import com.devonfw.tools.ide.variable.VariableTemplate;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
 /**
@@ -34,6 +35,8 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
 
   private static final int MAX_RECURSION = 9;
 
+  private static final AtomicInteger MODIFICATION_COUNTER = new AtomicInteger();
+
   /**
    * @see #getParent()
    */
@@ -154,7 +157,19 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
    */
   public AbstractEnvironmentVariables extend(Path propertiesFolderPath, EnvironmentVariablesType type) {
 
-    return new EnvironmentVariablesPropertiesFile(this, type, propertiesFolderPath, null, this.context);
+    return extend(propertiesFolderPath, type, null);
+  }
+
+  /**
+   * @param propertiesFolderPath the {@link Path} to the folder containing the {@link #getPropertiesFilePath() properties file} of the child
+   *     {@link EnvironmentVariables}.
+   * @param type the {@link #getType() type}.
+   * @param cache the optional {@link EnvironmentVariablesPropertiesCache}.
+   * @return the new {@link EnvironmentVariables}.
+   */
+  public AbstractEnvironmentVariables extend(Path propertiesFolderPath, EnvironmentVariablesType type, EnvironmentVariablesPropertiesCache cache) {
+
+    return new EnvironmentVariablesPropertiesFile(this, type, propertiesFolderPath, null, this.context, cache);
   }
 
   /**
@@ -165,6 +180,12 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
     return new EnvironmentVariablesResolved(this);
   }
 
+  @Override
+  public EnvironmentVariables cached() {
+
+    return new EnvironmentVariablesCached(this);
+  }
+
   @Override
   public String resolve(String string, Object source) {
     return resolveRecursive(string, source, 0, this, new ResolveContext(source, string, false, VariableSyntax.CURLY));
@@ -221,32 +242,54 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
   private String resolveWithSyntax(final String value, final Object src, final int recursion, final AbstractEnvironmentVariables resolvedVars,
       final ResolveContext context, final VariableSyntax syntax) {
 
-    Matcher matcher = syntax.getPattern().matcher(value);
-    if (!matcher.find()) {
+    if (value.indexOf('$') < 0) {
       return value;
     }
+    VariableTemplate template = VariableTemplate.of(value, syntax);
+    int variableCount = template.getVariableCount();
+    if (variableCount == 0) {
+      return value;
+    }
+    Map<String, String> cache = null;
+    if (recursion == 1) {
+      cache = resolvedVars.getResolveCache();
+    }
     StringBuilder sb = new StringBuilder(value.length() + EXTRA_CAPACITY);
-    do {
-      String variableName = syntax.getVariable(matcher);
+    for (int i = 0; i < variableCount; i++) {
+      sb.append(template.getLiteral(i));
+      String variableName = template.getVariable(i);
+      String cacheKey = null;
+      if (cache != null) {
+        cacheKey = context.getCacheKey(variableName);
+        String replacement = cache.get(cacheKey);
+        if ((replacement != null) && !isSelfReferencing(variableName, value)) {
+          sb.append(replacement);
+          continue;
+        }
+      }
       String variableValue = resolvedVars.getValue(variableName, false);
       if (variableValue == null) {
         Level logLevel = Level.WARN;
         if (context.legacySupport && (syntax == VariableSyntax.CURLY)) {
           logLevel = Level.INFO;
         }
-        String var = matcher.group();
+        String var = template.getExpression(i);
         if (recursion > 1) {
           LOG.atLevel(logLevel).log("Undefined variable {} in '{}' at '{}={}'", var, context.rootSrc, src, value);
         } else {
           LOG.atLevel(logLevel).log("Undefined variable {} in '{}'", var, src);
         }
+        sb.append(var);
         continue;
       }
       EnvironmentVariables lowestFound = findVariable(variableName);
       if ((lowestFound == null) || !lowestFound.getFlat(variableName).equals(value)) {
         // looking for "variableName" starting from resolved upwards the hierarchy
         String replacement = resolvedVars.resolveRecursive(variableValue, variableName, recursion, resolvedVars, context);
-        matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        if (cache != null) {
+          cache.put(cacheKey, replacement);
+        }
+        sb.append(replacement);
       } else { // is self referencing
         // finding next occurrence of "variableName" up the hierarchy of EnvironmentVariablesType
         EnvironmentVariables next = lowestFound.getParent();
@@ -257,22 +300,54 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
           next = next.getParent();
         }
         if (next == null) {
-          matcher.appendReplacement(sb, Matcher.quoteReplacement(SELF_REFERENCING_NOT_FOUND));
+          sb.append(SELF_REFERENCING_NOT_FOUND);
           continue;
         }
         // resolving a self referencing variable one level up the hierarchy of EnvironmentVariablesType, i.e. at "next",
         // to avoid endless recursion
         String replacement = ((AbstractEnvironmentVariables) next).resolveRecursive(next.getFlat(variableName), variableName, recursion, resolvedVars, context
         );
-        matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        sb.append(replacement);
 
       }
-    } while (matcher.find());
-    matcher.appendTail(sb);
+    }
+    sb.append(template.getLiteral(variableCount));
 
     return sb.toString();
   }
 
+  private boolean isSelfReferencing(String variableName, String value) {
+
+    EnvironmentVariables lowestFound = findVariable(variableName);
+    return (lowestFound != null) && lowestFound.getFlat(variableName).equals(value);
+  }
+
+  /**
+   * @return the {@link Map} used to cache the resolved values of variables or {@code null} if resolved values shall not be cached (default).
+   * @see #cached()
+   */
+  protected Map<String, String> getResolveCache() {
+
+    return null;
+  }
+
+  /**
+   * Increments the modification counter to invalidate all {@link #getResolveCache() resolve caches}. Has to be called whenever a variable is modified.
+   */
+  protected static void onVariableModified() {
+
+    MODIFICATION_COUNTER.incrementAndGet();
+  }
+
+  /**
+   * @return the current value of the modification counter.
+   * @see #onVariableModified()
+   */
+  static int getModificationCount() {
+
+    return MODIFICATION_COUNTER.get();
+  }
+
   /**
    * Like {@link #get(String)} but with higher-level features including to resolve {@link IdeVariables} with their default values.
    *
@@ -321,7 +396,7 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
         if (value == null) {
           value = variable.getDefaultValueAsString(this.context);
         }
-        if (value != null) {
+        if ((value != null) && !value.isEmpty()) {
           result = result.replace(value, syntax.create(name));
         }
       }
@@ -367,6 +442,19 @@ public abstract class AbstractEnvironmentVariables implements EnvironmentVariabl
    */
   private static record ResolveContext(Object rootSrc, String rootValue, boolean legacySupport, VariableSyntax syntax) {
 
+    /**
+     * @param variableName the name of the variable.
+     * @return the key for the {@link #getResolveCache() resolve cache} as the resolved value also depends on the syntax options.
+     */
+    private String getCacheKey(String variableName) {
+
+      if (this.syntax != null) {
+        return this.syntax.create(variableName);
+      } else if (this.legacySupport) {
+        return "~" + variableName;
+      }
+      return variableName;
+    }
   }
 
   /**
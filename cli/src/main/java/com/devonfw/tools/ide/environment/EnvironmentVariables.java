@@ -247,6 +247,16 @@ public interface EnvironmentVariables {
    */
   String inverseResolve(String string, Object source, VariableSyntax syntax);
 
+  /**
+   * @return a view on this {@link EnvironmentVariables} that caches the {@link #resolve(String, Object, boolean) resolved} values of variables until a
+   *     variable is {@link #set(String, String) set}. Shall only be used for a bulk operation like merging the workspace, as variables may also depend on the
+   *     state of the {@link IdeContext} (e.g. the current workspace) that is not tracked.
+   */
+  default EnvironmentVariables cached() {
+
+    return this;
+  }
+
   /**
    * @param context the {@link IdeContext}.
    * @return the system {@link EnvironmentVariables} building the root of the {@link EnvironmentVariables} hierarchy.
@@ -0,0 +1,102 @@
+package com.devonfw.tools.ide.environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link EnvironmentVariables} that caches the resolved values of variables. The caches are invalidated whenever a variable is
+ * {@link #set(String, String) set}.
+ *
+ * @see #cached()
+ */
+public class EnvironmentVariablesCached extends AbstractEnvironmentVariables {
+
+  private final Map<String, String> resolveCache;
+
+  private final Map<String, String> valueCache;
+
+  private int modificationCount;
+
+  /**
+   * The constructor.
+   *
+   * @param parent the parent {@link EnvironmentVariables} to inherit from.
+   */
+  EnvironmentVariablesCached(AbstractEnvironmentVariables parent) {
+
+    super(parent, parent.context);
+    this.resolveCache = new HashMap<>();
+    this.valueCache = new HashMap<>();
+    this.modificationCount = getModificationCount();
+  }
+
+  @Override
+  public EnvironmentVariablesType getType() {
+
+    return this.parent.getType();
+  }
+
+  @Override
+  public String getFlat(String name) {
+
+    return null;
+  }
+
+  @Override
+  public String get(String name, boolean ignoreDefaultValue) {
+
+    checkModification();
+    String key = name;
+    if (ignoreDefaultValue) {
+      key = "!" + name;
+    }
+    String value = this.valueCache.get(key);
+    if ((value == null) && !this.valueCache.containsKey(key)) {
+      value = this.parent.get(name, ignoreDefaultValue);
+      this.valueCache.put(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  protected String getValue(String name, boolean ignoreDefaultValue) {
+
+    return this.parent.getValue(name, ignoreDefaultValue);
+  }
+
+  @Override
+  protected boolean isExported(String name) {
+
+    return this.parent.isExported(name);
+  }
+
+  @Override
+  protected Map<String, String> getResolveCache() {
+
+    checkModification();
+    return this.resolveCache;
+  }
+
+  private void checkModification() {
+
+    int currentModificationCount = getModificationCount();
+    if (currentModificationCount != this.modificationCount) {
+      this.resolveCache.clear();
+      this.valueCache.clear();
+      this.modificationCount = currentModificationCount;
+    }
+  }
+
+  @Override
+  public EnvironmentVariables resolved() {
+
+    return this.parent.resolved();
+  }
+
+  @Override
+  public EnvironmentVariables cached() {
+
+    return this;
+  }
+
+}
@@ -0,0 +1,219 @@
+package com.devonfw.tools.ide.environment;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.version.IdeVersion;
+
+/**
+ * Cache for the parsed variables of {@link EnvironmentVariablesPropertiesFile properties files}. The {@link EnvironmentVariables} are created on every
+ * invocation of IDEasy (e.g. {@code ide env} on every {@code cd}) and parsing the entire hierarchy of properties files including migration of legacy variables
+ * is repeated over and over again. Therefore, the parsed variables are persisted in a single file inside {@code IDE_ROOT/_ide} keyed by the path, size and
+ * last modification time of each properties file so only properties files that changed are parsed again. Properties files that caused warnings while parsing
+ * are never cached so these warnings are not swallowed. The cache file starts with a header containing the {@link #FORMAT_VERSION format version} and the
+ * {@link IdeVersion IDEasy version} that wrote it. As the cached values are already migrated, a cache written by a different version is dropped entirely.
+ */
+public class EnvironmentVariablesPropertiesCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EnvironmentVariablesPropertiesCache.class);
+
+  /** The name of the cache file inside {@code IDE_ROOT/_ide}. */
+  public static final String FILE_PROPERTIES_CACHE = ".properties.cache";
+
+  /** The version of the format of the cache file. Has to be increased on incompatible changes. */
+  static final int FORMAT_VERSION = 1;
+
+  private static final char HEADER_PREFIX = '#';
+
+  private static final char ENTRY_PREFIX = '@';
+
+  private static final char SEPARATOR = '\t';
+
+  private static final String EXPORT_PREFIX = "export ";
+
+  /**
+   * Properties files modified within this duration (in milliseconds) are not cached as a modification within the precision of the file system timestamp
+   * without a change of the file size could not be detected.
+   */
+  private static final long RACY_MILLIS = 2000;
+
+  private final Path cacheFile;
+
+  private Map<String, CacheEntry> entries;
+
+  private boolean modified;
+
+  /**
+   * The constructor.
+   *
+   * @param cacheFile the {@link Path} to the cache file or {@code null} to only cache in memory.
+   */
+  public EnvironmentVariablesPropertiesCache(Path cacheFile) {
+
+    super();
+    this.cacheFile = cacheFile;
+  }
+
+  /**
+   * @param file the {@link Path} to the properties file.
+   * @param attributes the {@link BasicFileAttributes} of the properties file.
+   * @param variables the {@link Map} where to add the cached variables.
+   * @param exportedVariables the {@link Set} where to add the names of the cached exported variables.
+   * @return {@code true} if the variables of the given properties file have been loaded from the cache, {@code false} otherwise (not cached or outdated).
+   */
+  boolean load(Path file, BasicFileAttributes attributes, Map<String, String> variables, Set<String> exportedVariables) {
+
+    CacheEntry entry = getEntries().get(getKey(file));
+    if ((entry == null) || (entry.size != attributes.size()) || (entry.lastModified != attributes.lastModifiedTime().toMillis())) {
+      return false;
+    }
+    variables.putAll(entry.variables);
+    exportedVariables.addAll(entry.exportedVariables);
+    return true;
+  }
+
+  /**
+   * @param file the {@link Path} to the properties file.
+   * @param attributes the {@link BasicFileAttributes} of the properties file.
+   * @param variables the {@link Map} with the parsed variables.
+   * @param exportedVariables the {@link Set} with the names of the parsed exported variables.
+   */
+  void put(Path file, BasicFileAttributes attributes, Map<String, String> variables, Set<String> exportedVariables) {
+
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    if (variables.containsValue(null)) {
+      return;
+    } else if (System.currentTimeMillis() - lastModified < RACY_MILLIS) {
+      LOG.trace("Not caching recently modified properties file {}", file);
+      return;
+    }
+    getEntries().put(getKey(file), new CacheEntry(attributes.size(), lastModified, new HashMap<>(variables), new HashSet<>(exportedVariables)));
+    this.modified = true;
+  }
+
+  private static String getKey(Path file) {
+
+    return file.toAbsolutePath().toString();
+  }
+
+  private Map<String, CacheEntry> getEntries() {
+
+    if (this.entries == null) {
+      this.entries = new LinkedHashMap<>();
+      if ((this.cacheFile != null) && Files.exists(this.cacheFile)) {
+        try (BufferedReader reader = Files.newBufferedReader(this.cacheFile)) {
+          read(reader);
+        } catch (Exception e) {
+          LOG.debug("Ignoring corrupt properties cache {}", this.cacheFile, e);
+          this.entries.clear();
+        }
+      }
+    }
+    return this.entries;
+  }
+
+  private static String getHeader() {
+
+    return HEADER_PREFIX + Integer.toString(FORMAT_VERSION) + SEPARATOR + IdeVersion.getVersionString();
+  }
+
+  private void read(BufferedReader reader) throws IOException {
+
+    String header = reader.readLine();
+    if (!getHeader().equals(header)) {
+      LOG.debug("Dropping properties cache {} written by a different version: {}", this.cacheFile, header);
+      return;
+    }
+    CacheEntry entry = null;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isEmpty()) {
+        continue;
+      }
+      if (line.charAt(0) == ENTRY_PREFIX) {
+        String[] segments = line.substring(1).split(String.valueOf(SEPARATOR), 3);
+        entry = new CacheEntry(Long.parseLong(segments[0]), Long.parseLong(segments[1]), new HashMap<>(), new HashSet<>());
+        this.entries.put(segments[2], entry);
+      } else {
+        boolean export = line.startsWith(EXPORT_PREFIX);
+        if (export) {
+          line = line.substring(EXPORT_PREFIX.length());
+        }
+        int equalsIndex = line.indexOf('=');
+        String name = line.substring(0, equalsIndex);
+        entry.variables.put(name, line.substring(equalsIndex + 1));
+        if (export) {
+          entry.exportedVariables.add(name);
+        }
+      }
+    }
+  }
+
+  /**
+   * Saves this cache to the cache file if modified. Entries of properties files that no longer exist are pruned. The cache is written to a unique temporary
+   * file that is moved atomically so concurrent invocations (e.g. {@code ide env} in multiple terminals) never corrupt the cache file.
+   */
+  public void save() {
+
+    if (!this.modified || (this.cacheFile == null)) {
+      return;
+    }
+    this.entries.keySet().removeIf(key -> !Files.exists(Path.of(key)));
+    Path tmpFile = null;
+    try {
+      Files.createDirectories(this.cacheFile.getParent());
+      tmpFile = Files.createTempFile(this.cacheFile.getParent(), FILE_PROPERTIES_CACHE, ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(tmpFile)) {
+        writer.append(getHeader()).append('\n');
+        for (Entry<String, CacheEntry> mapEntry : this.entries.entrySet()) {
+          CacheEntry entry = mapEntry.getValue();
+          writer.append(ENTRY_PREFIX).append(Long.toString(entry.size)).append(SEPARATOR).append(Long.toString(entry.lastModified)).append(SEPARATOR)
+              .append(mapEntry.getKey()).append('\n');
+          for (Entry<String, String> variable : entry.variables.entrySet()) {
+            String name = variable.getKey();
+            if (entry.exportedVariables.contains(name)) {
+              writer.append(EXPORT_PREFIX);
+            }
+            writer.append(name).append('=').append(variable.getValue()).append('\n');
+          }
+        }
+      }
+      try {
+        Files.move(tmpFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmpFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      this.modified = false;
+      LOG.trace("Saved properties cache {}", this.cacheFile);
+    } catch (IOException e) {
+      LOG.debug("Failed to save properties cache {}", this.cacheFile, e);
+      if (tmpFile != null) {
+        try {
+          Files.deleteIfExists(tmpFile);
+        } catch (IOException ignore) {
+          // best effort cleanup
+        }
+      }
+    }
+  }
+
+  private record CacheEntry(long size, long lastModified, Map<String, String> variables, Set<String> exportedVariables) {
+
+  }
+
+}
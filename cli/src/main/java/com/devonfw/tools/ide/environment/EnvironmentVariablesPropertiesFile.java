@@ -4,7 +4,9 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -41,6 +43,8 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
 
   private final Set<String> modifiedVariables;
 
+  private final EnvironmentVariablesPropertiesCache cache;
+
   private Boolean legacyConfiguration;
 
   /**
@@ -69,6 +73,22 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
   public EnvironmentVariablesPropertiesFile(AbstractEnvironmentVariables parent, EnvironmentVariablesType type, Path propertiesFolderPath,
       Path propertiesFilePath, IdeContext context) {
 
+    this(parent, type, propertiesFolderPath, propertiesFilePath, context, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param parent the parent {@link EnvironmentVariables} to inherit from.
+   * @param type the {@link #getType() type}.
+   * @param propertiesFolderPath the {@link Path} to the folder where the properties file is expected.
+   * @param propertiesFilePath the {@link #getSource() source}.
+   * @param context the {@link IdeContext}.
+   * @param cache the optional {@link EnvironmentVariablesPropertiesCache} to avoid parsing unmodified properties files.
+   */
+  public EnvironmentVariablesPropertiesFile(AbstractEnvironmentVariables parent, EnvironmentVariablesType type, Path propertiesFolderPath,
+      Path propertiesFilePath, IdeContext context, EnvironmentVariablesPropertiesCache cache) {
+
     super(parent, context);
     Objects.requireNonNull(type);
     assert (type != EnvironmentVariablesType.RESOLVED);
@@ -93,6 +113,7 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
     this.variables = new HashMap<>();
     this.exportedVariables = new HashSet<>();
     this.modifiedVariables = new HashSet<>();
+    this.cache = cache;
     load();
   }
 
@@ -121,12 +142,23 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
     if (file == null) {
       return false;
     }
-    if (!Files.exists(file)) {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
       LOG.trace("Properties not found at {}", file);
       return false;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read attributes of " + file, e);
+    }
+    if ((this.cache != null) && this.cache.load(file, attributes, this.variables, this.exportedVariables)) {
+      LOG.trace("Loaded cached properties of {}", file);
+      return true;
     }
     LOG.trace("Loading properties from {}", file);
     boolean legacyProperties = file.getFileName().toString().equals(LEGACY_PROPERTIES);
+    // properties causing warnings are not cached to ensure the warnings are logged on every load
+    boolean cacheable = !legacyProperties;
     if (legacyProperties) {
       LOG.warn("You are using the legacy configuration file {} from devonfw-ide, which is no longer supported. Please migrate to IDEasy as described in "
           + "https://github.com/devonfw/IDEasy/blob/main/documentation/migration-from-devonfw.adoc", file);
@@ -137,22 +169,28 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
         line = reader.readLine();
         if (line != null) {
           VariableLine variableLine = VariableLine.of(line, getSource());
+          if (variableLine instanceof VariableLine.Garbage) {
+            cacheable = false;
+          }
           String name = variableLine.getName();
           if (name != null) {
             VariableLine migratedVariableLine = migrateLine(variableLine, false);
             if (migratedVariableLine == null) {
               LOG.warn("Illegal variable definition: {}", variableLine);
+              cacheable = false;
               continue;
             }
             String migratedName = migratedVariableLine.getName();
             String migratedValue = migratedVariableLine.getValue();
             boolean legacyVariable = IdeVariables.isLegacyVariable(name);
             if (legacyVariable && !legacyProperties) {
+              cacheable = false;
               LOG.warn("Legacy variable name is used to define variable {} in {} - please cleanup your configuration.", variableLine,
                   file);
             }
             String oldValue = this.variables.get(migratedName);
             if (oldValue != null) {
+              cacheable = false;
               VariableDefinition<?> variableDefinition = IdeVariables.get(name);
               if (legacyVariable) {
                 // if the legacy name was configured we do not want to override the official variable!
@@ -172,10 +210,13 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
           }
         }
       } while (line != null);
-      return true;
     } catch (IOException e) {
       throw new IllegalStateException("Failed to load properties from " + file, e);
     }
+    if (cacheable && (this.cache != null)) {
+      this.cache.put(file, attributes, this.variables, this.exportedVariables);
+    }
+    return true;
   }
 
   @Override
@@ -349,6 +390,7 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
     } else {
       LOG.debug("Set variable '{}={}' in {}", name, value, this.propertiesFilePath);
       this.modifiedVariables.add(name);
+      onVariableModified();
       if (export && (value != null)) {
         this.exportedVariables.add(name);
       } else {
@@ -368,6 +410,7 @@ public final class EnvironmentVariablesPropertiesFile extends EnvironmentVariabl
     if (oldValue != null) {
       this.modifiedVariables.add(name);
       this.exportedVariables.remove(name);
+      onVariableModified();
       LOG.debug("Removed variable name of '{}' in {}", name, this.propertiesFilePath);
     }
   }
@@ -29,6 +29,7 @@ public class ExtensibleEnvironmentVariables extends EnvironmentVariablesMap {
    */
   public void setValue(String name, String value) {
     this.variables.put(name, value);
+    onVariableModified();
   }
 
   @Override
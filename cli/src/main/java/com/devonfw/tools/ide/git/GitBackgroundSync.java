@@ -0,0 +1,250 @@
+package com.devonfw.tools.ide.git;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.cli.CliException;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.environment.VariableLine;
+import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Synchronization (clone or pull) of a git repository running in the background. This allows to synchronize independent repositories (e.g. ide-urls and the
+ * settings) concurrently instead of waiting for one network operation after the other. Errors are collected and reported for the according repository when
+ * the result is {@link #await() awaited}. The synchronization has to be awaited before the process exits (e.g. in a {@code finally} block) since it runs in
+ * a daemon thread.
+ */
+public final class GitBackgroundSync {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GitBackgroundSync.class);
+
+  private final String name;
+
+  private final Path repository;
+
+  private final CompletableFuture<Void> future;
+
+  private final FileAccess fileAccess;
+
+  private final boolean clone;
+
+  private boolean awaited;
+
+  private GitBackgroundSync(String name, Path repository, CompletableFuture<Void> future, FileAccess fileAccess, boolean clone) {
+
+    super();
+    this.name = name;
+    this.repository = repository;
+    this.future = future;
+    this.fileAccess = fileAccess;
+    this.clone = clone;
+  }
+
+  /**
+   * @return the name of the repository for error reporting (e.g. "ide-urls").
+   */
+  public String getName() {
+
+    return this.name;
+  }
+
+  /**
+   * @return the {@link Path} to the local git repository that is synchronized.
+   */
+  public Path getRepository() {
+
+    return this.repository;
+  }
+
+  /**
+   * @return {@code true} if the synchronization has completed (successfully or with an error), {@code false} otherwise.
+   */
+  public boolean isDone() {
+
+    return this.future.isDone();
+  }
+
+  /**
+   * Waits for the synchronization to complete. Must be called from the main thread. If a clone failed, the partial clone is deleted so it is not mistaken
+   * for a valid repository and the clone is retried.
+   *
+   * @throws CliException if the synchronization failed with a {@link CliException} (e.g. because offline) that is rethrown unchanged.
+   * @throws IllegalStateException if the synchronization failed otherwise.
+   */
+  public void await() {
+
+    try {
+      this.future.join();
+      completed(false);
+    } catch (CompletionException e) {
+      completed(true);
+      Throwable cause = (e.getCause() == null) ? e : e.getCause();
+      if (cause instanceof CliException cliException) {
+        throw cliException;
+      }
+      throw new IllegalStateException("Failed to update " + this.name + " repository at " + this.repository + ": " + cause.getMessage(), cause);
+    }
+  }
+
+  private void completed(boolean failed) {
+
+    if (this.awaited || (this.fileAccess == null)) {
+      return;
+    }
+    this.awaited = true;
+    // git has modified the repository without FileAccess
+    this.fileAccess.clearMetadataCache();
+    if (failed && this.clone) {
+      LOG.debug("Deleting partial clone of {} repository at {}", this.name, this.repository);
+      this.fileAccess.delete(this.repository);
+    }
+  }
+
+  /**
+   * @param name the {@link #getName() name} of the repository.
+   * @param repository the {@link #getRepository() local repository}.
+   * @param sync the {@link Runnable} performing the synchronization. Must neither interact with the user nor access the {@link IdeContext} since it is not
+   *     thread-safe.
+   * @return the started {@link GitBackgroundSync}.
+   */
+  public static GitBackgroundSync start(String name, Path repository, Runnable sync) {
+
+    return start(name, repository, sync, null, false);
+  }
+
+  private static GitBackgroundSync start(String name, Path repository, Runnable sync, FileAccess fileAccess, boolean clone) {
+
+    LOG.debug("Starting to update {} repository at {} in the background.", name, repository);
+    return new GitBackgroundSync(name, repository, CompletableFuture.runAsync(sync), fileAccess, clone);
+  }
+
+  /**
+   * Starts a shallow clone or update of the given repository in the background like {@link GitContext#shallowCloneOrUpdateIfNeeded(GitUrl, Path)}. All
+   * information from the {@link IdeContext} (git binary, {@link IdeVariables#PREFERRED_GIT_PROTOCOL preferred protocol}, remote, and process environment) is
+   * determined before and passed to the background thread as immutable snapshot. Cases that may require user interaction (offline clone or a repository
+   * without remote) are left to the foreground.
+   *
+   * @param context the {@link IdeContext}.
+   * @param name the {@link #getName() name} of the repository.
+   * @param gitUrl the {@link GitUrl} of the repository.
+   * @param repository the {@link #getRepository() local repository}.
+   * @return the started {@link GitBackgroundSync} or {@code null} if no update is needed or it has to be done in the foreground via
+   *     {@link GitContext#shallowCloneOrUpdateIfNeeded(GitUrl, Path)}.
+   */
+  public static GitBackgroundSync startShallowCloneOrUpdate(IdeContext context, String name, GitUrl gitUrl, Path repository) {
+
+    if (!GitOperation.SHALLOW_CLONE_OR_UPDATE.isNeeded(repository, context)) {
+      return null;
+    }
+    boolean clone = !Files.isDirectory(repository.resolve(GitContext.GIT_FOLDER));
+    if (clone && context.isOfflineMode()) {
+      return null;
+    }
+    GitContext gitContext = context.getGitContext();
+    String remote = null;
+    if (!clone) {
+      remote = gitContext.determineRemote(repository);
+      if (remote == null) {
+        return null;
+      }
+    }
+    GitUrlSyntax gitUrlSyntax = IdeVariables.PREFERRED_GIT_PROTOCOL.get(context);
+    Map<String, String> environment = new HashMap<>();
+    for (VariableLine var : context.getVariables().collectExportedVariables()) {
+      if (var.isExport()) {
+        environment.put(var.getName(), var.getValue());
+      }
+    }
+    environment.put(IdeVariables.PATH.getName(), context.getPath().toString());
+    if (clone) {
+      context.getFileAccess().mkdirs(repository);
+    }
+    ShallowSync sync = new ShallowSync(gitContext.findGitRequired(), gitUrlSyntax.format(gitUrl), repository, remote, Map.copyOf(environment),
+        context.isQuietMode());
+    return start(name, repository, sync::run, context.getFileAccess(), clone);
+  }
+
+  /**
+   * Runs the same git commands as {@link GitContextImpl#shallowCloneOrUpdate(GitUrl, Path)} but without {@link com.devonfw.tools.ide.process.ProcessContext}
+   * that is bound to the {@link IdeContext}. Errors are reported via exceptions and handled in the foreground when {@link #await() awaited}.
+   */
+  private record ShallowSync(Path git, GitUrl gitUrl, Path repository, String remote, Map<String, String> environment, boolean quiet) {
+
+    private void run() {
+
+      if (this.remote == null) {
+        cloneShallow();
+      } else {
+        updateShallow();
+      }
+      try {
+        Path timestampPath = this.repository.resolve(GitContext.GIT_FOLDER).resolve(GitOperation.SHALLOW_CLONE_OR_UPDATE.getTimestampFilename());
+        Files.setLastModifiedTime(timestampPath, FileTime.fromMillis(System.currentTimeMillis()));
+      } catch (IOException e) {
+        LOG.warn("Failed to update timestamp of {}", this.repository, e);
+      }
+    }
+
+    private void cloneShallow() {
+
+      runGit(GitContextImpl.createCloneArgs(this.gitUrl, this.quiet, true));
+    }
+
+    private void updateShallow() {
+
+      String branch = this.gitUrl.branch();
+      if (branch == null) {
+        List<String> out = runGit(List.of("branch", "--show-current"));
+        if (out.size() == 1) {
+          branch = out.getFirst();
+        }
+      }
+      runGit(GitContextImpl.createShallowFetchArgs(this.remote, branch, this.quiet));
+      runGit(GitContextImpl.ARGS_RESET_TO_FETCH_HEAD);
+      runGit(GitContextImpl.ARGS_EXPIRE_REFLOG);
+      runGit(GitContextImpl.ARGS_PRUNE);
+      if (!runGit(GitContextImpl.ARGS_LIST_UNTRACKED).isEmpty()) {
+        LOG.warn("Git detected untracked files in {} and is attempting a cleanup.", this.repository);
+        runGit(GitContextImpl.ARGS_CLEAN);
+      }
+    }
+
+    private List<String> runGit(List<String> args) {
+
+      List<String> command = new ArrayList<>(args.size() + 1);
+      command.add(this.git.toString());
+      command.addAll(args);
+      ProcessBuilder processBuilder = new ProcessBuilder(command).directory(this.repository.toFile()).redirectErrorStream(true);
+      processBuilder.environment().putAll(this.environment);
+      LOG.debug("Running {} in {} in the background", command, this.repository);
+      try {
+        Process process = processBuilder.start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+          throw new IllegalStateException("git " + String.join(" ", args) + " failed with exit code " + exitCode + ": " + output.trim());
+        }
+        return output.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to run git " + String.join(" ", args), e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while running git " + String.join(" ", args), e);
+      }
+    }
+  }
+
+}
@@ -103,6 +103,28 @@ public interface GitContext {
    */
   void pullOrCloneAndResetIfNeeded(GitUrl gitUrl, Path repository, String remoteName);
 
+  /**
+   * Attempts a {@link #shallowCloneOrUpdate(GitUrl, Path) shallow clone or update} if required.
+   *
+   * @param gitUrl the {@link GitUrl} to clone from.
+   * @param repository the {@link Path} to the target folder where the git repository should be cloned or updated. It is not the parent directory where git
+   *     will by default create a sub-folder by default on clone but the final folder that will contain the ".git" subfolder.
+   * @throws CliOfflineException if offline and cloning is needed.
+   */
+  void shallowCloneOrUpdateIfNeeded(GitUrl gitUrl, Path repository);
+
+  /**
+   * Runs a shallow git clone or updates an existing clone shallowly. Only the latest commit of the branch is transferred without any history or tags and
+   * local changes are discarded. This is intended for read-only repositories (e.g. ide-urls) where only the working tree is used but the history grows
+   * with every update.
+   *
+   * @param gitUrl the {@link GitUrl} to clone from.
+   * @param repository the {@link Path} to the target folder where the git repository should be cloned or updated. It is not the parent directory where git
+   *     will by default create a sub-folder by default on clone but the final folder that will contain the ".git" subfolder.
+   * @throws CliOfflineException if offline and cloning is needed.
+   */
+  void shallowCloneOrUpdate(GitUrl gitUrl, Path repository);
+
   /**
    * Performs a {@code git pull} operation on the given repository while safely preserving and restoring any local untracked or modified files using a temporary
    * Git stash.
@@ -27,6 +27,21 @@ public class GitContextImpl implements GitContext {
 
   private static final Logger LOG = LoggerFactory.getLogger(GitContextImpl.class);
 
+  /** The arguments to reset to the result of a shallow fetch. */
+  static final List<String> ARGS_RESET_TO_FETCH_HEAD = List.of("reset", "-q", "--hard", "FETCH_HEAD");
+
+  /** The arguments to expire the reflog so the commits replaced by a shallow update become unreachable. */
+  static final List<String> ARGS_EXPIRE_REFLOG = List.of("reflog", "expire", "--expire=now", "--all");
+
+  /** The arguments to remove unreachable objects so a shallow repository does not grow with every update. */
+  static final List<String> ARGS_PRUNE = List.of("gc", "-q", "--prune=now");
+
+  /** The arguments to list untracked files. */
+  static final List<String> ARGS_LIST_UNTRACKED = List.of("ls-files", "--other", "--directory", "--exclude-standard");
+
+  /** The arguments to delete untracked files. */
+  static final List<String> ARGS_CLEAN = List.of("clean", "-df");
+
   /** @see #getContext() */
   protected final IdeContext context;
   private Path git;
@@ -45,6 +60,12 @@ public class GitContextImpl implements GitContext {
     GitOperation.PULL_OR_CLONE.executeIfNeeded(this.context, gitUrl, repository, null);
   }
 
+  @Override
+  public void shallowCloneOrUpdateIfNeeded(GitUrl gitUrl, Path repository) {
+
+    GitOperation.SHALLOW_CLONE_OR_UPDATE.executeIfNeeded(this.context, gitUrl, repository, null);
+  }
+
   @Override
   public boolean fetchIfNeeded(Path repository) {
 
@@ -174,9 +195,7 @@ public class GitContextImpl implements GitContext {
       // checks for remotes
       String remote = determineRemote(repository);
       if (remote == null) {
-        String message = repository + " is a local git repository with no remote - if you did this for testing, you may continue...\n"
-            + "Do you want to ignore the problem and continue anyhow?";
-        this.context.askToContinue(message);
+        askToContinueWithoutRemote(repository);
       } else {
         pull(repository);
       }
@@ -185,6 +204,68 @@ public class GitContextImpl implements GitContext {
     }
   }
 
+  @Override
+  public void shallowCloneOrUpdate(GitUrl gitUrl, Path repository) {
+
+    Objects.requireNonNull(repository);
+    Objects.requireNonNull(gitUrl);
+    if (Files.isDirectory(repository.resolve(GIT_FOLDER))) {
+      String remote = determineRemote(repository);
+      if (remote == null) {
+        askToContinueWithoutRemote(repository);
+      } else {
+        shallowUpdate(gitUrl, repository, remote);
+      }
+    } else {
+      clone(gitUrl, repository, true);
+    }
+  }
+
+  private void shallowUpdate(GitUrl gitUrl, Path repository, String remote) {
+
+    if (this.context.getNetworkStatus().isOffline()) {
+      LOG.info("Skipping git fetch on {} because offline", repository);
+      return;
+    }
+    String branch = gitUrl.branch();
+    if (branch == null) {
+      branch = determineCurrentBranch(repository);
+    }
+    List<String> args = createShallowFetchArgs(remote, branch, this.context.isQuietMode());
+    ProcessResult result = runGitCommand(repository, ProcessMode.DEFAULT, args.toArray(String[]::new));
+    if (result.isSuccessful()) {
+      result = runGitCommand(repository, ProcessMode.DEFAULT, ARGS_RESET_TO_FETCH_HEAD.toArray(String[]::new));
+    }
+    if (result.isSuccessful()) {
+      prune(repository);
+      cleanup(repository);
+    } else {
+      LOG.warn("Git shallow update of {} from '{}/{}' failed.", repository, remote, branch);
+      handleErrors(repository, result);
+    }
+  }
+
+  /**
+   * Removes the objects that became unreachable by a shallow update. Otherwise, every update would add the objects of the new commit while the replaced ones
+   * remain in the repository forever. A failure is only logged since the update itself was successful.
+   *
+   * @param repository the {@link Path} to the shallow git repository.
+   */
+  private void prune(Path repository) {
+
+    ProcessResult result = runGitCommand(repository, ProcessMode.DEFAULT_CAPTURE, ARGS_EXPIRE_REFLOG.toArray(String[]::new));
+    if (result.isSuccessful()) {
+      runGitCommand(repository, ProcessMode.DEFAULT_CAPTURE, ARGS_PRUNE.toArray(String[]::new));
+    }
+  }
+
+  private void askToContinueWithoutRemote(Path repository) {
+
+    String message = repository + " is a local git repository with no remote - if you did this for testing, you may continue...\n"
+        + "Do you want to ignore the problem and continue anyhow?";
+    this.context.askToContinue(message);
+  }
+
   /**
    * Handles errors which occurred during git pull.
    *
@@ -214,27 +295,78 @@ public class GitContextImpl implements GitContext {
   @Override
   public void clone(GitUrl gitUrl, Path repository) {
 
+    clone(gitUrl, repository, false);
+  }
+
+  private void clone(GitUrl gitUrl, Path repository, boolean shallow) {
+
     GitUrlSyntax gitUrlSyntax = IdeVariables.PREFERRED_GIT_PROTOCOL.get(getContext());
     gitUrl = gitUrlSyntax.format(gitUrl);
     if (this.context.isOfflineMode()) {
       this.context.requireOnline("git clone of " + gitUrl, false);
     }
     this.context.getFileAccess().mkdirs(repository);
-    List<String> args = new ArrayList<>(7);
+    runGitCommand(repository, createCloneArgs(gitUrl, this.context.isQuietMode(), shallow));
+    String branch = gitUrl.branch();
+    if (!shallow && (branch != null)) {
+      runGitCommand(repository, "switch", branch);
+    }
+  }
+
+  /**
+   * @param gitUrl the {@link GitUrl} already formatted according to the {@link IdeVariables#PREFERRED_GIT_PROTOCOL preferred protocol}.
+   * @param quiet {@code true} for quiet mode, {@code false} otherwise.
+   * @param shallow {@code true} for a shallow clone (including the {@link GitUrl#branch() branch} since a shallow clone only contains a single branch),
+   *     {@code false} for a full clone (where the branch has to be switched afterwards).
+   * @return the arguments to clone the given {@link GitUrl} into the current directory.
+   */
+  static List<String> createCloneArgs(GitUrl gitUrl, boolean quiet, boolean shallow) {
+
+    List<String> args = new ArrayList<>(14);
     args.add("clone");
-    if (this.context.isQuietMode()) {
+    if (quiet) {
       args.add("-q");
     }
     args.add("--recursive");
+    if (shallow) {
+      args.add("--depth");
+      args.add("1");
+      args.add("--no-tags");
+      args.add("--shallow-submodules");
+      String branch = gitUrl.branch();
+      if (branch != null) {
+        args.add("--branch");
+        args.add(branch);
+      }
+    }
     args.add(gitUrl.url());
     args.add("--config");
     args.add("core.autocrlf=false");
     args.add(".");
-    runGitCommand(repository, args);
-    String branch = gitUrl.branch();
+    return args;
+  }
+
+  /**
+   * @param remote the name of the remote to fetch from.
+   * @param branch the branch to fetch or {@code null} for the default.
+   * @param quiet {@code true} for quiet mode, {@code false} otherwise.
+   * @return the arguments to fetch only the latest commit of the given branch.
+   */
+  static List<String> createShallowFetchArgs(String remote, String branch, boolean quiet) {
+
+    List<String> args = new ArrayList<>(7);
+    args.add("fetch");
+    if (quiet) {
+      args.add("-q");
+    }
+    args.add("--depth");
+    args.add("1");
+    args.add("--no-tags");
+    args.add(remote);
     if (branch != null) {
-      runGitCommand(repository, "switch", branch);
+      args.add(branch);
     }
+    return args;
   }
 
   @Override
@@ -306,11 +438,11 @@ public class GitContextImpl implements GitContext {
   public void cleanup(Path repository) {
 
     // check for untracked files
-    ProcessResult result = runGitCommand(repository, ProcessMode.DEFAULT_CAPTURE, "ls-files", "--other", "--directory", "--exclude-standard");
+    ProcessResult result = runGitCommand(repository, ProcessMode.DEFAULT_CAPTURE, ARGS_LIST_UNTRACKED.toArray(String[]::new));
     if (!result.getOut().isEmpty()) {
       // delete untracked files
       LOG.warn("Git detected untracked files in {} and is attempting a cleanup.", repository);
-      runGitCommand(repository, "clean", "-df");
+      runGitCommand(repository, ARGS_CLEAN);
     }
   }
 
@@ -36,6 +36,16 @@ public enum GitOperation {
       context.getGitContext().pullOrClone(gitUrl, targetRepository);
       return true;
     }
+  },
+
+  /** {@link GitOperation} for {@link GitContext#shallowCloneOrUpdate(GitUrl, Path)}. */
+  SHALLOW_CLONE_OR_UPDATE("shallow clone/update", GitContext.FILE_HEAD, Duration.ofMinutes(30)) {
+    @Override
+    protected boolean execute(IdeContext context, GitUrl gitUrl, Path targetRepository, String remote) {
+
+      context.getGitContext().shallowCloneOrUpdate(gitUrl, targetRepository);
+      return true;
+    }
   };
 
   private static final Logger LOG = LoggerFactory.getLogger(GitOperation.class);
@@ -91,7 +101,7 @@ public enum GitOperation {
    */
   public boolean isForceUpdateTimestampFile() {
 
-    return this == PULL_OR_CLONE;
+    return (this == PULL_OR_CLONE) || (this == SHALLOW_CLONE_OR_UPDATE);
   }
 
   /**
@@ -100,7 +110,7 @@ public enum GitOperation {
    */
   public boolean isNeededIfGitFolderNotPresent() {
 
-    return this == PULL_OR_CLONE;
+    return (this == PULL_OR_CLONE) || (this == SHALLOW_CLONE_OR_UPDATE);
   }
 
   /**
@@ -142,7 +152,7 @@ public enum GitOperation {
     }
   }
 
-  private boolean isNeeded(Path targetRepository, IdeContext context) {
+  boolean isNeeded(Path targetRepository, IdeContext context) {
 
     Path gitDirectory = targetRepository.resolve(".git");
     boolean hasGitDirectory = Files.isDirectory(gitDirectory);
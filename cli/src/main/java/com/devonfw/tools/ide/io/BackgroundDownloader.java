@@ -0,0 +1,204 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient.Version;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.devonfw.tools.ide.util.HexUtil;
+
+/**
+ * Downloader for background threads with limited bandwidth. Unlike {@link FileAccess} it is independent of the
+ * {@link com.devonfw.tools.ide.context.IdeContext} so it does not show a progress bar, does not log to the output of the main thread, and does not modify
+ * any shared state such as the {@link com.devonfw.tools.ide.network.NetworkStatus} or the metadata cache of the {@link FileAccess}. Errors are only thrown
+ * so the caller can report them from the main thread.
+ */
+public class BackgroundDownloader extends HttpDownloader {
+
+  private final List<Version> httpVersions;
+
+  private final long maxBytesPerSecond;
+
+  /**
+   * The constructor.
+   *
+   * @param httpVersions the {@link List} of HTTP {@link Version}s to try in the given order or an empty {@link List} for the default.
+   * @param maxBytesPerSecond the maximum number of bytes to transfer per second or {@code 0} for unlimited bandwidth.
+   */
+  public BackgroundDownloader(List<Version> httpVersions, long maxBytesPerSecond) {
+
+    super();
+    this.httpVersions = List.copyOf(httpVersions);
+    this.maxBytesPerSecond = maxBytesPerSecond;
+  }
+
+  /**
+   * @param url the location of the binary file to download. May also be a local or remote path to copy from.
+   * @param target the {@link Path} to the target file to download to. Should not already exist. The parent directory has to exist.
+   */
+  public void download(String url, Path target) {
+
+    if (url.startsWith("http")) {
+      downloadViaHttp(url, target);
+    } else if (url.startsWith("ftp") || url.startsWith("sftp")) {
+      throw new IllegalArgumentException("Unsupported download URL: " + url);
+    } else {
+      Path source = Path.of(url);
+      if (Files.isRegularFile(source)) {
+        try (InputStream in = Files.newInputStream(source)) {
+          transfer(in, target);
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to copy from " + source + " to " + target, e);
+        }
+      } else {
+        throw new IllegalArgumentException("Download path does not point to a downloadable file: " + url);
+      }
+    }
+  }
+
+  private void downloadViaHttp(String url, Path target) {
+
+    List<Version> versions = new ArrayList<>(this.httpVersions);
+    if (versions.isEmpty()) {
+      versions.add(null);
+    }
+    Exception lastException = null;
+    for (Version version : versions) {
+      try {
+        httpGet(url, version, (response) -> {
+          try (InputStream body = response.body()) {
+            transfer(body, target);
+          } catch (IOException e) {
+            throw new IllegalStateException("Failed to write " + target, e);
+          }
+        });
+        return;
+      } catch (Exception e) {
+        lastException = e;
+      }
+    }
+    throw new IllegalStateException("Failed to download file from URL " + url + " to " + target, lastException);
+  }
+
+  private void transfer(InputStream in, Path target) throws IOException {
+
+    BandwidthLimit limit = new BandwidthLimit(this.maxBytesPerSecond);
+    byte[] data = new byte[8192];
+    try (OutputStream out = Files.newOutputStream(target)) {
+      int count;
+      while ((count = in.read(data)) > 0) {
+        out.write(data, 0, count);
+        limit.transferred(count);
+      }
+    }
+  }
+
+  /**
+   * @param file the {@link Path} to the file to hash.
+   * @param hashAlgorithm the hash algorithm (e.g. SHA-256).
+   * @return the computed hash checksum as hex {@link String}.
+   * @see FileAccess#checksum(Path, String)
+   */
+  public String checksum(Path file, String hashAlgorithm) {
+
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance(hashAlgorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("No such hash algorithm " + hashAlgorithm, e);
+    }
+    byte[] buffer = new byte[8192];
+    try (InputStream is = Files.newInputStream(file); DigestInputStream dis = new DigestInputStream(is, md)) {
+      int read = 0;
+      while (read >= 0) {
+        read = dis.read(buffer);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read and hash file " + file, e);
+    }
+    return HexUtil.toHexString(md.digest());
+  }
+
+  /**
+   * Moves the given file to the given target unless the target already exists (e.g. because it has been downloaded concurrently by the main thread).
+   *
+   * @param source the {@link Path} to the downloaded file.
+   * @param target the {@link Path} to move the file to.
+   * @return {@code true} if the file has been moved, {@code false} if the target already existed and the source has been deleted instead.
+   */
+  public boolean move(Path source, Path target) {
+
+    try {
+      try {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(source, target);
+      }
+      return true;
+    } catch (FileAlreadyExistsException e) {
+      delete(source);
+      return false;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to move " + source + " to " + target, e);
+    }
+  }
+
+  /**
+   * @param file the {@link Path} to the file to delete if it exists.
+   */
+  public void delete(Path file) {
+
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete " + file, e);
+    }
+  }
+
+  /**
+   * Simple throttle that delays the transfer whenever it gets ahead of the configured bandwidth.
+   */
+  private static final class BandwidthLimit {
+
+    private final long maxBytesPerSecond;
+
+    private final long start;
+
+    private long bytes;
+
+    private BandwidthLimit(long maxBytesPerSecond) {
+
+      this.maxBytesPerSecond = maxBytesPerSecond;
+      this.start = System.nanoTime();
+    }
+
+    private void transferred(int count) {
+
+      this.bytes += count;
+      if (this.maxBytesPerSecond <= 0) {
+        return;
+      }
+      long expectedNanos = this.bytes * 1_000_000_000L / this.maxBytesPerSecond;
+      long aheadMillis = (expectedNanos - (System.nanoTime() - this.start)) / 1_000_000L;
+      if (aheadMillis > 0) {
+        try {
+          Thread.sleep(aheadMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted background download", e);
+        }
+      }
+    }
+  }
+
+}
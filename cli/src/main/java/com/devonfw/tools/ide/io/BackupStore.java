@@ -0,0 +1,323 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * The store of the backups created by {@link FileAccess#backup(Path)} in {@code «IDE_HOME»/backups/«yyyy»/«MM»/«dd»/«HH-mm-ss»_«name»} (or
+ * {@code «IDE_ROOT»/_ide/backups} outside of a project). Without pruning this folder grows with every tool update by the size of the replaced installation.
+ * Therefore, the backups can be {@link #prune() pruned} according to the configured {@link IdeVariables#IDE_BACKUP_MAX_AGE age} and
+ * {@link IdeVariables#IDE_BACKUP_MAX_SIZE size} budget. If {@link IdeVariables#IDE_BACKUP_DEDUPLICATION deduplication} is enabled, the files of a new backup
+ * are replaced with hard-links to identical files of other backups and it is marked with the file {@value #FILE_BACKUP_INFO} so later prunes only need to
+ * deduplicate new backups. As hashing is expensive, at most {@link #MAX_NEW_BACKUPS_PER_RUN} new backups are deduplicated per run. Since hard-linked files
+ * are shared across backups, the size is computed per file (inode) at prune time and each file is only counted once for all kept backups.
+ */
+public class BackupStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BackupStore.class);
+
+  /** Name of the marker file inside a backup that has already been processed (deduplicated). */
+  static final String FILE_BACKUP_INFO = ".ide-backup";
+
+  /** Name of the file inside the backups folder that maps the checksums of the files to a backup file with that content. */
+  static final String FILE_INDEX = ".ide-backup-index";
+
+  /** Backups younger than this are never pruned (e.g. the backups created by the currently running update). */
+  static final Duration MIN_AGE = Duration.ofHours(1);
+
+  /** The maximum number of new backups to deduplicate per run so enabling deduplication does not hash all existing backups at once. */
+  static final int MAX_NEW_BACKUPS_PER_RUN = 3;
+
+  private static final Pattern BACKUP_NAME_PATTERN = Pattern.compile("(\\d{2})-(\\d{2})-(\\d{2})_.*");
+
+  private final IdeContext context;
+
+  private final Path folder;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   * @param folder the {@link Path} to the backups folder.
+   */
+  public BackupStore(IdeContext context, Path folder) {
+
+    super();
+    this.context = context;
+    this.folder = folder;
+  }
+
+  /**
+   * @param context the {@link IdeContext}.
+   * @return the {@link BackupStore} where {@link FileAccess#backup(Path)} moves the backups to.
+   */
+  public static BackupStore of(IdeContext context) {
+
+    return new BackupStore(context, getBackupFolder(context));
+  }
+
+  /**
+   * @param context the {@link IdeContext}.
+   * @return the {@link Path} to the backups folder of the current project or of {@code IDE_ROOT/_ide} if not inside a project.
+   */
+  static Path getBackupFolder(IdeContext context) {
+
+    Path backupBaseDir = context.getIdeHome();
+    if (backupBaseDir == null) {
+      backupBaseDir = context.getIdePath();
+    }
+    return backupBaseDir.resolve(IdeContext.FOLDER_BACKUPS);
+  }
+
+  /**
+   * @return the {@link Path} to the backups folder.
+   */
+  public Path getFolder() {
+
+    return this.folder;
+  }
+
+  /**
+   * Processes new backups (deduplication and size computation) and deletes the backups exceeding the configured budget.
+   *
+   * @return the {@link List} of the {@link BackupEntry backups} that have been deleted.
+   */
+  public List<BackupEntry> prune() {
+
+    List<BackupEntry> deletions = findPrunable();
+    prune(deletions);
+    return deletions;
+  }
+
+  /**
+   * Processes new backups (deduplication) and determines the backups exceeding the configured budget without deleting them.
+   *
+   * @return the {@link List} of the {@link BackupEntry backups} to {@link #prune(List) prune}.
+   */
+  public List<BackupEntry> findPrunable() {
+
+    if (!Files.isDirectory(this.folder)) {
+      return List.of();
+    }
+    List<BackupEntry> entries = getEntries();
+    double maxAgeDays = IdeVariables.IDE_BACKUP_MAX_AGE.get(this.context);
+    double maxSizeMegabytes = IdeVariables.IDE_BACKUP_MAX_SIZE.get(this.context);
+    Duration maxAge = (maxAgeDays <= 0) ? null : Duration.ofMinutes((long) (maxAgeDays * 24 * 60));
+    long maxSize = (maxSizeMegabytes <= 0) ? 0 : (long) (maxSizeMegabytes * 1024 * 1024);
+    return selectForDeletion(entries, LocalDateTime.now(), maxAge, maxSize);
+  }
+
+  /**
+   * @param deletions the {@link List} of the {@link BackupEntry backups} to delete as {@link #findPrunable() determined before}.
+   */
+  public void prune(List<BackupEntry> deletions) {
+
+    FileAccess fileAccess = this.context.getFileAccess();
+    for (BackupEntry entry : deletions) {
+      LOG.debug("Pruning backup {} from {} with {} bytes", entry.path(), entry.time(), entry.size());
+      fileAccess.delete(entry.path());
+      deleteEmptyParents(entry.path().getParent());
+    }
+  }
+
+  /**
+   * Decides which backups to delete. The backups are considered from the newest to the oldest and are kept as long as they are within the age and size
+   * budget. Backups younger than {@link #MIN_AGE} are always kept. A file shared via hard-link by multiple kept backups only counts once.
+   *
+   * @param entries the {@link BackupEntry backups} to consider.
+   * @param now the current time.
+   * @param maxAge the maximum age of a backup or {@code null} for no age limit.
+   * @param maxSize the maximum total size of all kept backups in bytes or {@code 0} for no size limit.
+   * @return the {@link BackupEntry backups} to delete.
+   */
+  static List<BackupEntry> selectForDeletion(List<BackupEntry> entries, LocalDateTime now, Duration maxAge, long maxSize) {
+
+    List<BackupEntry> sorted = new ArrayList<>(entries);
+    sorted.sort(Comparator.comparing(BackupEntry::time).reversed());
+    List<BackupEntry> deletions = new ArrayList<>();
+    Set<Object> keptFiles = new HashSet<>();
+    long totalSize = 0;
+    for (BackupEntry entry : sorted) {
+      Duration age = Duration.between(entry.time(), now);
+      boolean recent = (age.compareTo(MIN_AGE) < 0);
+      long additionalSize = 0;
+      for (Map.Entry<Object, Long> file : entry.files().entrySet()) {
+        if (!keptFiles.contains(file.getKey())) {
+          additionalSize += file.getValue();
+        }
+      }
+      if (!recent && (maxAge != null) && (age.compareTo(maxAge) > 0)) {
+        deletions.add(entry);
+      } else if (!recent && (maxSize > 0) && (totalSize + additionalSize > maxSize)) {
+        deletions.add(entry);
+      } else {
+        keptFiles.addAll(entry.files().keySet());
+        totalSize += additionalSize;
+      }
+    }
+    return deletions;
+  }
+
+  /**
+   * @return the {@link List} of all {@link BackupEntry backups} from the newest to the oldest. If {@link IdeVariables#IDE_BACKUP_DEDUPLICATION enabled},
+   *     new backups are processed (deduplicated) before they are returned. As the newest backups are processed first, the older backups (that are pruned
+   *     first) are linked to the newer ones.
+   */
+  public List<BackupEntry> getEntries() {
+
+    List<BackupEntry> backups = new ArrayList<>();
+    if (!Files.isDirectory(this.folder)) {
+      return backups;
+    }
+    FileAccess fileAccess = this.context.getFileAccess();
+    for (Path year : fileAccess.listChildren(this.folder, Files::isDirectory)) {
+      for (Path month : fileAccess.listChildren(year, Files::isDirectory)) {
+        for (Path day : fileAccess.listChildren(month, Files::isDirectory)) {
+          for (Path backup : fileAccess.listChildren(day, Files::isDirectory)) {
+            LocalDateTime time = parseTime(year, month, day, backup);
+            if (time == null) {
+              LOG.debug("Ignoring unexpected folder {} in backups.", backup);
+            } else {
+              backups.add(new BackupEntry(backup, time, Map.of()));
+            }
+          }
+        }
+      }
+    }
+    backups.sort(Comparator.comparing(BackupEntry::time).reversed());
+    List<BackupEntry> entries = new ArrayList<>(backups.size());
+    HardLinkDeduplicator deduplicator = null;
+    if (IdeVariables.IDE_BACKUP_DEDUPLICATION.get(this.context)) {
+      deduplicator = new HardLinkDeduplicator(fileAccess, this.folder, FILE_INDEX);
+    }
+    int newBackups = 0;
+    for (BackupEntry backup : backups) {
+      if ((deduplicator != null) && (newBackups < MAX_NEW_BACKUPS_PER_RUN) && !Files.exists(backup.path().resolve(FILE_BACKUP_INFO))) {
+        processNewBackup(backup.path(), deduplicator, fileAccess);
+        newBackups++;
+      }
+      entries.add(new BackupEntry(backup.path(), backup.time(), collectFiles(backup.path())));
+    }
+    if (deduplicator != null) {
+      deduplicator.save();
+    }
+    return entries;
+  }
+
+  private static LocalDateTime parseTime(Path year, Path month, Path day, Path backup) {
+
+    Matcher matcher = BACKUP_NAME_PATTERN.matcher(backup.getFileName().toString());
+    if (!matcher.matches()) {
+      return null;
+    }
+    try {
+      return LocalDateTime.of(Integer.parseInt(year.getFileName().toString()), Integer.parseInt(month.getFileName().toString()),
+          Integer.parseInt(day.getFileName().toString()), Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+          Integer.parseInt(matcher.group(3)));
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Replaces the files of a new backup with hard-links to identical files of other backups and marks it as processed.
+   *
+   * @param backup the {@link Path} to the new backup.
+   * @param deduplicator the {@link HardLinkDeduplicator} for the backups folder.
+   * @param fileAccess the {@link FileAccess}.
+   */
+  private static void processNewBackup(Path backup, HardLinkDeduplicator deduplicator, FileAccess fileAccess) {
+
+    try {
+      deduplicator.deduplicate(backup);
+      fileAccess.writeFileContent("", backup.resolve(FILE_BACKUP_INFO));
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to process backup {}", backup, e);
+    }
+  }
+
+  /**
+   * @param backup the {@link Path} to the backup.
+   * @return the {@link Map} with the {@link BasicFileAttributes#fileKey() file key} (or {@link Path} if not supported) of each regular file in the backup
+   *     as key and its size in bytes as value.
+   */
+  private static Map<Object, Long> collectFiles(Path backup) {
+
+    Map<Object, Long> files = new HashMap<>();
+    try {
+      Files.walkFileTree(backup, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+
+          if (attributes.isRegularFile()) {
+            Object key = attributes.fileKey();
+            if (key == null) {
+              key = file;
+            }
+            files.put(key, attributes.size());
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException e) {
+      LOG.warn("Failed to compute size of backup {}", backup, e);
+    }
+    return files;
+  }
+
+  private void deleteEmptyParents(Path folder) {
+
+    Path current = folder;
+    while ((current != null) && !current.equals(this.folder) && current.startsWith(this.folder)) {
+      if (!this.context.getFileAccess().listChildren(current, child -> true).isEmpty()) {
+        return;
+      }
+      this.context.getFileAccess().delete(current);
+      current = current.getParent();
+    }
+  }
+
+  /**
+   * A single backup in the {@link BackupStore}.
+   *
+   * @param path the {@link Path} to the backup folder ({@code «HH-mm-ss»_«name»}).
+   * @param time the {@link LocalDateTime} when the backup was created.
+   * @param files the {@link Map} with the key of each file (to identify files shared via hard-link) and its size in bytes.
+   */
+  public record BackupEntry(Path path, LocalDateTime time, Map<Object, Long> files) {
+
+    /**
+     * @return the total size of the backup in bytes (including files shared with other backups via hard-link).
+     */
+    public long size() {
+
+      long size = 0;
+      for (long fileSize : this.files.values()) {
+        size += fileSize;
+      }
+      return size;
+    }
+  }
+
+}
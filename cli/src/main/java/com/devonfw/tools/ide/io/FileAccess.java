@@ -62,6 +62,27 @@ public interface FileAccess {
    */
   boolean isExpectedFolder(Path folder);
 
+  /**
+   * @param path the {@link Path} to check.
+   * @return {@code true} if the given {@link Path} exists, {@code false} otherwise. The result is cached until the file-system is modified via this
+   *     {@link FileAccess} (see {@link #clearMetadataCache()}).
+   */
+  boolean exists(Path path);
+
+  /**
+   * @param path the {@link Path} to check.
+   * @return {@code true} if the given {@link Path} is an existing directory, {@code false} otherwise. The result is cached until the file-system is
+   *     modified via this {@link FileAccess} (see {@link #clearMetadataCache()}).
+   */
+  boolean isDirectory(Path path);
+
+  /**
+   * Clears the cached metadata of {@link #exists(Path) existence}, {@link #isDirectory(Path) directories}, {@link #isJunction(Path) junctions}, and
+   * {@link #toRealPath(Path) real paths}. This happens automatically for all modifications via this {@link FileAccess} but has to be called after the
+   * file-system has been modified otherwise (e.g. by an external process or via {@link java.nio.file.Files}).
+   */
+  void clearMetadataCache();
+
   /**
    * @param file the {@link Path} to compute the checksum of.
    * @param hashAlgorithm the hash algorithm (e.g. SHA-266).
@@ -305,7 +326,8 @@ public interface FileAccess {
 
   /**
    * @param path the {@link Path} to convert.
-   * @return the absolute and physical {@link Path} (without symbolic links).
+   * @return the absolute and physical {@link Path} (without symbolic links). The result is cached until the file-system is modified via this
+   *     {@link FileAccess} (see {@link #clearMetadataCache()}).
    */
   Path toRealPath(Path path);
 
@@ -421,7 +443,8 @@ public interface FileAccess {
   boolean isEmptyDir(Path dir);
 
   /**
-   * Sets or unsets the writable permission for the specified file path.
+   * Sets or unsets the writable permission for the specified file path. A file sharing its content with other hard-links is replaced with a copy before it
+   * is made writable so the other hard-links stay read-only.
    *
    * @param file {@link Path} to the file.
    * @param writable {@code true} to make the file writable, {@code false} to make it read-only
@@ -497,6 +520,15 @@ public interface FileAccess {
    */
   void writeFileContent(String content, Path file, boolean createParentDir);
 
+  /**
+   * Like {@link #writeFileContent(String, Path)} but writes to a unique temporary file in the same folder that is then moved to the given file. Therefore,
+   * concurrent readers or other processes writing the same file never see a partially written file.
+   *
+   * @param content the {@link String} with the text to write to a file.
+   * @param file the {@link Path} to the file where to save. Its parent directory has to exist.
+   */
+  void writeFileContentAtomically(String content, Path file);
+
   /**
    * Like {@link #readFileContent(Path)} but giving one {@link String} per line of text. It will not allow to preserve line endings (CRLF vs. LF).
    *
@@ -529,7 +561,8 @@ public interface FileAccess {
 
   /**
    * @param path the {@link Path} to check.
-   * @return {@code true} if the given {@link Path} is a junction, false otherwise.
+   * @return {@code true} if the given {@link Path} is a junction, false otherwise. The result is cached until the file-system is modified via this
+   *     {@link FileAccess} (see {@link #clearMetadataCache()}).
    */
   boolean isJunction(Path path);
 
@@ -645,4 +678,11 @@ public interface FileAccess {
    */
   boolean isNonEmptyFile(Path file);
 
+  /**
+   * @param path the {@link Path} to the file or folder to measure.
+   * @return the total size in bytes of the given file or of all regular files contained in the given folder (recursively without following links). Will be
+   *     {@code 0} if the given {@link Path} does not exist.
+   */
+  long getSize(Path path);
+
 }
@@ -9,13 +9,18 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.DosFileAttributeView;
 import java.nio.file.attribute.FileTime;
@@ -51,8 +56,6 @@ import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.apache.commons.compress.compressors.gzip.GzipParameters;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +69,7 @@ import com.devonfw.tools.ide.os.SystemInfoImpl;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.util.DateTimeUtil;
 import com.devonfw.tools.ide.util.FilenameUtil;
 import com.devonfw.tools.ide.util.HexUtil;
@@ -84,8 +88,13 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       "On Windows, file operations could fail due to file locks. Please ensure the files in the moved directory are not in use. For further details, see: \n"
           + WINDOWS_FILE_LOCK_DOCUMENTATION_PAGE;
 
+  /** The maximum number of bytes to transfer at once when copying a file with progress bar. */
+  static final long COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+
   private final IdeContext context;
 
+  private final PathMetadataCache metadataCache;
+
   /**
    * The constructor.
    *
@@ -95,11 +104,21 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
 
     super();
     this.context = context;
+    this.metadataCache = new PathMetadataCache();
   }
 
   @Override
   public void download(String url, Path target) {
 
+    try {
+      doDownload(url, target);
+    } finally {
+      clearMetadataCache();
+    }
+  }
+
+  private void doDownload(String url, Path target) {
+
     if (url.startsWith("http")) {
       downloadViaHttp(url, target);
     } else if (url.startsWith("ftp") || url.startsWith("sftp")) {
@@ -171,6 +190,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     byte[] data = new byte[1024];
     boolean fileComplete = false;
     int count;
+    long downloadBytes = 0;
 
     try (InputStream body = response.body();
         FileOutputStream fileOutput = new FileOutputStream(target.toFile());
@@ -183,10 +203,16 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
         } else {
           bufferedOut.write(data, 0, count);
           pb.stepBy(count);
+          downloadBytes += count;
         }
       }
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      Step step = this.context.getCurrentStep();
+      if (step != null) {
+        step.addDownloadBytes(downloadBytes);
+      }
     }
   }
 
@@ -197,16 +223,18 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       copy(source, target, FileCopyMode.COPY_FILE_TO_TARGET_OVERRIDE);
       return;
     }
-    try (InputStream in = Files.newInputStream(source); OutputStream out = Files.newOutputStream(target)) {
-      byte[] buf = new byte[1024];
-      try (IdeProgressBar pb = this.context.newProgressbarForCopying(size)) {
-        int readBytes;
-        while ((readBytes = in.read(buf)) > 0) {
-          out.write(buf, 0, readBytes);
-          pb.stepBy(readBytes);
+    // transferTo allows the OS to copy the data in the kernel (copy_file_range, sendfile or even reflinks on CoW filesystems)
+    try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+        FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        IdeProgressBar pb = this.context.newProgressbarForCopying(size)) {
+      long position = 0;
+      while (position < size) {
+        long count = in.transferTo(position, Math.min(COPY_CHUNK_SIZE, size - position), out);
+        if (count <= 0) {
+          throw new IOException("Unexpected end of file " + source + " after " + position + " of " + size + " bytes.");
         }
-      } catch (Exception e) {
-        throw new RuntimeException(e);
+        position += count;
+        pb.stepBy(count);
       }
     } catch (IOException e) {
       throw new RuntimeException("Failed to copy from " + source + " to " + target, e);
@@ -231,6 +259,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       Files.createDirectories(directory);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to create directory " + directory, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -258,6 +288,33 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     return false;
   }
 
+  @Override
+  public boolean exists(Path path) {
+
+    return this.metadataCache.exists(path, p -> Files.exists(p));
+  }
+
+  @Override
+  public boolean isDirectory(Path path) {
+
+    return this.metadataCache.isDirectory(path, p -> Files.isDirectory(p));
+  }
+
+  @Override
+  public void clearMetadataCache() {
+
+    this.metadataCache.clear();
+  }
+
+  /**
+   * @return the number of lookups that have actually been performed on the file-system for {@link #exists(Path)}, {@link #isDirectory(Path)},
+   *     {@link #isJunction(Path)}, and {@link #toRealPath(Path)} (cache misses).
+   */
+  int getMetadataLookupCount() {
+
+    return this.metadataCache.getLookupCount();
+  }
+
   @Override
   public String checksum(Path file, String hashAlgorithm) {
 
@@ -286,6 +343,11 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     if (!SystemInfoImpl.INSTANCE.isWindows()) {
       return false;
     }
+    return this.metadataCache.isJunction(path, this::isJunctionUncached);
+  }
+
+  private boolean isJunctionUncached(Path path) {
+
     try {
       BasicFileAttributes attr = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
       return attr.isOther() && attr.isDirectory();
@@ -315,11 +377,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       String date = DateTimeUtil.formatDate(now, true);
       String time = DateTimeUtil.formatTime(now);
       String filename = fileOrFolder.getFileName().toString();
-      Path backupBaseDir = this.context.getIdeHome();
-      if (backupBaseDir == null) {
-        backupBaseDir = this.context.getIdePath();
-      }
-      Path backupPath = backupBaseDir.resolve(IdeContext.FOLDER_BACKUPS).resolve(date).resolve(time + "_" + filename);
+      Path backupPath = BackupStore.getBackupFolder(this.context).resolve(date).resolve(time + "_" + filename);
       backupPath = appendParentPath(backupPath, fileOrFolder.getParent(), 2);
       mkdirs(backupPath);
       Path target = backupPath.resolve(filename);
@@ -347,12 +405,14 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     try {
       Files.move(source, targetDir, copyOptions);
     } catch (IOException e) {
-      String fileType = Files.isSymbolicLink(source) ? "symlink" : isJunction(source) ? "junction" : Files.isDirectory(source) ? "directory" : "file";
+      String fileType = Files.isSymbolicLink(source) ? "symlink" : isJunctionUncached(source) ? "junction" : Files.isDirectory(source) ? "directory" : "file";
       String message = "Failed to move " + fileType + ": " + source + " to " + targetDir + ".";
       if (this.context.getSystemInfo().isWindows()) {
         message = message + "\n" + WINDOWS_FILE_LOCK_WARNING;
       }
       throw new IllegalStateException(message, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -398,6 +458,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       copyRecursive(source, target, mode, listener);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to " + operation + " " + source + " to " + target, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -519,6 +581,15 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
 
   @Override
   public PathLinkType link(Path source, Path link, boolean relative, PathLinkType type) {
+
+    try {
+      return doLink(source, link, relative, type);
+    } finally {
+      clearMetadataCache();
+    }
+  }
+
+  private PathLinkType doLink(Path source, Path link, boolean relative, PathLinkType type) {
     PathLinkType resultingPathLinkType = null;
     Path absoluteLink = link.toAbsolutePath().normalize();
     // Keep this lexical only: archive symlinks may point through links that are created later.
@@ -635,7 +706,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   @Override
   public Path toRealPath(Path path) {
 
-    return toRealPath(path, true);
+    return this.metadataCache.toRealPath(path, p -> toRealPath(p, true));
   }
 
   @Override
@@ -680,6 +751,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       return Files.createDirectory(tempDir);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to create temporary directory with prefix '" + name + "'!", e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -760,7 +833,11 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   public void extractZip(Path file, Path targetDir) {
 
     LOG.info("Extracting ZIP file {} to {}", file, targetDir);
-    extractZipWithJava(file, targetDir);
+    try {
+      extractZipWithJava(file, targetDir);
+    } finally {
+      clearMetadataCache();
+    }
   }
 
   /**
@@ -888,7 +965,11 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   @Override
   public void extractTar(Path file, Path targetDir, TarCompression compression) {
 
-    extractArchive(file, targetDir, in -> new TarArchiveInputStream(compression.unpack(in)));
+    try {
+      extractArchive(file, targetDir, in -> new TarArchiveInputStream(compression.unpack(in)));
+    } finally {
+      clearMetadataCache();
+    }
   }
 
   @Override
@@ -1051,9 +1132,10 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
 
     LOG.info("Extracting 7z file {} to {}", file, targetDir);
     List<PathLink> links = new ArrayList<>();
-    byte[] buffer = new byte[8192];
+    byte[] buffer = new byte[65536];
     Path root = targetDir.toAbsolutePath().normalize();
     try (SevenZFile sevenZFile = SevenZFile.builder().setPath(file).get();
+      ParallelFileWriter writer = new ParallelFileWriter();
       IdeProgressBar pb = this.context.newProgressbarForExtracting(getFileSize(file))) {
       SevenZArchiveEntry entry;
       while ((entry = sevenZFile.getNextEntry()) != null) {
@@ -1068,24 +1150,36 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
             resolveRelativePathSecure(entryPath.getParent().resolve(linkTarget).normalize(), root, linkTarget);
             links.add(new PathLink(Path.of(linkTarget), entryPath, PathLinkType.SYMBOLIC_LINK));
           } else {
-            try (OutputStream out = Files.newOutputStream(entryPath)) {
-              int n;
-              while ((n = sevenZFile.read(buffer)) != -1) {
-                out.write(buffer, 0, n);
-              }
-            }
+            Consumer<Path> setPermissions = null;
             if (unixMode != 0) {
-              setFilePermissions(entryPath, PathPermissions.of(unixMode), true);
+              setPermissions = path -> setFilePermissions(path, PathPermissions.of(unixMode), true);
+            }
+            if (ParallelFileWriter.isSupported(entry.getSize())) {
+              // decoding is sequential but the (small) files are written in parallel
+              writer.write(entryPath, read7zEntry(sevenZFile, entry), setPermissions);
+            } else {
+              try (OutputStream out = Files.newOutputStream(entryPath)) {
+                int n;
+                while ((n = sevenZFile.read(buffer)) != -1) {
+                  out.write(buffer, 0, n);
+                }
+              }
+              if (setPermissions != null) {
+                setPermissions.accept(entryPath);
+              }
             }
           }
         }
         pb.stepBy(Math.max(0L, entry.getSize()));
       }
+      writer.await();
       for (PathLink link : links) {
         link(link);
       }
     } catch (IOException e) {
       throw new IllegalStateException("Failed to extract " + file + " to " + targetDir, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -1112,13 +1206,29 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
    */
   private static String readSymbolicLinkTarget(SevenZFile sevenZFile, SevenZArchiveEntry entry) throws IOException {
 
-    byte[] target = new byte[(int) entry.getSize()];
+    return new String(read7zEntry(sevenZFile, entry), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the entire content of the current 7z entry.
+   *
+   * @param sevenZFile the {@link SevenZFile} positioned at the entry to read.
+   * @param entry the current {@link SevenZArchiveEntry}.
+   * @return the content of the entry.
+   * @throws IOException if reading the entry fails.
+   */
+  private static byte[] read7zEntry(SevenZFile sevenZFile, SevenZArchiveEntry entry) throws IOException {
+
+    byte[] data = new byte[(int) entry.getSize()];
     int read = 0;
     int n;
-    while (read < target.length && (n = sevenZFile.read(target, read, target.length - read)) != -1) {
+    while (read < data.length && (n = sevenZFile.read(data, read, data.length - read)) != -1) {
       read += n;
     }
-    return new String(target, StandardCharsets.UTF_8);
+    if (read < data.length) {
+      throw new IOException("Unexpected end of 7z entry " + entry.getName() + " after " + read + " of " + data.length + " bytes.");
+    }
+    return data;
   }
 
   @Override
@@ -1150,9 +1260,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   @Override
   public void compressTarGz(Path dir, OutputStream out) {
 
-    GzipParameters parameters = new GzipParameters();
-    parameters.setModificationTime(0);
-    try (GzipCompressorOutputStream gzOut = new GzipCompressorOutputStream(out, parameters)) {
+    // compressing is CPU-bound, so the blocks are compressed in parallel while the tree is walked
+    try (ParallelGzipOutputStream gzOut = new ParallelGzipOutputStream(out)) {
       compressTarOrThrow(dir, gzOut);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to compress directory " + dir + " to tar.gz file.", e);
@@ -1257,12 +1366,14 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       }
     } catch (IOException e) {
       throw new IllegalStateException("Failed to delete " + path, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
   private void deleteRecursive(Path path) throws IOException {
 
-    if (Files.isSymbolicLink(path) || isJunction(path)) {
+    if (Files.isSymbolicLink(path) || isJunctionUncached(path)) {
       LOG.trace("Deleting link {} ...", path);
       Files.delete(path);
       return;
@@ -1287,6 +1398,11 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   private void deletePath(Path path) throws IOException {
 
     LOG.trace("Deleting {} ...", path);
+    if (isHardLinked(path)) {
+      // removing a hard-link only requires write access to the parent folder, making it writable would also affect the other links
+      Files.delete(path);
+      return;
+    }
     boolean isSetWritable = setWritable(path, true);
     if (!isSetWritable) {
       LOG.debug("Couldn't give write access to file: {}", path);
@@ -1294,6 +1410,42 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     Files.delete(path);
   }
 
+  /**
+   * @param file the {@link Path} to check.
+   * @return {@code true} if the given {@link Path} is a regular file that shares its content with other hard-links (e.g. created by
+   *     {@link HardLinkDeduplicator}), {@code false} otherwise or if the file system does not support to determine the link count.
+   */
+  private static boolean isHardLinked(Path file) {
+
+    if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+      return false;
+    }
+    try {
+      return (Files.getAttribute(file, "unix:nlink", LinkOption.NOFOLLOW_LINKS) instanceof Integer linkCount) && (linkCount > 1);
+    } catch (UnsupportedOperationException | IllegalArgumentException | IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Replaces the given hard-linked file with a copy of its own so that changes of the file do not affect the other hard-links sharing its content.
+   *
+   * @param file the {@link Path} to the {@link #isHardLinked(Path) hard-linked} file.
+   * @throws IOException on error.
+   */
+  private static void breakHardLink(Path file) throws IOException {
+
+    LOG.debug("Replacing hard-link {} with a copy before it gets modified.", file);
+    Path tmp = file.resolveSibling(file.getFileName() + ".ide-unlink");
+    try {
+      Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+  }
+
   @Override
   public Path findFirst(Path dir, Predicate<Path> filter, boolean recursive) {
 
@@ -1425,6 +1577,38 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     }
   }
 
+  @Override
+  public long getSize(Path path) {
+
+    if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+      return 0;
+    }
+    long[] size = new long[1];
+    try {
+      Files.walkFileTree(path, new SimpleFileVisitor<>() {
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+          if (attrs.isRegularFile()) {
+            size[0] += attrs.size();
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+
+          LOG.debug("Failed to determine size of {}: {}", file, e.toString());
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to determine size of " + path, e);
+    }
+    return size[0];
+  }
+
 
   @Override
   public Path findExistingFile(String fileName, List<Path> searchDirs) {
@@ -1449,6 +1633,9 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       return false;
     }
     try {
+      if (writable && isHardLinked(file)) {
+        breakHardLink(file);
+      }
       // POSIX
       PosixFileAttributeView posix = Files.getFileAttributeView(file, PosixFileAttributeView.class);
       if (posix != null) {
@@ -1588,6 +1775,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
         Files.createFile(file);
       } catch (IOException e) {
         throw new IllegalStateException("Could not create empty file " + file, e);
+      } finally {
+        clearMetadataCache();
       }
     }
   }
@@ -1627,6 +1816,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       LOG.trace("Wrote content to file {}", file);
     } catch (IOException e) {
       throw new RuntimeException("Failed to write file " + file, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -1647,6 +1838,39 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     }
   }
 
+  @Override
+  public void writeFileContentAtomically(String content, Path file) {
+
+    if (content == null) {
+      content = "";
+    }
+    LOG.trace("Writing content with {} character(s) atomically to file {}", content.length(), file);
+    Path tmpFile = null;
+    try {
+      // a unique temporary file since other processes may write the same file concurrently
+      tmpFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      Files.writeString(tmpFile, content);
+      try {
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        LOG.trace("Atomic move not supported for {}", file, e);
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      LOG.trace("Wrote content to file {}", file);
+    } catch (IOException e) {
+      if (tmpFile != null) {
+        try {
+          Files.deleteIfExists(tmpFile);
+        } catch (IOException ignore) {
+          // best effort cleanup
+        }
+      }
+      throw new IllegalStateException("Failed to write file " + file, e);
+    } finally {
+      clearMetadataCache();
+    }
+  }
+
   @Override
   public void writeFileLines(List<String> content, Path file, boolean createParentDir) {
 
@@ -1665,6 +1889,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       LOG.trace("Wrote lines to file {}", file);
     } catch (IOException e) {
       throw new RuntimeException("Failed to write file " + file, e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
@@ -1690,6 +1916,8 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       LOG.debug("Successfully saved {} properties to {}", properties.size(), file);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to save properties file during tests.", e);
+    } finally {
+      clearMetadataCache();
     }
   }
 
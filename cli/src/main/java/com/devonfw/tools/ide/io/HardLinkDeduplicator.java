@@ -0,0 +1,256 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replaces files with hard-links to files with identical content inside the same {@link #getFolder() folder}. The files are identified by their size and
+ * SHA-256 checksum that are stored in an index file so only new files need to be hashed in later runs. Before a file is replaced, its content is compared
+ * byte by byte with the linked file so a file that has been modified in place after it was indexed is never linked. As an in-place modification of a linked
+ * file would change all files sharing it, linked files are made read-only and files that are typically modified in place (e.g. {@code cacerts},
+ * configuration files or the eclipse p2 configuration) are never linked. Symbolic links and files with different permissions are not linked either.
+ */
+public class HardLinkDeduplicator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HardLinkDeduplicator.class);
+
+  /** Smaller files are not worth to be deduplicated. */
+  static final long MIN_DEDUPLICATION_SIZE = 4096;
+
+  /** Names of files that are typically modified in place (e.g. via {@code keytool -importcert} or when eclipse installs plugins via p2). */
+  private static final Set<String> MUTABLE_FILE_NAMES = Set.of("cacerts", "jssecacerts", "bundles.info", "source.info", ".fileTable");
+
+  /** Names of folders whose files are typically modified in place at runtime (e.g. the eclipse configuration area and p2 profile registry). */
+  private static final Set<String> MUTABLE_FOLDER_NAMES = Set.of("configuration", "p2");
+
+  /** Extensions of configuration files that are typically modified in place. */
+  private static final Set<String> MUTABLE_FILE_EXTENSIONS = Set.of("cfg", "conf", "ini", "json", "properties", "vmoptions", "xml", "yaml", "yml");
+
+  private final FileAccess fileAccess;
+
+  private final Path folder;
+
+  private final Path indexFile;
+
+  private Map<String, Path> index;
+
+  /**
+   * The constructor.
+   *
+   * @param fileAccess the {@link FileAccess} to compute checksums and save the index.
+   * @param folder the {@link Path} to the folder containing all files that may be linked.
+   * @param indexFileName the name of the index file inside the given {@code folder}.
+   */
+  public HardLinkDeduplicator(FileAccess fileAccess, Path folder, String indexFileName) {
+
+    super();
+    this.fileAccess = fileAccess;
+    this.folder = folder;
+    this.indexFile = folder.resolve(indexFileName);
+  }
+
+  /**
+   * @return the {@link Path} to the folder containing all files that may be linked.
+   */
+  public Path getFolder() {
+
+    return this.folder;
+  }
+
+  /**
+   * Replaces the files in the given tree with hard-links to identical files that have been indexed before and adds the other files to the index.
+   *
+   * @param tree the {@link Path} to the folder with the files to deduplicate. Has to be inside the {@link #getFolder() folder}.
+   * @return the {@link DeduplicationResult}.
+   * @throws IOException on error.
+   */
+  public DeduplicationResult deduplicate(Path tree) throws IOException {
+
+    Map<String, Path> map = getIndex();
+    long size = 0;
+    long reclaimed = 0;
+    int linkCount = 0;
+    try (Stream<Path> stream = Files.walk(tree)) {
+      Iterator<Path> iterator = stream.filter(p -> Files.isRegularFile(p, LinkOption.NOFOLLOW_LINKS)).iterator();
+      while (iterator.hasNext()) {
+        Path file = iterator.next();
+        long fileSize = Files.size(file);
+        if ((fileSize >= MIN_DEDUPLICATION_SIZE) && !isMutable(tree, file)) {
+          String key = fileSize + ":" + this.fileAccess.checksum(file, "SHA-256");
+          Path existing = map.get(key);
+          if ((existing != null) && !existing.equals(file) && link(file, existing)) {
+            linkCount++;
+            reclaimed += fileSize;
+            continue;
+          }
+          map.put(key, file);
+        }
+        size += fileSize;
+      }
+    } finally {
+      if (linkCount > 0) {
+        // files have been replaced with links without FileAccess
+        this.fileAccess.clearMetadataCache();
+      }
+    }
+    LOG.debug("Deduplicated {} files of {} reclaiming {} bytes", linkCount, tree, reclaimed);
+    return new DeduplicationResult(size, reclaimed, linkCount);
+  }
+
+  private static boolean isMutable(Path tree, Path file) {
+
+    String filename = file.getFileName().toString();
+    if (MUTABLE_FILE_NAMES.contains(filename)) {
+      return true;
+    }
+    for (Path segment : tree.relativize(file.getParent())) {
+      if (MUTABLE_FOLDER_NAMES.contains(segment.toString())) {
+        return true;
+      }
+    }
+    int lastDot = filename.lastIndexOf('.');
+    return (lastDot > 0) && MUTABLE_FILE_EXTENSIONS.contains(filename.substring(lastDot + 1).toLowerCase(Locale.ROOT));
+  }
+
+  private static boolean link(Path file, Path existing) {
+
+    Path tmp = file.resolveSibling(file.getFileName() + ".ide-link");
+    try {
+      if (!Files.isRegularFile(existing, LinkOption.NOFOLLOW_LINKS)) {
+        return false;
+      }
+      if (Files.isSameFile(file, existing)) {
+        return true;
+      }
+      if (!hasSamePermissions(file, existing)) {
+        // a hard-link shares the permissions (e.g. the executable flag) of the linked file
+        LOG.debug("Not deduplicating {} since its permissions differ from {}", file, existing);
+        return false;
+      }
+      if (Files.mismatch(file, existing) != -1) {
+        // the indexed file has been modified in place since it was indexed
+        LOG.debug("Not deduplicating {} since {} has been modified", file, existing);
+        return false;
+      }
+      // an in-place modification of the shared file would affect all linked files
+      if (!existing.toFile().setWritable(false, false)) {
+        LOG.debug("Not deduplicating {} since {} cannot be made read-only", file, existing);
+        return false;
+      }
+      Files.createLink(tmp, existing);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+      return true;
+    } catch (Exception e) {
+      // e.g. hard-links not supported by the file system
+      LOG.debug("Failed to deduplicate {} with {}", file, existing, e);
+      try {
+        Files.deleteIfExists(tmp);
+      } catch (IOException ex) {
+        LOG.debug("Failed to delete {}", tmp, ex);
+      }
+      return false;
+    }
+  }
+
+  private static boolean hasSamePermissions(Path file, Path existing) throws IOException {
+
+    if (!file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+      return true;
+    }
+    Set<PosixFilePermission> filePermissions = withoutWritePermissions(Files.getPosixFilePermissions(file, LinkOption.NOFOLLOW_LINKS));
+    Set<PosixFilePermission> existingPermissions = withoutWritePermissions(Files.getPosixFilePermissions(existing, LinkOption.NOFOLLOW_LINKS));
+    return filePermissions.equals(existingPermissions);
+  }
+
+  /**
+   * @param permissions the {@link PosixFilePermission}s.
+   * @return the given {@link PosixFilePermission}s without the write permissions that are removed from linked files anyway.
+   */
+  private static Set<PosixFilePermission> withoutWritePermissions(Set<PosixFilePermission> permissions) {
+
+    Set<PosixFilePermission> result = EnumSet.noneOf(PosixFilePermission.class);
+    result.addAll(permissions);
+    result.remove(PosixFilePermission.OWNER_WRITE);
+    result.remove(PosixFilePermission.GROUP_WRITE);
+    result.remove(PosixFilePermission.OTHERS_WRITE);
+    return result;
+  }
+
+  private Map<String, Path> getIndex() {
+
+    if (this.index == null) {
+      this.index = loadIndex();
+    }
+    return this.index;
+  }
+
+  private Map<String, Path> loadIndex() {
+
+    Map<String, Path> map = new HashMap<>();
+    if (Files.exists(this.indexFile)) {
+      try (BufferedReader reader = Files.newBufferedReader(this.indexFile)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          int tab = line.indexOf('\t');
+          if (tab > 0) {
+            map.put(line.substring(0, tab), this.folder.resolve(line.substring(tab + 1)));
+          }
+        }
+      } catch (IOException e) {
+        LOG.debug("Ignoring corrupt deduplication index {}", this.indexFile, e);
+        map.clear();
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Saves the index so later runs do not need to hash the files again. Entries of files that do not exist anymore are dropped.
+   */
+  public void save() {
+
+    if (this.index == null) {
+      return;
+    }
+    StringBuilder sb = new StringBuilder(this.index.size() * 128);
+    for (Entry<String, Path> entry : this.index.entrySet()) {
+      Path file = entry.getValue();
+      if (Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+        sb.append(entry.getKey()).append('\t').append(this.folder.relativize(file).toString()).append('\n');
+      }
+    }
+    try {
+      this.fileAccess.writeFileContentAtomically(sb.toString(), this.indexFile);
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to save deduplication index {}", this.indexFile, e);
+    }
+  }
+
+  /**
+   * The result of {@link #deduplicate(Path)}.
+   *
+   * @param size the size of the deduplicated tree in bytes excluding the files replaced with hard-links.
+   * @param reclaimed the size in bytes of the files replaced with hard-links.
+   * @param linkCount the number of files replaced with hard-links.
+   */
+  public record DeduplicationResult(long size, long reclaimed, int linkCount) {
+
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.devonfw.tools.ide.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Writes files in parallel while the caller continues to decode the next entries of an archive. Creating many small files is dominated by the file-system
+ * (and on Windows by virus scanners) rather than by the decompression, so offloading the writes to a small pool of threads speeds up the extraction even
+ * though the archive itself can only be decoded sequentially. The amount of data that has been decoded but not yet written is limited to
+ * {@link #MAX_BYTES_IN_FLIGHT} to bound the memory consumption.
+ */
+final class ParallelFileWriter implements AutoCloseable {
+
+  /** Files up to this size are written in the background, larger files should be written directly by the caller. */
+  static final int MAX_FILE_SIZE = 4 * 1024 * 1024;
+
+  private static final int MAX_BYTES_IN_FLIGHT = 64 * 1024 * 1024;
+
+  private static final int MAX_THREADS = 4;
+
+  private final ExecutorService executor;
+
+  private final Semaphore bytesInFlight;
+
+  private final AtomicReference<RuntimeException> error;
+
+  ParallelFileWriter() {
+
+    super();
+    int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+    this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "ide-file-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.bytesInFlight = new Semaphore(MAX_BYTES_IN_FLIGHT);
+    this.error = new AtomicReference<>();
+  }
+
+  /**
+   * @param size the size of the file in bytes.
+   * @return {@code true} if a file of the given size can be {@link #write(Path, byte[], Consumer) written in the background}, {@code false} otherwise.
+   */
+  static boolean isSupported(long size) {
+
+    return (size >= 0) && (size <= MAX_FILE_SIZE);
+  }
+
+  /**
+   * Writes the given data to the given file asynchronously. Blocks if too much data is already waiting to be written.
+   *
+   * @param file the {@link Path} of the file to write. Its parent directory has to exist.
+   * @param data the content of the file. Must not be modified by the caller afterwards.
+   * @param postProcessor the {@link Consumer} called with the file after it has been written (e.g. to set permissions) or {@code null}.
+   */
+  void write(Path file, byte[] data, Consumer<Path> postProcessor) {
+
+    rethrowError();
+    int size = Math.max(1, data.length);
+    this.bytesInFlight.acquireUninterruptibly(size);
+    try {
+      this.executor.execute(() -> {
+        try {
+          Files.write(file, data);
+          if (postProcessor != null) {
+            postProcessor.accept(file);
+          }
+        } catch (Exception e) {
+          this.error.compareAndSet(null, new IllegalStateException("Failed to write file " + file, e));
+        } finally {
+          this.bytesInFlight.release(size);
+        }
+      });
+    } catch (RuntimeException e) {
+      this.bytesInFlight.release(size);
+      throw e;
+    }
+  }
+
+  /**
+   * Waits until all files have been written.
+   *
+   * @throws IllegalStateException if any file could not be written.
+   */
+  void await() {
+
+    this.executor.shutdown();
+    try {
+      while (!this.executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        // keep waiting until all files are written
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for files to be written.", e);
+    }
+    rethrowError();
+  }
+
+  private void rethrowError() {
+
+    RuntimeException e = this.error.get();
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() {
+
+    this.executor.shutdownNow();
+  }
+
+}
@@ -0,0 +1,242 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * {@link OutputStream} that writes the gzip format and compresses independent blocks of the data in parallel (like {@code pigz}). Each block is deflated
+ * with the last {@value #DICTIONARY_SIZE} bytes of the previous block as preset dictionary and terminated with a sync flush, so the blocks can simply be
+ * concatenated to a single standard deflate stream. The compressed output only depends on the data and not on the number of threads or the timing, so the
+ * result is reproducible. Blocks are compressed in the background while the caller keeps on writing (e.g. walking the file tree).
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+
+  private static final int BLOCK_SIZE = 128 * 1024;
+
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+
+  private static final int MAX_THREADS = 8;
+
+  private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+  private final OutputStream out;
+
+  private final int level;
+
+  private final ExecutorService executor;
+
+  private final int maxPendingBlocks;
+
+  private final Deque<Future<byte[]>> pendingBlocks;
+
+  private final CRC32 crc;
+
+  private byte[] block;
+
+  private int blockLength;
+
+  private byte[] dictionary;
+
+  private long size;
+
+  private boolean closed;
+
+  /**
+   * The constructor.
+   *
+   * @param out the {@link OutputStream} to write the gzip data to.
+   * @throws IOException if writing the gzip header fails.
+   */
+  ParallelGzipOutputStream(OutputStream out) throws IOException {
+
+    this(out, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param out the {@link OutputStream} to write the gzip data to.
+   * @param level the compression level (see {@link Deflater#setLevel(int)}).
+   * @throws IOException if writing the gzip header fails.
+   */
+  ParallelGzipOutputStream(OutputStream out, int level) throws IOException {
+
+    super();
+    this.out = out;
+    this.level = level;
+    int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+    this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "ide-gzip");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.maxPendingBlocks = 2 * threads;
+    this.pendingBlocks = new ArrayDeque<>();
+    this.crc = new CRC32();
+    this.block = new byte[BLOCK_SIZE];
+    byte[] header = HEADER.clone();
+    if (level == Deflater.BEST_COMPRESSION) {
+      header[8] = 2;
+    } else if (level == Deflater.BEST_SPEED) {
+      header[8] = 4;
+    }
+    out.write(header);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+
+    write(new byte[] { (byte) b }, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] data, int offset, int length) throws IOException {
+
+    ensureOpen();
+    this.crc.update(data, offset, length);
+    this.size += length;
+    while (length > 0) {
+      int count = Math.min(length, BLOCK_SIZE - this.blockLength);
+      System.arraycopy(data, offset, this.block, this.blockLength, count);
+      this.blockLength += count;
+      offset += count;
+      length -= count;
+      if (this.blockLength == BLOCK_SIZE) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  private void submitBlock(boolean last) throws IOException {
+
+    byte[] data = this.block;
+    int length = this.blockLength;
+    byte[] presetDictionary = this.dictionary;
+    if (length >= DICTIONARY_SIZE) {
+      this.dictionary = Arrays.copyOfRange(data, length - DICTIONARY_SIZE, length);
+    } else if (length > 0) {
+      this.dictionary = concatDictionary(presetDictionary, data, length);
+    }
+    this.pendingBlocks.add(this.executor.submit(() -> deflate(data, length, presetDictionary, last)));
+    this.block = new byte[BLOCK_SIZE];
+    this.blockLength = 0;
+    while (this.pendingBlocks.size() > this.maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private static byte[] concatDictionary(byte[] previous, byte[] data, int length) {
+
+    int previousLength = (previous == null) ? 0 : Math.min(previous.length, DICTIONARY_SIZE - length);
+    byte[] result = new byte[previousLength + length];
+    if (previousLength > 0) {
+      System.arraycopy(previous, previous.length - previousLength, result, 0, previousLength);
+    }
+    System.arraycopy(data, 0, result, previousLength, length);
+    return result;
+  }
+
+  private byte[] deflate(byte[] data, int length, byte[] presetDictionary, boolean last) {
+
+    Deflater deflater = new Deflater(this.level, true);
+    try {
+      if (presetDictionary != null) {
+        deflater.setDictionary(presetDictionary);
+      }
+      deflater.setInput(data, 0, length);
+      if (last) {
+        deflater.finish();
+      }
+      ByteArrayOutputStream result = new ByteArrayOutputStream(length / 2 + 64);
+      byte[] buffer = new byte[16 * 1024];
+      while (true) {
+        int count = deflater.deflate(buffer, 0, buffer.length, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+        result.write(buffer, 0, count);
+        if (last ? deflater.finished() : (count < buffer.length)) {
+          return result.toByteArray();
+        }
+      }
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+
+    Future<byte[]> future = this.pendingBlocks.removeFirst();
+    try {
+      this.out.write(future.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while compressing.", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to compress block.", e.getCause());
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+
+    if (this.closed) {
+      throw new IOException("Stream already closed.");
+    }
+  }
+
+  /**
+   * Compresses the remaining data and writes the gzip trailer without closing the underlying {@link OutputStream}.
+   *
+   * @throws IOException on error.
+   */
+  public void finish() throws IOException {
+
+    ensureOpen();
+    this.closed = true;
+    try {
+      submitBlock(true);
+      while (!this.pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+      writeIntLittleEndian(this.crc.getValue());
+      writeIntLittleEndian(this.size);
+    } finally {
+      this.executor.shutdownNow();
+    }
+  }
+
+  private void writeIntLittleEndian(long value) throws IOException {
+
+    this.out.write((int) (value & 0xff));
+    this.out.write((int) ((value >> 8) & 0xff));
+    this.out.write((int) ((value >> 16) & 0xff));
+    this.out.write((int) ((value >> 24) & 0xff));
+  }
+
+  @Override
+  public void flush() throws IOException {
+
+    this.out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+
+    try {
+      if (!this.closed) {
+        finish();
+      }
+    } finally {
+      this.executor.shutdownNow();
+      this.out.close();
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+package com.devonfw.tools.ide.io;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache for metadata of {@link Path}s such as existence, directory, junction, or {@link Path#toRealPath(java.nio.file.LinkOption...) real path} that lives
+ * as long as the {@link FileAccessImpl} (one IDEasy invocation). The same paths (e.g. the links of the installed tools in {@code IDE_HOME/software}) are
+ * checked and resolved many times per command and each check is a system call. The cache is {@link #clear() cleared} entirely whenever the file-system is
+ * modified via {@link FileAccess} or by a process. Lookups may run concurrently (e.g. from background threads). A value that was looked up while the cache
+ * was {@link #clear() cleared} is discarded since it may already be outdated, so the cache never returns results from before the last modification.
+ */
+final class PathMetadataCache {
+
+  private final Map<Path, Boolean> exists;
+
+  private final Map<Path, Boolean> directories;
+
+  private final Map<Path, Boolean> junctions;
+
+  private final Map<Path, Path> realPaths;
+
+  private final AtomicInteger lookups;
+
+  private final AtomicLong generation;
+
+  PathMetadataCache() {
+
+    super();
+    this.exists = new ConcurrentHashMap<>();
+    this.directories = new ConcurrentHashMap<>();
+    this.junctions = new ConcurrentHashMap<>();
+    this.realPaths = new ConcurrentHashMap<>();
+    this.lookups = new AtomicInteger();
+    this.generation = new AtomicLong();
+  }
+
+  /**
+   * @param path the {@link Path} to check.
+   * @param lookup the {@link Function} to check the existence on the file-system if not cached.
+   * @return {@code true} if the {@link Path} exists, {@code false} otherwise.
+   */
+  boolean exists(Path path, Function<Path, Boolean> lookup) {
+
+    return get(this.exists, path, lookup);
+  }
+
+  /**
+   * @param path the {@link Path} to check.
+   * @param lookup the {@link Function} to check for a directory on the file-system if not cached.
+   * @return {@code true} if the {@link Path} is a directory, {@code false} otherwise.
+   */
+  boolean isDirectory(Path path, Function<Path, Boolean> lookup) {
+
+    return get(this.directories, path, lookup);
+  }
+
+  /**
+   * @param path the {@link Path} to check.
+   * @param lookup the {@link Function} to check for a junction on the file-system if not cached.
+   * @return {@code true} if the {@link Path} is a junction, {@code false} otherwise.
+   */
+  boolean isJunction(Path path, Function<Path, Boolean> lookup) {
+
+    return get(this.junctions, path, lookup);
+  }
+
+  /**
+   * @param path the {@link Path} to resolve.
+   * @param lookup the {@link Function} to resolve the real path on the file-system if not cached.
+   * @return the real {@link Path}.
+   */
+  Path toRealPath(Path path, Function<Path, Path> lookup) {
+
+    return get(this.realPaths, path, lookup);
+  }
+
+  private <V> V get(Map<Path, V> map, Path path, Function<Path, V> lookup) {
+
+    V value = map.get(path);
+    if (value == null) {
+      long lookupGeneration = this.generation.get();
+      this.lookups.incrementAndGet();
+      value = lookup.apply(path);
+      map.put(path, value);
+      if (this.generation.get() != lookupGeneration) {
+        // cleared during the lookup so the value may be outdated, clear() increments the generation before clearing so we cannot miss it
+        map.remove(path, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Clears all cached metadata after the file-system has been modified.
+   */
+  void clear() {
+
+    this.generation.incrementAndGet();
+    this.exists.clear();
+    this.directories.clear();
+    this.junctions.clear();
+    this.realPaths.clear();
+  }
+
+  /**
+   * @return the number of lookups that have actually been performed on the file-system (cache misses).
+   */
+  int getLookupCount() {
+
+    return this.lookups.get();
+  }
+
+}
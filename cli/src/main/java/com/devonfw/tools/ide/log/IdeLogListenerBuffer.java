@@ -1,13 +1,18 @@
 package com.devonfw.tools.ide.log;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implements {@link IdeLogListener} to buffer log events during bootstrapping and then flush them once the logger is properly configured.
+ * Implements {@link IdeLogListener} to buffer log events during bootstrapping and then flush them once the logger is properly configured. Buffered events are
+ * stored with their raw message and arguments so the message is only formatted when flushed (and only if its {@link IdeLogLevel} is then enabled). To avoid
+ * that verbose logging consumes unlimited memory, the events below {@link IdeLogLevel#WARNING} are bounded to {@link #DEFAULT_CAPACITY} and the oldest of them
+ * are discarded if exceeded. Events of {@link IdeLogLevel#WARNING} or higher are never discarded. This class is thread-safe as background threads may log
+ * while buffering.
  *
  * @see com.devonfw.tools.ide.context.IdeContext#runWithoutLogging(Runnable)
  */
@@ -15,11 +20,20 @@ public class IdeLogListenerBuffer implements IdeLogListener {
 
   private static final Logger LOG = LoggerFactory.getLogger(IdeLogListenerBuffer.class);
 
-  protected final List<IdeLogEntry> buffer;
+  /** The default maximum number of log events below {@link IdeLogLevel#WARNING} to buffer. */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  protected final Deque<IdeLogEntry> buffer;
 
   protected IdeLogLevel threshold;
 
-  private boolean buffering;
+  private final int capacity;
+
+  private volatile boolean buffering;
+
+  private int boundedCount;
+
+  private int discarded;
 
   /**
    * The constructor.
@@ -29,23 +43,78 @@ public class IdeLogListenerBuffer implements IdeLogListener {
   }
 
   IdeLogListenerBuffer(boolean buffering) {
+    this(buffering, DEFAULT_CAPACITY);
+  }
+
+  IdeLogListenerBuffer(boolean buffering, int capacity) {
     super();
-    this.buffer = new ArrayList<>();
+    this.buffer = new ArrayDeque<>();
     this.threshold = IdeLogLevel.TRACE;
     this.buffering = buffering;
+    this.capacity = capacity;
   }
 
   @Override
-  public boolean onLog(IdeLogLevel level, String message, String rawMessage, Object[] args, Throwable error) {
+  public synchronized boolean onLog(IdeLogLevel level, String message, String rawMessage, Object[] args, Throwable error) {
     if (this.buffering) {
-      if (level.ordinal() >= threshold.ordinal()) {
-        this.buffer.add(new IdeLogEntry(level, message, rawMessage, args, error));
+      if (rawMessage == null) {
+        rawMessage = message;
+        args = null;
       }
+      buffer(level, rawMessage, args, error);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Buffers the given log event if {@link #isBuffering() buffering} without formatting its message.
+   *
+   * @param level the {@link IdeLogLevel}.
+   * @param rawMessage the raw message template (without args filled in).
+   * @param args the optional message arguments.
+   * @param error the optional error.
+   * @return {@code true} if {@link #isBuffering() buffering} so the log event has been consumed, {@code false} otherwise (regular logging).
+   */
+  public synchronized boolean buffer(IdeLogLevel level, String rawMessage, Object[] args, Throwable error) {
+    if (!this.buffering) {
       return false;
     }
+    if (level.ordinal() >= this.threshold.ordinal()) {
+      if (isBounded(level)) {
+        if (this.boundedCount >= this.capacity) {
+          discardOldestBoundedEntry();
+        } else {
+          this.boundedCount++;
+        }
+      }
+      this.buffer.addLast(new IdeLogEntry(level, null, rawMessage, args, error));
+    }
     return true;
   }
 
+  private static boolean isBounded(IdeLogLevel level) {
+    return level.ordinal() < IdeLogLevel.WARNING.ordinal();
+  }
+
+  private void discardOldestBoundedEntry() {
+    Iterator<IdeLogEntry> iterator = this.buffer.iterator();
+    while (iterator.hasNext()) {
+      if (isBounded(iterator.next().level())) {
+        iterator.remove();
+        this.discarded++;
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return the number of log events currently buffered.
+   */
+  synchronized int getBufferSize() {
+    return this.buffer.size();
+  }
+
   /**
    * @return {@code true} if this collector is currently buffering all logs, {@code false} otherwise (regular logging).
    */
@@ -56,19 +125,24 @@ public class IdeLogListenerBuffer implements IdeLogListener {
   /**
    * This method is supposed to be called once after invocation of {@link #startBuffering(IdeLogLevel)}.
    */
-  public void flushAndEndBuffering() {
+  public synchronized void flushAndEndBuffering() {
 
     if (!this.buffering) {
       return; // buffering already ended
     }
     // disable buffering further log events
     this.buffering = false;
+    if (this.discarded > 0) {
+      LOG.warn("Discarded {} log events below warning level as the buffer limit of {} was exceeded.", this.discarded, this.capacity);
+      this.discarded = 0;
+    }
     // write all cached log events to the logger again for processing
     for (IdeLogEntry entry : this.buffer) {
       IdeLogLevel level = entry.level();
       level.log(LOG, entry.error(), entry.rawMessage(), entry.args());
     }
     this.buffer.clear();
+    this.boundedCount = 0;
     this.threshold = IdeLogLevel.TRACE;
   }
 
@@ -78,7 +152,7 @@ public class IdeLogListenerBuffer implements IdeLogListener {
    * @param threshold the {@link IdeLogLevel} acting as threshold.
    * @see com.devonfw.tools.ide.context.IdeContext#runWithoutLogging(Runnable, IdeLogLevel)
    */
-  public void startBuffering(IdeLogLevel threshold) {
+  public synchronized void startBuffering(IdeLogLevel threshold) {
 
     assert (!this.buffering);
     this.threshold = threshold;
@@ -132,6 +132,9 @@ public class Slf4jLoggerAdapter extends AbstractLogger implements LoggingEventAw
       listener = startContext.getLogListener();
       argFormatter = startContext.getArgFormatter();
     }
+    if ((listener instanceof IdeLogListenerBuffer buffer) && buffer.buffer(ideLevel, message, args, error)) {
+      return; // buffered without composing the message that will be done when flushed
+    }
     String composedMessage = compose(argFormatter, message, args);
     boolean accept = listener.onLog(ideLevel, composedMessage, message, args, error);
     if (accept) {
@@ -63,6 +63,7 @@ public class DirectoryMerger extends AbstractWorkspaceMerger {
   @Override
   public int merge(Path setup, Path update, EnvironmentVariables variables, Path workspace) {
 
+    variables = variables.cached();
     int errors = 0;
     Set<String> children = null;
     children = addChildren(setup, children);
@@ -99,6 +100,7 @@ public class DirectoryMerger extends AbstractWorkspaceMerger {
   @Override
   public void inverseMerge(Path workspace, EnvironmentVariables variables, boolean addNewProperties, Path update) {
 
+    variables = variables.cached();
     if (Files.isDirectory(update)) {
       if (!Files.isDirectory(workspace)) {
         Log.warn("Workspace is missing directory: {}", workspace);
@@ -1,38 +1,28 @@
 package com.devonfw.tools.ide.merge;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.Reader;
-import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
-import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
-import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
-import jakarta.json.JsonReader;
-import jakarta.json.JsonString;
-import jakarta.json.JsonStructure;
-import jakarta.json.JsonValue;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
-import jakarta.json.stream.JsonGenerator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.util.DefaultIndenter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -42,7 +32,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
 /**
- * Implementation of {@link FileMerger} for JSON.
+ * Implementation of {@link FileMerger} for JSON. The document that is written (workspace file or update template on inverse merge) is streamed token by token
+ * via {@link JsonParser} and {@link JsonGenerator} so the order of its properties, its indentation as well as its comments are preserved. Only the (small)
+ * template to merge in is loaded as {@link JsonNode} tree. Variables are only resolved in string values that actually contain a variable and the file is only
+ * written if the content of the merged result differs from its current content (a different formatting alone is no change).
  */
 public class JsonMerger extends FileMerger {
 
@@ -50,6 +43,8 @@ public class JsonMerger extends FileMerger {
 
   private static final ObjectMapper JSONC_MAPPER = new ObjectMapper().configure(JsonParser.Feature.ALLOW_COMMENTS, true);
 
+  private static final String DEFAULT_INDENTATION = "    ";
+
   /**
    * The constructor.
    *
@@ -63,64 +58,219 @@ public class JsonMerger extends FileMerger {
   @Override
   protected void doMerge(Path setup, Path update, EnvironmentVariables variables, Path workspace) {
 
-    JsonStructure json = null;
-    Path template = setup;
     boolean updateFileExists = Files.exists(update);
-    Map<String, String> workspaceComments = Collections.emptyMap();
     if (Files.exists(workspace)) {
       if (!updateFileExists) {
         return; // nothing to do ...
       }
-      try {
-        workspaceComments = extractComments(workspace);
-      } catch (IOException e) {
-        LOG.debug("Failed to extract comments from {}, comments will not be preserved", workspace, e);
+      String workspaceJson = read(workspace);
+      Status status = Status.ofMerge(variables, update, true);
+      merge(workspaceJson, workspace, load(update), status, workspace, workspaceJson);
+    } else if (updateFileExists) {
+      JsonNode setupJson = null;
+      if (Files.exists(setup)) {
+        setupJson = load(setup);
       }
-      json = load(workspace);
+      Status status = Status.ofMerge(variables, update, false);
+      merge(read(update), update, setupJson, status, workspace, null);
     } else if (Files.exists(setup)) {
-      json = load(setup);
-    }
-    JsonStructure mergeJson = null;
-    if (updateFileExists) {
-      if (json == null) {
-        json = load(update);
-      } else {
-        mergeJson = load(update);
+      Status status = Status.ofMerge(variables, setup, false);
+      merge(read(setup), setup, null, status, workspace, null);
+    }
+  }
+
+  @Override
+  public void inverseMerge(Path workspace, EnvironmentVariables variables, boolean addNewProperties, Path updateFile) {
+
+    if (!Files.exists(workspace) || !Files.exists(updateFile)) {
+      return;
+    }
+    String updateJson = read(updateFile);
+    Status status = Status.ofInverseMerge(variables, workspace.getFileName(), addNewProperties);
+    merge(updateJson, updateFile, load(workspace), status, updateFile, updateJson);
+  }
+
+  /**
+   * @param json the JSON to stream as primary document.
+   * @param jsonFile the {@link Path} where the given {@code json} was read from.
+   * @param mergeJson the optional {@link JsonNode} to merge into the given {@code json}.
+   * @param status the {@link Status}.
+   * @param targetFile the {@link Path} to the file to write.
+   * @param targetJson the current content of the {@code targetFile} or {@code null} if it does not exist.
+   */
+  private void merge(String json, Path jsonFile, JsonNode mergeJson, Status status, Path targetFile, String targetJson) {
+
+    StringWriter writer = new StringWriter(json.length() + 64);
+    try (JsonParser parser = JSONC_MAPPER.createParser(json); JsonGenerator generator = JSONC_MAPPER.createGenerator(writer)) {
+      generator.setPrettyPrinter(new JsonPrettyPrinter(getIndentation(targetJson)));
+      if (parser.nextToken() == null) {
+        throw new IllegalStateException("Empty JSON");
+      }
+      mergeAndResolve(parser, mergeJson, generator, status);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to merge JSON from " + jsonFile, e);
+    }
+    String result = writer.append('\n').toString();
+    if (targetJson != null) {
+      Map<String, String> comments = extractComments(targetJson);
+      if (!comments.isEmpty()) {
+        result = injectComments(result, comments);
+      }
+      if (isUnchanged(result, targetJson)) {
+        LOG.trace("No changes for file {}", targetFile);
+        return;
+      }
+    }
+    save(result, targetFile);
+    LOG.debug("Saved created/updated file {}", targetFile);
+  }
+
+  /**
+   * @param result the merged JSON.
+   * @param targetJson the current content of the target file.
+   * @return {@code true} if the given JSON documents have the same content (ignoring formatting so that files with a different formatting are not rewritten
+   *     if nothing actually changed), {@code false} otherwise.
+   */
+  private static boolean isUnchanged(String result, String targetJson) {
+
+    if (result.equals(targetJson)) {
+      return true;
+    }
+    try {
+      return JSONC_MAPPER.readTree(result).equals(JSONC_MAPPER.readTree(targetJson));
+    } catch (IOException e) {
+      LOG.debug("Failed to compare merged JSON with the current file content", e);
+      return false;
+    }
+  }
+
+  /**
+   * Merges the current value of the given {@link JsonParser} with the given {@link JsonNode} and writes the result to the given {@link JsonGenerator}.
+   *
+   * @param parser the {@link JsonParser} pointing to the start of the current value.
+   * @param mergeJson the {@link JsonNode} to merge or {@code null} if there is nothing to merge.
+   * @param generator the {@link JsonGenerator} to write to.
+   * @param status the {@link Status}.
+   * @throws IOException on error.
+   */
+  private void mergeAndResolve(JsonParser parser, JsonNode mergeJson, JsonGenerator generator, Status status) throws IOException {
+
+    JsonToken token = parser.currentToken();
+    if ((mergeJson != null) && status.mergeJsonWins && !(mergeJson.isObject() && (token == JsonToken.START_OBJECT))) {
+      // KISS: Merging JSON arrays could be very complex. We simply let the winning side override...
+      parser.skipChildren();
+      writeAndResolve(mergeJson, generator, status);
+    } else if (token == JsonToken.START_OBJECT) {
+      mergeAndResolveObject(parser, mergeJson, generator, status);
+    } else if (token == JsonToken.START_ARRAY) {
+      generator.writeStartArray();
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        mergeAndResolve(parser, null, generator, status);
+      }
+      generator.writeEndArray();
+    } else if (token == JsonToken.VALUE_STRING) {
+      generator.writeString(resolve(parser.getText(), status));
+    } else {
+      generator.copyCurrentEvent(parser);
+    }
+  }
+
+  private void mergeAndResolveObject(JsonParser parser, JsonNode mergeJson, JsonGenerator generator, Status status) throws IOException {
+
+    JsonNode mergeObject = null;
+    Set<String> fieldNames = null;
+    if ((mergeJson != null) && mergeJson.isObject()) {
+      mergeObject = mergeJson;
+      fieldNames = new HashSet<>();
+    }
+    generator.writeStartObject();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      generator.writeFieldName(fieldName);
+      parser.nextToken();
+      JsonNode mergeValue = null;
+      if (mergeObject != null) {
+        fieldNames.add(fieldName);
+        mergeValue = mergeObject.get(fieldName);
       }
-      template = update;
-    }
-    Status status = new Status();
-    JsonStructure result = (JsonStructure) mergeAndResolve(json, mergeJson, variables, status, template.toString());
-    if (status.updated) {
-      save(result, workspace);
-      if (!workspaceComments.isEmpty()) {
-        try {
-          injectComments(workspace, workspaceComments);
-        } catch (IOException e) {
-          LOG.debug("Failed to inject comments into {}", workspace, e);
+      mergeAndResolve(parser, mergeValue, generator, status);
+    }
+    if ((mergeObject != null) && status.addNewProperties) {
+      for (Entry<String, JsonNode> property : mergeObject.properties()) {
+        if (!fieldNames.contains(property.getKey())) {
+          generator.writeFieldName(property.getKey());
+          writeAndResolve(property.getValue(), generator, status);
         }
       }
-      LOG.debug("Saved created/updated file {}", workspace);
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeAndResolve(JsonNode json, JsonGenerator generator, Status status) throws IOException {
+
+    if (json.isObject()) {
+      generator.writeStartObject();
+      for (Entry<String, JsonNode> property : json.properties()) {
+        generator.writeFieldName(property.getKey());
+        writeAndResolve(property.getValue(), generator, status);
+      }
+      generator.writeEndObject();
+    } else if (json.isArray()) {
+      generator.writeStartArray();
+      for (JsonNode child : json) {
+        writeAndResolve(child, generator, status);
+      }
+      generator.writeEndArray();
+    } else if (json.isTextual()) {
+      generator.writeString(resolve(json.textValue(), status));
     } else {
-      LOG.trace("No changes for file {}", workspace);
+      generator.writeTree(json);
     }
   }
 
+  private String resolve(String string, Status status) {
+
+    if (status.inverse) {
+      return status.variables.inverseResolve(string, status.source);
+    } else if (string.indexOf('$') < 0) {
+      return string; // no variable syntax so nothing to resolve
+    }
+    return status.variables.resolve(string, status.source, this.legacySupport);
+  }
+
+  /**
+   * @param json the existing JSON or {@code null} if not available.
+   * @return the indentation of the given JSON to preserve or the default indentation.
+   */
+  private static String getIndentation(String json) {
+
+    if (json != null) {
+      for (String line : json.split("\n", 16)) {
+        int quote = line.indexOf('"');
+        if ((quote > 0) && line.substring(0, quote).isBlank()) {
+          return line.substring(0, quote);
+        }
+      }
+    }
+    return DEFAULT_INDENTATION;
+  }
+
   /**
    * Scans a JSONC file and maps each property key to the comment block immediately preceding it.
    * Only leading-line comments ({@code //} and block comments) are captured; inline trailing comments are ignored.
    * Blank lines between a comment block and its property are tolerated.
    *
-   * @param file the JSONC file to scan.
+   * @param json the content of the JSONC file to scan.
    * @return map from property key to its preceding comment text (trimmed lines joined with {@code \n}).
-   * @throws IOException on read error.
    */
-  private static Map<String, String> extractComments(Path file) throws IOException {
+  private static Map<String, String> extractComments(String json) {
 
-    List<String> lines = Files.readAllLines(file);
     Map<String, String> comments = new HashMap<>();
+    if ((json.indexOf("//") < 0) && (json.indexOf("/*") < 0)) {
+      return comments;
+    }
     List<String> pendingComments = new ArrayList<>();
-    for (String line : lines) {
+    for (String line : json.split("\n")) {
       String trimmed = line.trim();
       if (trimmed.startsWith("//") || trimmed.startsWith("/*") || trimmed.startsWith("*")) {
         pendingComments.add(trimmed);
@@ -140,18 +290,17 @@ public class JsonMerger extends FileMerger {
   }
 
   /**
-   * Re-inserts comment blocks into a clean JSON file above the property each comment was associated with.
+   * Re-inserts comment blocks into clean JSON above the property each comment was associated with.
    * The indentation of each injected comment line matches the indentation of the following property line.
    *
-   * @param file the saved JSON file to rewrite with comments.
+   * @param json the merged JSON without comments.
    * @param comments map from property key to its preceding comment text (as returned by {@link #extractComments}).
-   * @throws IOException on read/write error.
+   * @return the given JSON with the comments re-inserted.
    */
-  private static void injectComments(Path file, Map<String, String> comments) throws IOException {
+  private static String injectComments(String json, Map<String, String> comments) {
 
-    List<String> lines = Files.readAllLines(file);
-    StringBuilder sb = new StringBuilder();
-    for (String line : lines) {
+    StringBuilder sb = new StringBuilder(json.length() + 64 * comments.size());
+    for (String line : json.split("\n")) {
       String trimmed = line.trim();
       if (trimmed.startsWith("\"")) {
         int endQuote = trimmed.indexOf('"', 1);
@@ -169,163 +318,34 @@ public class JsonMerger extends FileMerger {
       }
       sb.append(line).append('\n');
     }
-    Files.writeString(file, sb.toString());
+    return sb.toString();
   }
 
-  private static JsonStructure load(Path file) {
+  private static String read(Path file) {
 
     try {
-      JsonNode node = JSONC_MAPPER.readTree(file.toFile());
-      String cleanJson = JSONC_MAPPER.writeValueAsString(node);
-      try (Reader reader = new StringReader(cleanJson)) {
-        JsonReader jsonReader = Json.createReader(reader);
-        return jsonReader.read();
-      }
-    } catch (Exception e) {
+      return Files.readString(file);
+    } catch (IOException e) {
       throw new IllegalStateException("Failed to read JSON from " + file, e);
     }
   }
 
-  private static void save(JsonStructure json, Path file) {
+  private static JsonNode load(Path file) {
 
-    ensureParentDirectoryExists(file);
-    try (OutputStream out = Files.newOutputStream(file)) {
-
-      Map<String, Object> config = new HashMap<>();
-      config.put(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE);
-      // JSON-P API sucks: no way to set the indentation string
-      // preferred would be two spaces, implementation has four whitespaces hardcoded
-      // See org.glassfish.json.JsonPrettyGeneratorImpl
-      // when will they ever learn...?
-      JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(config);
-      JsonWriter jsonWriter = jsonWriterFactory.createWriter(out);
-      jsonWriter.write(json);
-      jsonWriter.close();
+    try {
+      return JSONC_MAPPER.readTree(file.toFile());
     } catch (Exception e) {
-      throw new IllegalStateException("Failed to save JSON to " + file, e);
-    }
-  }
-
-  @Override
-  public void inverseMerge(Path workspace, EnvironmentVariables variables, boolean addNewProperties, Path updateFile) {
-
-    if (!Files.exists(workspace) || !Files.exists(updateFile)) {
-      return;
-    }
-    JsonStructure updateDocument = load(updateFile);
-    JsonStructure workspaceDocument = load(workspace);
-    Status status = new Status(addNewProperties);
-    JsonStructure result = (JsonStructure) mergeAndResolve(workspaceDocument, updateDocument, variables, status,
-        workspace.getFileName());
-    if (status.updated) {
-      save(result, updateFile);
-      LOG.debug("Saved changes from {} to {}", workspace.getFileName(), updateFile);
-    } else {
-      LOG.trace("No changes for {}", updateFile);
-    }
-  }
-
-  private JsonValue mergeAndResolve(JsonValue json, JsonValue mergeJson, EnvironmentVariables variables, Status status,
-      Object src) {
-
-    if (json == null) {
-      if (mergeJson == null) {
-        return null;
-      } else {
-        return mergeAndResolve(mergeJson, null, variables, status, src);
-      }
-    } else {
-      if (mergeJson == null) {
-        status.updated = true; // JSON to merge does not exist and needs to be created
-      }
-      return switch (json.getValueType()) {
-        case OBJECT -> mergeAndResolveObject((JsonObject) json, (JsonObject) mergeJson, variables, status, src);
-        case ARRAY -> mergeAndResolveArray((JsonArray) json, (JsonArray) mergeJson, variables, status, src);
-        case STRING -> mergeAndResolveString((JsonString) json, (JsonString) mergeJson, variables, status, src);
-        case NUMBER, FALSE, TRUE, NULL -> mergeAndResolveNativeType(json, mergeJson, variables, status);
-        default -> {
-          LOG.error("Undefined JSON type {}", json.getClass());
-          yield null;
-        }
-      };
-    }
-  }
-
-  private JsonObject mergeAndResolveObject(JsonObject json, JsonObject mergeJson, EnvironmentVariables variables,
-      Status status, Object src) {
-
-    // json = workspace/setup
-    // mergeJson = update
-    JsonObjectBuilder builder = Json.createObjectBuilder();
-    Set<String> mergeKeySet = Collections.emptySet();
-    if (mergeJson != null) {
-      mergeKeySet = mergeJson.keySet();
-      for (String key : mergeKeySet) {
-        JsonValue mergeValue = mergeJson.get(key);
-        JsonValue value = json.get(key);
-        value = mergeAndResolve(value, mergeValue, variables, status, src);
-        builder.add(key, value);
-      }
-    }
-    if (status.addNewProperties || !status.inverse) {
-      for (String key : json.keySet()) {
-        if (!mergeKeySet.contains(key)) {
-          JsonValue value = json.get(key);
-          value = mergeAndResolve(value, null, variables, status, src);
-          builder.add(key, value);
-          if (status.inverse) {
-            // added new property on inverse merge...
-            status.updated = true;
-          }
-        }
-      }
-    }
-    return builder.build();
-  }
-
-  private JsonArray mergeAndResolveArray(JsonArray json, JsonArray mergeJson, EnvironmentVariables variables,
-      Status status, Object src) {
-
-    JsonArrayBuilder builder = Json.createArrayBuilder();
-    // KISS: Merging JSON arrays could be very complex. We simply let mergeJson override json...
-    JsonArray source = json;
-    if (mergeJson != null) {
-      source = mergeJson;
-    }
-    for (JsonValue value : source) {
-      JsonValue resolvedValue = mergeAndResolve(value, null, variables, status, src);
-      builder.add(resolvedValue);
-    }
-    return builder.build();
-  }
-
-  private JsonString mergeAndResolveString(JsonString json, JsonString mergeJson, EnvironmentVariables variables,
-      Status status, Object src) {
-
-    JsonString jsonString = json;
-    if (mergeJson != null) {
-      jsonString = mergeJson;
-    }
-    String string = jsonString.getString();
-    String resolvedString;
-    if (status.inverse) {
-      resolvedString = variables.inverseResolve(string, src);
-    } else {
-      resolvedString = variables.resolve(string, src, this.legacySupport);
-    }
-    if (!resolvedString.equals(string)) {
-      status.updated = true;
+      throw new IllegalStateException("Failed to read JSON from " + file, e);
     }
-    return Json.createValue(resolvedString);
   }
 
-  private JsonValue mergeAndResolveNativeType(JsonValue json, JsonValue mergeJson, EnvironmentVariables variables,
-      Status status) {
+  private static void save(String json, Path file) {
 
-    if (mergeJson == null) {
-      return json;
-    } else {
-      return mergeJson;
+    ensureParentDirectoryExists(file);
+    try {
+      Files.writeString(file, json);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to save JSON to " + file, e);
     }
   }
 
@@ -417,39 +437,58 @@ public class JsonMerger extends FileMerger {
 
   private static class Status {
 
+    private final EnvironmentVariables variables;
+
+    /**
+     * The source of the variables to resolve for error or log messages.
+     */
+    private final Object source;
+
     /**
      * {@code true} for inverse merge, {@code false} otherwise (for regular forward merge).
      */
     private final boolean inverse;
 
-    private final boolean addNewProperties;
-
-    private boolean updated;
+    /**
+     * {@code true} if the values of the {@link JsonNode} to merge override the streamed values, {@code false} otherwise.
+     */
+    private final boolean mergeJsonWins;
 
     /**
-     * The constructor.
+     * {@code true} to add properties only present in the {@link JsonNode} to merge, {@code false} otherwise.
      */
-    public Status() {
+    private final boolean addNewProperties;
+
+    private Status(EnvironmentVariables variables, Object source, boolean inverse, boolean mergeJsonWins, boolean addNewProperties) {
 
-      this(false, false);
+      super();
+      this.variables = variables;
+      this.source = source;
+      this.inverse = inverse;
+      this.mergeJsonWins = mergeJsonWins;
+      this.addNewProperties = addNewProperties;
     }
 
     /**
-     * The constructor.
-     *
-     * @param addNewProperties - {@code true} to add new properties from workspace on reverse merge, {@code false} otherwise.
+     * @param variables the {@link EnvironmentVariables} to resolve.
+     * @param source the {@link #source}.
+     * @param mergeJsonWins the {@link #mergeJsonWins} flag.
+     * @return the {@link Status} for regular forward merge.
      */
-    public Status(boolean addNewProperties) {
+    private static Status ofMerge(EnvironmentVariables variables, Object source, boolean mergeJsonWins) {
 
-      this(true, addNewProperties);
+      return new Status(variables, source, false, mergeJsonWins, true);
     }
 
-    private Status(boolean inverse, boolean addNewProperties) {
+    /**
+     * @param variables the {@link EnvironmentVariables} to inverse resolve.
+     * @param source the {@link #source}.
+     * @param addNewProperties - {@code true} to add new properties from workspace on reverse merge, {@code false} otherwise.
+     * @return the {@link Status} for inverse merge.
+     */
+    private static Status ofInverseMerge(EnvironmentVariables variables, Object source, boolean addNewProperties) {
 
-      super();
-      this.inverse = inverse;
-      this.addNewProperties = addNewProperties;
-      this.updated = false;
+      return new Status(variables, source, true, false, addNewProperties);
     }
 
   }
@@ -460,7 +499,11 @@ public class JsonMerger extends FileMerger {
   private static class JsonPrettyPrinter extends DefaultPrettyPrinter {
 
     public JsonPrettyPrinter() {
-      DefaultPrettyPrinter.Indenter indenter = new DefaultIndenter("  ", "\n");
+      this("  ");
+    }
+
+    public JsonPrettyPrinter(String indentation) {
+      DefaultPrettyPrinter.Indenter indenter = new DefaultIndenter(indentation, "\n");
       indentObjectsWith(indenter);
       indentArraysWith(indenter);
       _objectFieldValueSeparatorWithSpaces = ": ";
@@ -471,7 +514,7 @@ public class JsonMerger extends FileMerger {
     }
 
     @Override
-    public void writeEndArray(com.fasterxml.jackson.core.JsonGenerator g, int nrOfValues) throws IOException {
+    public void writeEndArray(JsonGenerator g, int nrOfValues) throws IOException {
 
       if (!_arrayIndenter.isInline()) {
         _nesting--;
@@ -482,6 +525,18 @@ public class JsonMerger extends FileMerger {
       g.writeRaw(']');
     }
 
+    @Override
+    public void writeEndObject(JsonGenerator g, int nrOfEntries) throws IOException {
+
+      if (!_objectIndenter.isInline()) {
+        _nesting--;
+      }
+      if (nrOfEntries > 0) {
+        _objectIndenter.writeIndentation(g, _nesting);
+      }
+      g.writeRaw('}');
+    }
+
     @Override
     public DefaultPrettyPrinter createInstance() {
       return new JsonPrettyPrinter(this);
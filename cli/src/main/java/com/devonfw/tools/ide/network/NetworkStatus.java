@@ -28,6 +28,12 @@ public interface NetworkStatus extends ReadOfflineMode {
    */
   Throwable getError();
 
+  /**
+   * Starts the online check asynchronously in the background so that local work can continue meanwhile. A later call of {@link #isOnline()} or
+   * {@link #getError()} will then use the result of this check instead of blocking for a new one.
+   */
+  void startOnlineCheck();
+
   /**
    * Logs a human-readable message describing the {@link NetworkStatus}.
    * <p>
@@ -3,8 +3,12 @@ package com.devonfw.tools.ide.network;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Locale;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +17,7 @@ import com.devonfw.tools.ide.cache.CachedValue;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.variable.IdeVariables;
 
 /**
  * Implementation of {@link NetworkStatus}.
@@ -25,31 +30,48 @@ public class NetworkStatusImpl implements NetworkStatus {
 
   private NetworkProxy networkProxy;
 
-  private final String onlineCheckUrl;
+  private String onlineCheckUrl;
+
+  private final boolean persistOnlineCheck;
 
   protected final CachedValue<Throwable> onlineCheck;
 
+  private CompletableFuture<Throwable> backgroundOnlineCheck;
+
   private static final String ERROR_TEXT_PKIX = "pkix path building failed";
 
+  /** The name of the file inside {@link AbstractIdeContext#getIdePath() IDE_ROOT/_ide} where the result of the online check is persisted. */
+  static final String FILE_ONLINE_CHECK = ".online-check";
+
+  /**
+   * The retention of the persisted online check result in milliseconds so consecutive invocations can reuse it. Only a successful online check is persisted
+   * so that a recovered connection (e.g. after a VPN reconnect) is detected immediately.
+   */
+  static final long PERSISTED_ONLINE_CHECK_RETENTION = 60 * 1000; // 1 minute
+
+  private static final String PERSISTED_ONLINE = "online";
+
+  private static final int ONLINE_CHECK_TIMEOUT = 1000;
+
   /**
    * @param ideContext the {@link AbstractIdeContext}.
    */
   public NetworkStatusImpl(AbstractIdeContext ideContext) {
-    this(ideContext, null, CachedValue.DEFAULT_RETENTION);
+    this(ideContext, null, CachedValue.DEFAULT_RETENTION, true);
   }
 
   /**
    * @param context the {@link AbstractIdeContext}.
-   * @param onlineCheckUrl the URL to test for the online-check.
+   * @param onlineCheckUrl the URL to test for the online-check or {@code null} to use {@link IdeVariables#IDE_ONLINE_CHECK_URL}.
    * @param retention the retention of the {@link CachedValue}.
+   * @param persistOnlineCheck - {@code true} to persist the result of the online-check in {@link #FILE_ONLINE_CHECK} for reuse by consecutive
+   *     invocations, {@code false} otherwise.
    */
-  protected NetworkStatusImpl(AbstractIdeContext context, String onlineCheckUrl, long retention) {
+  protected NetworkStatusImpl(AbstractIdeContext context, String onlineCheckUrl, long retention, boolean persistOnlineCheck) {
     this.context = context;
-    if (onlineCheckUrl == null) {
-      onlineCheckUrl = "https://www.github.com";
-    }
     this.onlineCheckUrl = onlineCheckUrl;
-    this.onlineCheck = new CachedValue<>(this::doOnlineCheck, retention);
+    this.persistOnlineCheck = persistOnlineCheck;
+    this.onlineCheck = new CachedValue<>(this::getOnlineCheckResult, retention);
   }
 
   @Override
@@ -70,25 +92,131 @@ public class NetworkStatusImpl implements NetworkStatus {
     return this.onlineCheck.get();
   }
 
-  private Throwable doOnlineCheck() {
+  @Override
+  public void startOnlineCheck() {
+
+    if (isOfflineMode() || (this.backgroundOnlineCheck != null) || isPersistedOnline()) {
+      return;
+    }
+    // resolve everything that requires the context in the calling thread
+    String url = getOnlineCheckUrl();
+    configureNetworkProxy();
+    LOG.trace("Starting online check to {} in background.", url);
+    this.backgroundOnlineCheck = CompletableFuture.supplyAsync(() -> doOnlineCheck(url));
+  }
+
+  private Throwable getOnlineCheckResult() {
+
+    CompletableFuture<Throwable> backgroundCheck = this.backgroundOnlineCheck;
+    if (backgroundCheck != null) {
+      this.backgroundOnlineCheck = null;
+      return backgroundCheck.join();
+    }
+    if (isPersistedOnline()) {
+      return null;
+    }
+    String url = getOnlineCheckUrl();
     configureNetworkProxy();
+    return doOnlineCheck(url);
+  }
+
+  private String getOnlineCheckUrl() {
+
+    if (this.onlineCheckUrl == null) {
+      this.onlineCheckUrl = IdeVariables.IDE_ONLINE_CHECK_URL.get(this.context);
+    }
+    return this.onlineCheckUrl;
+  }
+
+  private Throwable doOnlineCheck(String url) {
+    Throwable error;
     try {
-      int timeout = 1000;
       //open a connection to URL and try to retrieve data
       //getContent fails if there is no connection
-      URLConnection connection = new URL(this.onlineCheckUrl).openConnection();
-      connection.setConnectTimeout(timeout);
+      URLConnection connection = new URL(url).openConnection();
+      connection.setConnectTimeout(ONLINE_CHECK_TIMEOUT);
+      // also limit the read timeout so a slow proxy can not stall us
+      connection.setReadTimeout(ONLINE_CHECK_TIMEOUT);
       connection.getContent();
-      return null;
+      error = null;
     } catch (Exception e) {
       if (LOG.isDebugEnabled()) {
-        LOG.debug("Error when trying to connect to {}", this.onlineCheckUrl, e);
+        LOG.debug("Error when trying to connect to {}", url, e);
+      }
+      error = e;
+    }
+    persistOnlineCheck(error);
+    return error;
+  }
+
+  private Path getOnlineCheckFile() {
+
+    if (!this.persistOnlineCheck) {
+      return null;
+    }
+    Path idePath = this.context.getIdePath();
+    if (idePath == null) {
+      return null;
+    }
+    return idePath.resolve(FILE_ONLINE_CHECK);
+  }
+
+  private boolean isPersistedOnline() {
+
+    Path file = getOnlineCheckFile();
+    if ((file == null) || !Files.exists(file)) {
+      return false;
+    }
+    try {
+      long age = System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis();
+      if ((age < 0) || (age > PERSISTED_ONLINE_CHECK_RETENTION)) {
+        return false;
+      }
+      if (PERSISTED_ONLINE.equals(Files.readString(file).trim())) {
+        LOG.trace("Reusing persisted online check result from {}", file);
+        return true;
+      }
+      LOG.debug("Ignoring invalid online check result in {}", file);
+    } catch (IOException e) {
+      LOG.debug("Failed to read online check result from {}", file, e);
+    }
+    return false;
+  }
+
+  private void persistOnlineCheck(Throwable error) {
+
+    Path file = getOnlineCheckFile();
+    if ((file == null) || !Files.isDirectory(file.getParent())) {
+      return;
+    }
+    if (error != null) {
+      // a failed online check is never reused so we detect when the connection has recovered
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOG.debug("Failed to delete online check result {}", file, e);
+      }
+      return;
+    }
+    // write atomically since the process may exit while this background thread is still writing
+    Path tmp = null;
+    try {
+      tmp = Files.createTempFile(file.getParent(), FILE_ONLINE_CHECK, ".tmp");
+      Files.writeString(tmp, PERSISTED_ONLINE);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.debug("Failed to persist online check result to {}", file, e);
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        } catch (IOException ignore) {
+          // best effort cleanup
+        }
       }
-      return e;
     }
   }
 
-  private void configureNetworkProxy() {
+  private synchronized void configureNetworkProxy() {
 
     if (this.networkProxy == null) {
       this.networkProxy = new NetworkProxy(this.context);
@@ -116,7 +244,7 @@ public class NetworkStatusImpl implements NetworkStatus {
       LOG.error(error.toString());
     }
     if (isTlsTrustIssue(error)) {
-      logTruststoreFixHint(this.onlineCheckUrl);
+      logTruststoreFixHint(getOnlineCheckUrl());
     } else {
       IdeLogLevel.INTERACTION.log(LOG, "Please check potential proxy settings, ensure you are properly connected to the internet and retry this operation.");
     }
@@ -27,6 +27,7 @@ import com.devonfw.tools.ide.environment.VariableLine;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfoImpl;
 import com.devonfw.tools.ide.os.WindowsPathSyntax;
+import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.util.FilenameUtil;
 import com.devonfw.tools.ide.variable.IdeVariables;
 
@@ -216,6 +217,10 @@ public class ProcessContextImpl implements ProcessContext {
       ConcurrentLinkedQueue<OutputMessage> output = new ConcurrentLinkedQueue<>();
 
       Process process = this.processBuilder.start();
+      Step step = this.context.getCurrentStep();
+      if (step != null) {
+        step.addProcessSpawn();
+      }
 
       try {
         if (Redirect.PIPE == processMode.getRedirectOutput() || Redirect.PIPE == processMode.getRedirectError()) {
@@ -254,6 +259,8 @@ public class ProcessContextImpl implements ProcessContext {
         if (!processMode.isBackground()) {
           process.destroy();
         }
+        // the process may have modified the file-system (e.g. installed or deleted files)
+        this.context.getFileAccess().clearMetadataCache();
       }
     } catch (CliProcessException | IllegalStateException e) {
       // these exceptions are thrown from performLogOnError and we do not want to wrap them (see #593)
@@ -1,6 +1,7 @@
 package com.devonfw.tools.ide.property;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.validation.PropertyValidator;
@@ -50,10 +51,10 @@ public class CommandletProperty extends Property<Commandlet> {
   @Override
   protected void completeValue(String arg, IdeContext context, Commandlet commandlet, CompletionCandidateCollector collector) {
 
-    for (Commandlet cmd : context.getCommandletManager().getCommandlets()) {
-      String cmdName = cmd.getName();
+    for (CommandletDescriptor<?> descriptor : context.getCommandletManager().getCommandletDescriptors()) {
+      String cmdName = descriptor.getName();
       if (cmdName.startsWith(arg)) {
-        collector.add(cmdName, null, null, cmd);
+        collector.add(cmdName, null, null, descriptor.getCommandlet());
       }
     }
   }
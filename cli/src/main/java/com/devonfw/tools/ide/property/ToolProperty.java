@@ -1,6 +1,7 @@
 package com.devonfw.tools.ide.property;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
@@ -71,11 +72,11 @@ public class ToolProperty extends Property<ToolCommandlet> {
   @Override
   protected void completeValue(String arg, IdeContext context, Commandlet commandlet, CompletionCandidateCollector collector) {
 
-    for (Commandlet cmd : context.getCommandletManager().getCommandlets()) {
-      if (cmd instanceof ToolCommandlet) {
-        String cmdName = cmd.getName();
+    for (CommandletDescriptor<?> descriptor : context.getCommandletManager().getCommandletDescriptors()) {
+      if (descriptor.isType(ToolCommandlet.class)) {
+        String cmdName = descriptor.getName();
         if (cmdName.startsWith(arg)) {
-          collector.add(cmdName, null, null, cmd);
+          collector.add(cmdName, null, null, descriptor.getCommandlet());
         }
       }
     }
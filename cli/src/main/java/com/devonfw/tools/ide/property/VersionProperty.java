@@ -80,10 +80,7 @@ public class VersionProperty extends Property<VersionIdentifier> {
           return;
         }
       }
-      ToolRepository toolRepository = tool.getToolRepository();
-      List<VersionIdentifier> versions = toolRepository.getSortedVersions(tool.getName(), tool.getConfiguredEdition(), tool);
-      int size = versions.size();
-      String[] sortedCandidates = IntStream.rangeClosed(1, size).mapToObj(i -> versions.get(size - i).toString()).toArray(String[]::new);
+      String[] sortedCandidates = getSortedCandidates(tool, context);
       collector.addAllMatches(text, sortedCandidates, this, commandlet);
       List<CompletionCandidate> candidates = collector.getCandidates();
       Collections.reverse(candidates);
@@ -97,4 +94,25 @@ public class VersionProperty extends Property<VersionIdentifier> {
       collector.add(text + VersionSegment.PATTERN_MATCH_ANY_VERSION, "Latest matching version including unstable versions", this, commandlet);
     }
   }
+
+  /**
+   * @param tool the {@link ToolCommandlet} to complete the version for.
+   * @param context the {@link IdeContext}.
+   * @return the available versions of the given tool sorted in ascending order.
+   */
+  private static String[] getSortedCandidates(ToolCommandlet tool, IdeContext context) {
+
+    ToolRepository toolRepository = tool.getToolRepository();
+    String edition = tool.getConfiguredEdition();
+    if (ToolRepository.ID_DEFAULT.equals(toolRepository.getId())) {
+      List<String> indexedVersions = context.getCompletionIndex().getSortedVersions(tool.getName(), edition);
+      if (indexedVersions != null) {
+        int size = indexedVersions.size();
+        return IntStream.rangeClosed(1, size).mapToObj(i -> indexedVersions.get(size - i)).toArray(String[]::new);
+      }
+    }
+    List<VersionIdentifier> versions = toolRepository.getSortedVersions(tool.getName(), edition, tool);
+    int size = versions.size();
+    return IntStream.rangeClosed(1, size).mapToObj(i -> versions.get(size - i).toString()).toArray(String[]::new);
+  }
 }
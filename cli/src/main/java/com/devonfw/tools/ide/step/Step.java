@@ -68,6 +68,18 @@ public interface Step {
    */
   boolean isSilent();
 
+  /**
+   * Records downloaded data for tracing.
+   *
+   * @param bytes the number of bytes that have been downloaded within this {@link Step}.
+   */
+  void addDownloadBytes(long bytes);
+
+  /**
+   * Records that a new process has been spawned within this {@link Step} for tracing.
+   */
+  void addProcessSpawn();
+
   /**
    * Should be called to end this {@link Step} {@link #getSuccess() successfully}. May be called only once.
    *
@@ -3,7 +3,10 @@ package com.devonfw.tools.ide.step;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,14 +35,24 @@ public final class StepImpl implements Step {
 
   private final long start;
 
+  private final long startNanos;
+
+  private final long threadId;
+
   private final boolean silent;
 
+  private final AtomicLong downloadBytes;
+
+  private final AtomicInteger processSpawns;
+
   private Boolean success;
 
   private String errorMessage;
 
   private long duration;
 
+  private long durationNanos;
+
   /**
    * Creates and starts a new {@link StepImpl}.
    *
@@ -59,6 +72,10 @@ public final class StepImpl implements Step {
     this.silent = silent;
     this.children = new ArrayList<>();
     this.start = System.currentTimeMillis();
+    this.startNanos = System.nanoTime();
+    this.threadId = Thread.currentThread().threadId();
+    this.downloadBytes = new AtomicLong();
+    this.processSpawns = new AtomicInteger();
     if (parent != null) {
       parent.children.add(this);
     }
@@ -111,6 +128,83 @@ public final class StepImpl implements Step {
     return this.duration;
   }
 
+  /**
+   * @return the duration of this {@link Step} in nanoseconds. Will be {@code 0} if not {@link #close() ended}.
+   * @see #getDuration()
+   */
+  public long getDurationNanos() {
+
+    return this.durationNanos;
+  }
+
+  /**
+   * @return the start of this {@link Step} in milliseconds since the epoch.
+   */
+  public long getStart() {
+
+    return this.start;
+  }
+
+  /**
+   * @return the start of this {@link Step} as {@link System#nanoTime() nano time}. Only suitable to compare with other {@link Step}s of this process.
+   */
+  public long getStartNanos() {
+
+    return this.startNanos;
+  }
+
+  /**
+   * @return the {@link Thread#threadId() ID} of the {@link Thread} that started this {@link Step}.
+   */
+  public long getThreadId() {
+
+    return this.threadId;
+  }
+
+  /**
+   * @return the {@link List} of the child {@link StepImpl steps}.
+   */
+  public List<StepImpl> getChildren() {
+
+    return Collections.unmodifiableList(this.children);
+  }
+
+  /**
+   * @return the parameters of this {@link Step}.
+   */
+  Object[] getParameters() {
+
+    return this.params;
+  }
+
+  @Override
+  public void addDownloadBytes(long bytes) {
+
+    this.downloadBytes.addAndGet(bytes);
+  }
+
+  /**
+   * @return the number of bytes that have been {@link #addDownloadBytes(long) downloaded} within this {@link Step} (excluding child steps).
+   */
+  public long getDownloadBytes() {
+
+    return this.downloadBytes.get();
+  }
+
+  @Override
+  public void addProcessSpawn() {
+
+    this.processSpawns.incrementAndGet();
+  }
+
+  /**
+   * @return the number of processes that have been {@link #addProcessSpawn() spawned} within this {@link Step} (excluding child steps).
+   */
+  public int getProcessSpawns() {
+
+    return this.processSpawns.get();
+  }
+
   @Override
   public Boolean getSuccess() {
 
@@ -146,6 +240,7 @@ public final class StepImpl implements Step {
         return;
       }
     }
+    long delayNanos = System.nanoTime() - this.startNanos;
     long delay = System.currentTimeMillis() - this.start;
     if (delay == 0) {
       delay = 1;
@@ -155,6 +250,7 @@ public final class StepImpl implements Step {
     }
     if (!Boolean.FALSE.equals(this.success)) { // never allow a failed step to change to success
       this.duration = delay;
+      this.durationNanos = delayNanos;
       this.success = newSuccess;
     }
     if (newSuccess.booleanValue()) {
@@ -0,0 +1,119 @@
+package com.devonfw.tools.ide.step;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import com.devonfw.tools.ide.json.JsonMapping;
+import com.devonfw.tools.ide.version.IdeVersion;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes the tree of {@link StepImpl steps} as JSON in the
+ * <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome Trace Event Format</a>. The resulting file can be opened
+ * with {@code chrome://tracing}, <a href="https://ui.perfetto.dev">Perfetto</a> or similar tools to analyze the timing of an IDEasy invocation offline. Every
+ * {@link StepImpl step} becomes a complete event ("ph":"X") with its timestamp and duration in microseconds (with nanosecond fraction), the ID of the thread
+ * that started the step as well as the downloaded bytes and spawned processes as arguments.
+ */
+public class StepTraceWriter {
+
+  private final long pid;
+
+  /**
+   * The constructor.
+   */
+  public StepTraceWriter() {
+
+    super();
+    this.pid = ProcessHandle.current().pid();
+  }
+
+  /**
+   * @param step the top-level {@link StepImpl} to write including all its children.
+   * @param file the {@link Path} to the JSON file to write.
+   */
+  public void write(StepImpl step, Path file) {
+
+    try (Writer writer = Files.newBufferedWriter(file); JsonGenerator json = JsonMapping.create().getFactory().createGenerator(writer)) {
+      write(step, json);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write step trace to " + file, e);
+    }
+  }
+
+  /**
+   * @param step the top-level {@link StepImpl} to write including all its children.
+   * @param json the {@link JsonGenerator} to write to.
+   * @throws IOException on error.
+   */
+  void write(StepImpl step, JsonGenerator json) throws IOException {
+
+    json.writeStartObject();
+    json.writeArrayFieldStart("traceEvents");
+    writeProcessName(json);
+    writeStep(step, step.getStartNanos(), json);
+    json.writeEndArray();
+    json.writeStringField("displayTimeUnit", "ns");
+    json.writeObjectFieldStart("otherData");
+    json.writeStringField("version", IdeVersion.getVersionString());
+    json.writeNumberField("startTime", step.getStart());
+    json.writeStringField("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+    json.writeEndObject();
+    json.writeEndObject();
+  }
+
+  private void writeProcessName(JsonGenerator json) throws IOException {
+
+    json.writeStartObject();
+    json.writeStringField("name", "process_name");
+    json.writeStringField("ph", "M");
+    json.writeNumberField("pid", this.pid);
+    json.writeObjectFieldStart("args");
+    json.writeStringField("name", "ide");
+    json.writeEndObject();
+    json.writeEndObject();
+  }
+
+  private void writeStep(StepImpl step, long rootStartNanos, JsonGenerator json) throws IOException {
+
+    json.writeStartObject();
+    json.writeStringField("name", step.getName());
+    json.writeStringField("cat", "step");
+    json.writeStringField("ph", "X");
+    json.writeFieldName("ts");
+    json.writeNumber(toMicros(step.getStartNanos() - rootStartNanos));
+    json.writeFieldName("dur");
+    json.writeNumber(toMicros(step.getDurationNanos()));
+    json.writeNumberField("pid", this.pid);
+    json.writeNumberField("tid", step.getThreadId());
+    json.writeObjectFieldStart("args");
+    Object[] parameters = step.getParameters();
+    if ((parameters != null) && (parameters.length > 0)) {
+      json.writeArrayFieldStart("params");
+      for (Object parameter : parameters) {
+        json.writeString(String.valueOf(parameter));
+      }
+      json.writeEndArray();
+    }
+    Boolean success = step.getSuccess();
+    if (success != null) {
+      json.writeBooleanField("success", success.booleanValue());
+    }
+    json.writeNumberField("downloadBytes", step.getDownloadBytes());
+    json.writeNumberField("processSpawns", step.getProcessSpawns());
+    json.writeEndObject();
+    json.writeEndObject();
+    for (StepImpl child : step.getChildren()) {
+      writeStep(child, rootStartNanos, json);
+    }
+  }
+
+  private static String toMicros(long nanos) {
+
+    // keep the nanosecond precision as fraction of the microseconds required by the trace event format
+    return String.format(Locale.ROOT, "%d.%03d", nanos / 1000, nanos % 1000);
+  }
+
+}
@@ -17,8 +17,10 @@ import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.step.Step;
+import com.devonfw.tools.ide.tool.repository.SoftwareRepositoryDeduplicator;
 import com.devonfw.tools.ide.tool.repository.ToolRepository;
 import com.devonfw.tools.ide.url.model.file.json.ToolDependency;
+import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.version.GenericVersionRange;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.devonfw.tools.ide.version.VersionRange;
@@ -63,7 +65,7 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
       return null;
     }
     Path binPath = toolPath.resolve(IdeContext.FOLDER_BIN);
-    if (Files.isDirectory(binPath)) {
+    if (this.context.getFileAccess().isDirectory(binPath)) {
       return binPath;
     }
     return toolPath;
@@ -268,6 +270,9 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     // fix macOS Gatekeeper blocking - must run after version file is written but before any executables are launched
     getMacOsHelper().removeQuarantineAttribute(installationPath);
     LOG.debug("Installed {} in version {} at {}", this.tool, resolvedVersion, installationPath);
+    if (!isIgnoreSoftwareRepo() && IdeVariables.IDE_SOFTWARE_DEDUPLICATION.get(this.context)) {
+      new SoftwareRepositoryDeduplicator(this.context).deduplicate();
+    }
   }
 
   /**
@@ -384,17 +389,18 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     if (versionLookupPath == null) {
       versionLookupPath = toolPath;
     }
+    FileAccess fileAccess = this.context.getFileAccess();
     Path toolVersionFile = versionLookupPath.resolve(IdeContext.FILE_SOFTWARE_VERSION);
-    if (!Files.exists(toolVersionFile)) {
+    if (!fileAccess.exists(toolVersionFile)) {
       Path legacyToolVersionFile = versionLookupPath.resolve(IdeContext.FILE_LEGACY_SOFTWARE_VERSION);
-      if (Files.exists(legacyToolVersionFile)) {
+      if (fileAccess.exists(legacyToolVersionFile)) {
         toolVersionFile = legacyToolVersionFile;
       } else {
         LOG.warn("Tool {} is missing version file in {}", getName(), toolVersionFile);
         return null;
       }
     }
-    String version = this.context.getFileAccess().readFileContent(toolVersionFile).trim();
+    String version = fileAccess.readFileContent(toolVersionFile).trim();
     return VersionIdentifier.of(version);
   }
 
@@ -504,7 +510,7 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
 
   private boolean isToolNotInstalled(Path toolPath) {
 
-    if ((toolPath == null) || !Files.isDirectory(toolPath)) {
+    if ((toolPath == null) || !this.context.getFileAccess().isDirectory(toolPath)) {
       LOG.debug("Tool {} not installed in {}", this.tool, toolPath);
       return true;
     }
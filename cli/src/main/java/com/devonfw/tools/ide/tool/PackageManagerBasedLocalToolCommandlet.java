@@ -1,6 +1,10 @@
 package com.devonfw.tools.ide.tool;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Set;
 
@@ -10,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import com.devonfw.tools.ide.cache.CachedValue;
 import com.devonfw.tools.ide.common.Tag;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessErrorHandling;
 import com.devonfw.tools.ide.process.ProcessMode;
@@ -25,6 +30,8 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
 
   private static final Logger LOG = LoggerFactory.getLogger(PackageManagerBasedLocalToolCommandlet.class);
 
+  private static final String FILE_INSTALLED_VERSION_SUFFIX = ".installed.version";
+
   private final CachedValue<VersionIdentifier> installedVersion;
 
   /**
@@ -158,12 +165,100 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
 
   private VersionIdentifier determineInstalledVersion() {
 
+    Path manifest = getInstalledVersionManifest();
+    String stamp = getManifestStamp(manifest);
+    Path cacheFile = getInstalledVersionCacheFile();
+    if ((stamp != null) && (cacheFile != null)) {
+      VersionIdentifier cachedVersion = readInstalledVersionCache(cacheFile, stamp);
+      if (cachedVersion != null) {
+        LOG.trace("Using cached installed version {} of {} from {}", cachedVersion, this.tool, cacheFile);
+        return cachedVersion;
+      }
+    }
+    VersionIdentifier version;
     try {
-      return computeInstalledVersion();
+      version = computeInstalledVersion();
     } catch (Exception e) {
       LOG.debug("Failed to compute installed version of {}", this.tool, e);
       return null;
     }
+    if ((version != null) && (stamp != null) && (cacheFile != null)) {
+      writeInstalledVersionCache(cacheFile, version, stamp);
+    }
+    return version;
+  }
+
+  /**
+   * @return the {@link Path} to a file or folder that is modified by the package manager whenever this tool is installed, updated, or uninstalled (e.g. the
+   *     {@code package.json} of the globally installed npm package). If it exists, the {@link #getInstalledVersion() installed version} is persisted and reused
+   *     until this manifest changes, so no process has to be spawned to determine the version. May be {@code null} to always
+   *     {@link #computeInstalledVersion() compute} the version.
+   */
+  protected Path getInstalledVersionManifest() {
+
+    return null;
+  }
+
+  /**
+   * @return the {@link Path} to the file where the {@link #getInstalledVersion() installed version} is persisted. It is located in the
+   *     {@link IdeContext#FOLDER_DOT_IDE .ide} folder of the project and not in the installation of the {@link #getParentTool() parent tool} since that may be
+   *     shared with other projects via the software repository.
+   */
+  private Path getInstalledVersionCacheFile() {
+
+    Path ideHome = this.context.getIdeHome();
+    if (ideHome == null) {
+      return null;
+    }
+    return ideHome.resolve(IdeContext.FOLDER_DOT_IDE).resolve(this.tool + FILE_INSTALLED_VERSION_SUFFIX);
+  }
+
+  private static String getManifestStamp(Path manifest) {
+
+    if (manifest == null) {
+      return null;
+    }
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(manifest, BasicFileAttributes.class);
+      // the real path changes if the parent tool is switched to another installation (e.g. a different version in the software repository)
+      return manifest.toRealPath() + ":" + attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+    } catch (IOException e) {
+      return null; // manifest does not exist, tool is not installed or installed in an unexpected way
+    }
+  }
+
+  private VersionIdentifier readInstalledVersionCache(Path cacheFile, String stamp) {
+
+    try {
+      List<String> lines = Files.readAllLines(cacheFile);
+      if ((lines.size() >= 2) && lines.get(1).equals(stamp)) {
+        return VersionIdentifier.of(lines.get(0));
+      }
+    } catch (IOException e) {
+      LOG.trace("No valid installed version cache for {} at {}", this.tool, cacheFile);
+    }
+    return null;
+  }
+
+  private void writeInstalledVersionCache(Path cacheFile, VersionIdentifier version, String stamp) {
+
+    try {
+      FileAccess fileAccess = this.context.getFileAccess();
+      fileAccess.mkdirs(cacheFile.getParent());
+      fileAccess.writeFileContentAtomically(version + "\n" + stamp + "\n", cacheFile);
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to write installed version cache of {} to {}", this.tool, cacheFile, e);
+    }
+  }
+
+  private void invalidateInstalledVersion() {
+
+    this.installedVersion.invalidate();
+    Path cacheFile = getInstalledVersionCacheFile();
+    FileAccess fileAccess = this.context.getFileAccess();
+    if ((cacheFile != null) && fileAccess.exists(cacheFile)) {
+      fileAccess.delete(cacheFile);
+    }
   }
 
   /**
@@ -197,7 +292,7 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     PackageManagerRequest packageManagerRequest = new PackageManagerRequest(PackageManagerRequest.TYPE_INSTALL, getPackageName())
         .setProcessContext(request.getProcessContext()).setVersion(request.getRequested().getResolvedVersion());
     runPackageManager(packageManagerRequest, isSkipInstallation()).failOnError();
-    this.installedVersion.invalidate();
+    invalidateInstalledVersion();
   }
 
   /**
@@ -220,7 +315,7 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     if (canBeUninstalled()) {
       PackageManagerRequest request = new PackageManagerRequest(PackageManagerRequest.TYPE_UNINSTALL, getPackageName());
       runPackageManager(request).failOnError();
-      this.installedVersion.invalidate();
+      invalidateInstalledVersion();
     } else {
       LOG.info("IDEasy does not support uninstalling the tool {} since this will break your installation.\n"
           + "If you really want to uninstall it, please uninstall its parent tool via:\n"
@@ -228,8 +323,35 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     }
   }
 
+  /**
+   * @return the {@link LocalToolCommandlet} this tool is installed into (e.g. {@code node} for {@code npm}). Implementations should declare the specific
+   *     type as return type so it can be determined via {@link #getParentToolType(Class)} without creating the {@link ToolCommandlet}.
+   */
   protected abstract LocalToolCommandlet getParentTool();
 
+  /**
+   * @param type the {@link Class} reflecting a {@link PackageManagerBasedLocalToolCommandlet}.
+   * @return the {@link Class} reflecting the type of the {@link #getParentTool() parent tool} as declared by the most specific implementation of
+   *     {@link #getParentTool()} or {@code null} if not declared more specific than {@link LocalToolCommandlet}.
+   */
+  public static Class<?> getParentToolType(Class<?> type) {
+
+    Class<?> current = type;
+    while ((current != null) && (current != PackageManagerBasedLocalToolCommandlet.class)) {
+      for (Method method : current.getDeclaredMethods()) {
+        if (method.getName().equals("getParentTool") && (method.getParameterCount() == 0) && !method.isBridge()) {
+          Class<?> parentType = method.getReturnType();
+          if (parentType == LocalToolCommandlet.class) {
+            return null;
+          }
+          return parentType;
+        }
+      }
+      current = current.getSuperclass();
+    }
+    return null;
+  }
+
   @Override
   public Path getToolPath() {
 
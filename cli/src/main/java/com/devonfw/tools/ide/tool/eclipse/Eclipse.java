@@ -141,8 +141,9 @@ public class Eclipse extends IdeToolCommandlet {
   public void importRepository(Path repositoryPath) {
     if (!this.groovyInstalled) {
       Mvn maven = this.context.getCommandletManager().getCommandlet(Mvn.class);
-      MvnArtifact groovyAnt = new MvnArtifact("org.codehaus.groovy", "groovy-ant", GROOVY_VERSION);
-      maven.getOrDownloadArtifact(groovyAnt);
+      // both jars are referenced by eclipse-import.xml
+      maven.getOrDownloadArtifact(new MvnArtifact("org.codehaus.groovy", "groovy-ant", GROOVY_VERSION));
+      maven.getOrDownloadArtifact(new MvnArtifact("org.codehaus.groovy", "groovy", GROOVY_VERSION));
       this.groovyInstalled = true;
     }
     Path buildFile = this.context.getIdeInstallationPath().resolve(IdeContext.FOLDER_INTERNAL).resolve("eclipse-import.xml");
@@ -321,12 +321,23 @@ public class Mvn extends MavenCommandlet implements BuildTool {
   }
 
   /**
+   * Downloads the given {@link MvnArtifact} into the local repository. The artifact is downloaded directly via
+   * {@link MvnRepository#downloadArtifact(MvnArtifact)} and only if that is not possible maven is launched with {@code dependency:get} as fallback.
+   *
    * @param artifact the {@link MvnArtifact}.
    */
   public void downloadArtifact(MvnArtifact artifact) {
 
     this.context.newStep("Download artifact " + artifact).run(() -> {
-      runTool(List.of("dependency:get", "-Dartifact=" + artifact.getKey()));
+      Path artifactPath = null;
+      try {
+        artifactPath = this.context.getMvnRepository().downloadArtifact(artifact);
+      } catch (Exception e) {
+        LOG.debug("Direct download of artifact {} failed - falling back to maven.", artifact, e);
+      }
+      if (artifactPath == null) {
+        runTool(List.of("dependency:get", "-Dartifact=" + artifact.getKey()));
+      }
     });
   }
 
@@ -1,6 +1,7 @@
 package com.devonfw.tools.ide.tool.mvn;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -13,6 +14,8 @@ import java.util.Map;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -24,6 +27,7 @@ import com.devonfw.tools.ide.os.OperatingSystem;
 import com.devonfw.tools.ide.os.SystemArchitecture;
 import com.devonfw.tools.ide.tool.IdeasyCommandlet;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
+import com.devonfw.tools.ide.tool.mvn.MvnSettings.Mirror;
 import com.devonfw.tools.ide.tool.repository.AbstractToolRepository;
 import com.devonfw.tools.ide.tool.repository.ArtifactToolRepository;
 import com.devonfw.tools.ide.url.model.file.UrlChecksums;
@@ -41,12 +45,20 @@ import com.devonfw.tools.ide.version.VersionIdentifier;
  */
 public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifactMetadata> {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MvnRepository.class);
+
   /** Base URL for Maven Central repository */
   public static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2";
 
   /** Base URL for Maven Snapshots repository */
   public static final String MAVEN_SNAPSHOTS = "https://central.sonatype.com/repository/maven-snapshots";
 
+  /** ID of the {@link #MAVEN_CENTRAL} repository as used in {@code mirrorOf} of the maven {@code settings.xml}. */
+  public static final String REPOSITORY_ID_CENTRAL = "central";
+
+  /** ID of the {@link #MAVEN_SNAPSHOTS} repository as used in {@code mirrorOf} of the maven {@code settings.xml}. */
+  public static final String REPOSITORY_ID_SNAPSHOTS = "snapshots";
+
   /** The {@link #getId() repository ID}. */
   public static final String ID = "maven";
 
@@ -58,6 +70,8 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
 
   private final DocumentBuilder documentBuilder;
 
+  private MvnSettings settings;
+
   private static final Map<String, MvnArtifact> TOOL_MAP = Map.of(
       "ideasy", IdeasyCommandlet.ARTIFACT,
       "gcviewer", new MvnArtifact("com.github.chewiebug", "gcviewer", "*")
@@ -149,18 +163,40 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
 
   protected UrlGenericChecksum getChecksum(MvnArtifact artifact, String hashAlgorithm) {
 
+    return getChecksum(artifact, hashAlgorithm, null);
+  }
+
+  private UrlGenericChecksum getChecksum(MvnArtifact artifact, String hashAlgorithm, String baseUrl) {
+
     MvnArtifact checksumArtifact = artifact.withType(artifact.getType() + "." + hashAlgorithm.toLowerCase(Locale.ROOT));
-    Path checksumFile = getDownloadedArtifact(checksumArtifact, null);
+    Path checksumFile = getDownloadedArtifact(checksumArtifact, null, baseUrl);
     String checksum = this.context.getFileAccess().readFileContent(checksumFile).trim();
     return new UrlGenericChecksumType(checksum, hashAlgorithm, checksumFile);
   }
 
   private Path getDownloadedArtifact(MvnArtifact artifact, UrlChecksums checksums) {
 
+    return getDownloadedArtifact(artifact, checksums, null);
+  }
+
+  /**
+   * @param artifact the {@link MvnArtifact} to download.
+   * @param checksums the {@link UrlChecksums} to verify or {@code null} for none.
+   * @param baseUrl the base URL of the {@link Mirror} to download from or {@code null} to use the {@link #getMavenUrl(MvnArtifact) maven URL}.
+   * @return the {@link Path} to the {@link MvnArtifact} in the local maven repository.
+   */
+  private Path getDownloadedArtifact(MvnArtifact artifact, UrlChecksums checksums, String baseUrl) {
+
     Path file = this.localMavenRepository.resolve(artifact.getPath());
     if (isNotUpToDateInLocalRepo(file)) {
       this.context.getFileAccess().mkdirs(file.getParent());
-      download(getMavenUrl(artifact), file, artifact.getVersion(), checksums);
+      String url;
+      if (baseUrl == null) {
+        url = getMavenUrl(artifact);
+      } else {
+        url = baseUrl + "/" + artifact.getPath();
+      }
+      download(url, file, artifact.getVersion(), checksums);
     }
     return file;
   }
@@ -261,6 +297,76 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
     return getDownloadedArtifact(metadata.getMvnArtifact(), metadata.getChecksums());
   }
 
+  /**
+   * Downloads the given {@link MvnArtifact} with its checksums directly via HTTP into the local maven repository ({@code M2_REPO}) without launching maven.
+   * Only for this artifact resolution the mirror configured in the maven {@code settings.xml} is honored. Other downloads of this repository (e.g. of tools)
+   * are not affected by the {@code settings.xml}.
+   *
+   * @param artifact the {@link MvnArtifact} to download.
+   * @return the {@link Path} to the {@link MvnArtifact} in the local maven repository or {@code null} if it cannot be downloaded directly (e.g. because the
+   *     mirror requires credentials or a proxy is configured) and maven has to be used instead.
+   */
+  public Path downloadArtifact(MvnArtifact artifact) {
+
+    if (artifact.isMavenMetadata() || artifact.getVersion().startsWith("*") || artifact.getVersion().endsWith("-SNAPSHOT")) {
+      LOG.debug("Cannot download unresolved artifact {} directly.", artifact);
+      return null;
+    }
+    MvnSettings mvnSettings = getSettings();
+    if (mvnSettings.hasActiveProxy()) {
+      LOG.debug("Cannot download artifact {} directly since a proxy is configured in the maven settings.", artifact);
+      return null;
+    }
+    Mirror mirror = mvnSettings.findMirror(getRepositoryId(artifact), getRepositoryUrl(artifact));
+    if (mirror == null) {
+      MvnArtifactMetadata metadata = getMetadata(artifact, artifact.getArtifactId(), artifact.getArtifactId());
+      return download(metadata);
+    } else if (!isDirectlyAccessible(mirror)) {
+      LOG.debug("Cannot download artifact {} directly from mirror {} that requires credentials or properties.", artifact, mirror.id());
+      return null;
+    }
+    String baseUrl = getMirrorBaseUrl(mirror);
+    return getDownloadedArtifact(artifact, new UrlLazyChecksums(artifact, baseUrl), baseUrl);
+  }
+
+  /**
+   * @return the {@link MvnSettings} from the maven {@code settings.xml}.
+   */
+  protected MvnSettings getSettings() {
+
+    if (this.settings == null) {
+      this.settings = MvnSettings.of(this.context.getMavenConfigurationFolder().resolve(Mvn.SETTINGS_FILE));
+    }
+    return this.settings;
+  }
+
+  private static String getRepositoryId(MvnArtifact artifact) {
+
+    return artifact.isSnapshot() ? REPOSITORY_ID_SNAPSHOTS : REPOSITORY_ID_CENTRAL;
+  }
+
+  private static String getRepositoryUrl(MvnArtifact artifact) {
+
+    return artifact.isSnapshot() ? MAVEN_SNAPSHOTS : MAVEN_CENTRAL;
+  }
+
+  private boolean isDirectlyAccessible(Mirror mirror) {
+
+    return !getSettings().hasCredentials(mirror.id()) && !mirror.url().contains("${");
+  }
+
+  private static String getMirrorBaseUrl(Mirror mirror) {
+
+    String url = mirror.url();
+    if (url.startsWith("file:")) {
+      url = Path.of(URI.create(url)).toString();
+    }
+    if (url.endsWith("/")) {
+      url = url.substring(0, url.length() - 1);
+    }
+    return url;
+  }
+
   private Element getFirstChildElement(Element element, String tag, Object source) {
 
     NodeList children = element.getChildNodes();
@@ -310,12 +416,20 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
 
     private final MvnArtifact artifact;
 
+    private final String baseUrl;
+
     private volatile List<UrlGenericChecksum> checksums;
 
     public UrlLazyChecksums(MvnArtifact artifact) {
 
+      this(artifact, null);
+    }
+
+    public UrlLazyChecksums(MvnArtifact artifact, String baseUrl) {
+
       super();
       this.artifact = artifact;
+      this.baseUrl = baseUrl;
     }
 
     @Override
@@ -324,8 +438,8 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
       if (this.checksums == null) {
         synchronized (this) {
           if (this.checksums == null) {
-            UrlGenericChecksum md5 = getChecksum(this.artifact, "MD5");
-            UrlGenericChecksum sha1 = getChecksum(this.artifact, "SHA1");
+            UrlGenericChecksum md5 = getChecksum(this.artifact, "MD5", this.baseUrl);
+            UrlGenericChecksum sha1 = getChecksum(this.artifact, "SHA1", this.baseUrl);
             this.checksums = List.of(md5, sha1);
           }
         }
@@ -0,0 +1,224 @@
+package com.devonfw.tools.ide.tool.mvn;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * The parts of a maven {@code settings.xml} file that are relevant to download artifacts directly from a remote repository without launching maven: the
+ * configured {@link Mirror mirrors}, the IDs of the servers that have credentials configured and whether an active proxy is configured. The proxy itself is
+ * not supported by the direct download so callers have to {@link #hasActiveProxy() check} for it and launch maven instead.
+ */
+public class MvnSettings {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MvnSettings.class);
+
+  private static final String WILDCARD = "*";
+
+  private static final String EXTERNAL_WILDCARD = "external:*";
+
+  private static final String EXTERNAL_HTTP_WILDCARD = "external:http:*";
+
+  /** {@link MvnSettings} without any mirrors or servers. */
+  public static final MvnSettings EMPTY = new MvnSettings(List.of(), Set.of(), false);
+
+  private final List<Mirror> mirrors;
+
+  private final Set<String> serverIds;
+
+  private final boolean activeProxy;
+
+  private MvnSettings(List<Mirror> mirrors, Set<String> serverIds, boolean activeProxy) {
+
+    super();
+    this.mirrors = mirrors;
+    this.serverIds = serverIds;
+    this.activeProxy = activeProxy;
+  }
+
+  /**
+   * Finds the {@link Mirror} for the given repository like maven does: a mirror whose {@link Mirror#mirrorOf() mirrorOf} is exactly the repository ID wins,
+   * otherwise the first mirror whose {@link Mirror#matches(String, String) pattern matches} is used.
+   *
+   * @param repositoryId the ID of the remote repository (e.g. "central").
+   * @param repositoryUrl the URL of the remote repository used to determine if it is external.
+   * @return the {@link Mirror} configured for the given repository or {@code null} if the repository is not mirrored.
+   */
+  public Mirror findMirror(String repositoryId, String repositoryUrl) {
+
+    for (Mirror mirror : this.mirrors) {
+      if (mirror.mirrorOf().equals(repositoryId)) {
+        return mirror;
+      }
+    }
+    for (Mirror mirror : this.mirrors) {
+      if (mirror.matches(repositoryId, repositoryUrl)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return {@code true} if an active {@code <proxy>} is configured, {@code false} otherwise.
+   */
+  public boolean hasActiveProxy() {
+
+    return this.activeProxy;
+  }
+
+  /**
+   * @param serverId the ID of the server (typically the ID of a {@link Mirror} or repository).
+   * @return {@code true} if credentials are configured for the given server, {@code false} otherwise.
+   */
+  public boolean hasCredentials(String serverId) {
+
+    return this.serverIds.contains(serverId);
+  }
+
+  /**
+   * @param settingsFile the {@link Path} to the {@code settings.xml} file.
+   * @return the parsed {@link MvnSettings} or {@link #EMPTY} if the file does not exist or could not be parsed.
+   */
+  public static MvnSettings of(Path settingsFile) {
+
+    if ((settingsFile == null) || !Files.isRegularFile(settingsFile)) {
+      return EMPTY;
+    }
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setNamespaceAware(false);
+      Document document = factory.newDocumentBuilder().parse(settingsFile.toFile());
+      Element root = document.getDocumentElement();
+      List<Mirror> mirrors = new ArrayList<>();
+      for (Element mirror : getChildElements(getChildElement(root, "mirrors"), "mirror")) {
+        String url = getChildText(mirror, "url");
+        String mirrorOf = getChildText(mirror, "mirrorOf");
+        if ((url != null) && (mirrorOf != null)) {
+          mirrors.add(new Mirror(getChildText(mirror, "id"), url, mirrorOf));
+        }
+      }
+      Set<String> serverIds = new HashSet<>();
+      for (Element server : getChildElements(getChildElement(root, "servers"), "server")) {
+        String id = getChildText(server, "id");
+        if (id != null) {
+          serverIds.add(id);
+        }
+      }
+      boolean activeProxy = false;
+      for (Element proxy : getChildElements(getChildElement(root, "proxies"), "proxy")) {
+        if (!"false".equals(getChildText(proxy, "active"))) {
+          activeProxy = true;
+        }
+      }
+      return new MvnSettings(List.copyOf(mirrors), Set.copyOf(serverIds), activeProxy);
+    } catch (Exception e) {
+      LOG.warn("Failed to parse maven settings from {}", settingsFile, e);
+      return EMPTY;
+    }
+  }
+
+  private static Element getChildElement(Element element, String tag) {
+
+    List<Element> children = getChildElements(element, tag);
+    if (children.isEmpty()) {
+      return null;
+    }
+    return children.getFirst();
+  }
+
+  private static List<Element> getChildElements(Element element, String tag) {
+
+    if (element == null) {
+      return List.of();
+    }
+    List<Element> result = new ArrayList<>();
+    NodeList children = element.getChildNodes();
+    int length = children.getLength();
+    for (int i = 0; i < length; i++) {
+      Node node = children.item(i);
+      if ((node instanceof Element child) && child.getTagName().equals(tag)) {
+        result.add(child);
+      }
+    }
+    return result;
+  }
+
+  private static String getChildText(Element element, String tag) {
+
+    Element child = getChildElement(element, tag);
+    if (child == null) {
+      return null;
+    }
+    String text = child.getTextContent().trim();
+    if (text.isEmpty()) {
+      return null;
+    }
+    return text;
+  }
+
+  /**
+   * A {@code <mirror>} from the {@code settings.xml}.
+   *
+   * @param id the ID of the mirror that is also used to look up the server credentials.
+   * @param url the base URL of the mirror.
+   * @param mirrorOf the comma-separated list of repository IDs or patterns ({@code *}, {@code external:*}, {@code external:http:*} or {@code !id} to exclude a
+   *     repository) that are mirrored.
+   */
+  public record Mirror(String id, String url, String mirrorOf) {
+
+    /**
+     * Matches the {@link #mirrorOf() mirrorOf} pattern with the semantics of maven: the segments are processed in order, an exact ID or an exclusion
+     * ({@code !id}) decides immediately while wildcards may still be overruled by a following exclusion.
+     *
+     * @param repositoryId the ID of the remote repository.
+     * @param repositoryUrl the URL of the remote repository.
+     * @return {@code true} if the repository is mirrored by this {@link Mirror}, {@code false} otherwise.
+     */
+    boolean matches(String repositoryId, String repositoryUrl) {
+
+      boolean match = false;
+      for (String segment : this.mirrorOf.split(",")) {
+        String pattern = segment.trim();
+        if ((pattern.length() > 1) && pattern.startsWith("!")) {
+          if (pattern.substring(1).equals(repositoryId)) {
+            return false;
+          }
+        } else if (pattern.equals(repositoryId)) {
+          return true;
+        } else if (pattern.equals(WILDCARD)) {
+          match = true;
+        } else if (pattern.equals(EXTERNAL_WILDCARD) && isExternal(repositoryUrl)) {
+          match = true;
+        } else if (pattern.equals(EXTERNAL_HTTP_WILDCARD) && isExternal(repositoryUrl) && repositoryUrl.startsWith("http:")) {
+          match = true;
+        }
+      }
+      return match;
+    }
+
+    private static boolean isExternal(String repositoryUrl) {
+
+      try {
+        URI uri = URI.create(repositoryUrl);
+        String host = uri.getHost();
+        return !"file".equals(uri.getScheme()) && !"localhost".equals(host) && !"127.0.0.1".equals(host);
+      } catch (IllegalArgumentException e) {
+        return false;
+      }
+    }
+  }
+
+}
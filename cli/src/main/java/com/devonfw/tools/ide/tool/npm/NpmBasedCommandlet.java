@@ -1,6 +1,7 @@
 package com.devonfw.tools.ide.tool.npm;
 
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
@@ -50,6 +51,17 @@ public abstract class NpmBasedCommandlet extends NodeBasedCommandlet<Npm> {
     return this.context.getNpmRepository();
   }
 
+  @Override
+  protected Path getInstalledVersionManifest() {
+
+    // npm installs global packages into "node_modules" on Windows and into "lib/node_modules" on other platforms
+    Path nodeModules = this.context.getSoftwarePath().resolve("node");
+    if (!this.context.getSystemInfo().isWindows()) {
+      nodeModules = nodeModules.resolve("lib");
+    }
+    return nodeModules.resolve("node_modules").resolve(getPackageName()).resolve("package.json");
+  }
+
   @Override
   protected VersionIdentifier computeInstalledVersion() {
     return runPackageManagerGetInstalledVersion(getPackageName());
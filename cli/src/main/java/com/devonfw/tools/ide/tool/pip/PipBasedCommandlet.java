@@ -1,8 +1,11 @@
 package com.devonfw.tools.ide.tool.pip;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +34,10 @@ public abstract class PipBasedCommandlet extends PackageManagerBasedLocalToolCom
 
   private static final String PIP_SHOW_VERSION_PREFIX = "Version:";
 
+  private static final String SUFFIX_DIST_INFO = ".dist-info";
+
+  private static final String FILE_METADATA = "METADATA";
+
   /**
    * The constructor.
    *
@@ -91,6 +98,69 @@ public abstract class PipBasedCommandlet extends PackageManagerBasedLocalToolCom
     super.completeRequestArgs(request);
   }
 
+  @Override
+  protected Path getInstalledVersionManifest() {
+
+    // pip writes the metadata of each installed package to "<name>-<version>.dist-info/METADATA" in site-packages
+    Path sitePackages = getSitePackagesPath();
+    if (sitePackages == null) {
+      return null;
+    }
+    String name = normalizeDistributionName(getPackageName());
+    try (Stream<Path> children = Files.list(sitePackages)) {
+      return children.filter(child -> isDistInfo(child.getFileName().toString(), name)).map(child -> child.resolve(FILE_METADATA))
+          .filter(Files::isRegularFile).findFirst().orElse(null);
+    } catch (IOException e) {
+      LOG.debug("Failed to find {} of {} in {}", FILE_METADATA, this.tool, sitePackages, e);
+      return null;
+    }
+  }
+
+  private static boolean isDistInfo(String filename, String name) {
+
+    // the escaped name of the distribution never contains a "-" so the first one separates the version
+    int dashIndex = filename.indexOf('-');
+    if ((dashIndex <= 0) || !filename.endsWith(SUFFIX_DIST_INFO)) {
+      return false;
+    }
+    return normalizeDistributionName(filename.substring(0, dashIndex)).equals(name);
+  }
+
+  /**
+   * @param name the name of a python distribution (package).
+   * @return the normalized name as used for the {@code .dist-info} folder (lower case with runs of "-", "_", and "." replaced by "_").
+   */
+  private static String normalizeDistributionName(String name) {
+
+    return name.toLowerCase(Locale.ROOT).replaceAll("[-_.]+", "_");
+  }
+
+  private Path getSitePackagesPath() {
+
+    Path pythonPath = getToolPath();
+    if (pythonPath == null) {
+      return null;
+    }
+    if (this.context.getSystemInfo().isWindows()) {
+      Path sitePackages = pythonPath.resolve("Lib").resolve("site-packages");
+      if (!Files.isDirectory(sitePackages)) {
+        return null;
+      }
+      return sitePackages;
+    }
+    Path libPath = pythonPath.resolve("lib");
+    if (!Files.isDirectory(libPath)) {
+      return null;
+    }
+    try (Stream<Path> children = Files.list(libPath)) {
+      return children.filter(child -> child.getFileName().toString().startsWith("python")).map(child -> child.resolve("site-packages"))
+          .filter(Files::isDirectory).findFirst().orElse(null);
+    } catch (IOException e) {
+      LOG.debug("Failed to find site-packages in {}", libPath, e);
+      return null;
+    }
+  }
+
   @Override
   protected VersionIdentifier computeInstalledVersion() {
 
@@ -1,6 +1,11 @@
 package com.devonfw.tools.ide.tool.python;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -8,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.os.SystemInfo;
 import com.devonfw.tools.ide.process.ProcessErrorHandling;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
@@ -18,7 +24,10 @@ import com.devonfw.tools.ide.url.model.file.UrlDownloadFileMetadata;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
 /**
- * {@link com.devonfw.tools.ide.tool.repository.ToolRepository ToolRepository} for Python.
+ * {@link com.devonfw.tools.ide.tool.repository.ToolRepository ToolRepository} for Python. The available versions are determined via {@code uv python list}
+ * what spawns a process and may even access the network. Therefore, the result is persisted in {@link #FILE_PYTHON_VERSIONS} for the uv version and the
+ * OS and architecture it was computed for. A persisted listing older than {@link #CACHE_DURATION} is refreshed. If that fails (e.g. because we are offline) the
+ * outdated listing is still used.
  */
 public class PythonRepository extends AbstractToolRepository {
 
@@ -27,6 +36,14 @@ public class PythonRepository extends AbstractToolRepository {
 
   private static final Logger LOG = LoggerFactory.getLogger(PythonRepository.class);
 
+  /** The name of the file inside {@link IdeContext#getIdePath() IDE_ROOT/_ide} where the available Python versions are persisted. */
+  static final String FILE_PYTHON_VERSIONS = "python-versions.index";
+
+  /** The {@link Duration} after which the persisted Python versions are refreshed. */
+  static final Duration CACHE_DURATION = Duration.ofDays(1);
+
+  private static final String HEADER_PREFIX = "@";
+
   private List<VersionIdentifier> cachedVersions;
 
   /**
@@ -55,11 +72,104 @@ public class PythonRepository extends AbstractToolRepository {
   public List<VersionIdentifier> getSortedVersions(String tool, String edition, ToolCommandlet toolCommandlet) {
 
     if (this.cachedVersions == null) {
-      this.cachedVersions = computeSortedVersions();
+      this.cachedVersions = loadSortedVersions();
     }
     return this.cachedVersions;
   }
 
+  private List<VersionIdentifier> loadSortedVersions() {
+
+    Path indexFile = getIndexFile();
+    String header = getHeader();
+    if ((indexFile != null) && (header != null) && Files.exists(indexFile)) {
+      List<VersionIdentifier> versions = readIndex(indexFile, header);
+      if (versions != null) {
+        if (!this.context.getFileAccess().isFileAgeRecent(indexFile, CACHE_DURATION) && !this.context.isOfflineMode()) {
+          LOG.debug("Python versions from {} are outdated and will be refreshed.", indexFile);
+          versions = refreshIndex(indexFile, header, versions);
+        }
+        return versions;
+      }
+    }
+    List<VersionIdentifier> versions = computeSortedVersions();
+    if (indexFile != null) {
+      // uv may have been installed by computeSortedVersions so we have to determine the header again
+      String newHeader = getHeader();
+      if (newHeader != null) {
+        writeIndex(indexFile, newHeader, versions);
+      }
+    }
+    return versions;
+  }
+
+  private List<VersionIdentifier> refreshIndex(Path indexFile, String header, List<VersionIdentifier> outdatedVersions) {
+
+    try {
+      List<VersionIdentifier> versions = computeSortedVersions();
+      writeIndex(indexFile, header, versions);
+      return versions;
+    } catch (Exception e) {
+      LOG.debug("Failed to refresh Python versions in {} - using outdated versions.", indexFile, e);
+      return outdatedVersions;
+    }
+  }
+
+  private Path getIndexFile() {
+
+    Path idePath = this.context.getIdePath();
+    if (idePath == null) {
+      return null;
+    }
+    return idePath.resolve(FILE_PYTHON_VERSIONS);
+  }
+
+  /**
+   * @return the header identifying the uv version, OS, and architecture the Python versions have been computed for or {@code null} if uv is not installed.
+   */
+  private String getHeader() {
+
+    VersionIdentifier uvVersion = this.context.getCommandletManager().getCommandlet(Uv.class).getInstalledVersion();
+    if (uvVersion == null) {
+      return null;
+    }
+    SystemInfo systemInfo = this.context.getSystemInfo();
+    return HEADER_PREFIX + uvVersion + "-" + systemInfo.getOs() + "-" + systemInfo.getArchitecture();
+  }
+
+  private static List<VersionIdentifier> readIndex(Path indexFile, String header) {
+
+    try {
+      List<String> lines = Files.readAllLines(indexFile);
+      if (lines.isEmpty() || !lines.getFirst().equals(header)) {
+        LOG.debug("Ignoring Python versions from {} that were computed for a different uv version or system.", indexFile);
+        return null;
+      }
+      List<VersionIdentifier> versions = new ArrayList<>(lines.size() - 1);
+      for (int i = 1; i < lines.size(); i++) {
+        versions.add(VersionIdentifier.of(lines.get(i)));
+      }
+      LOG.trace("Using {} Python version(s) from {}", versions.size(), indexFile);
+      return Collections.unmodifiableList(versions);
+    } catch (IOException e) {
+      LOG.debug("Failed to read Python versions from {}", indexFile, e);
+      return null;
+    }
+  }
+
+  private void writeIndex(Path indexFile, String header, List<VersionIdentifier> versions) {
+
+    StringBuilder sb = new StringBuilder(header).append('\n');
+    for (VersionIdentifier version : versions) {
+      sb.append(version).append('\n');
+    }
+    try {
+      // atomically since multiple IDEasy processes may write the index concurrently
+      this.context.getFileAccess().writeFileContentAtomically(sb.toString(), indexFile);
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to write Python versions to {}", indexFile, e);
+    }
+  }
+
   private List<VersionIdentifier> computeSortedVersions() {
 
     List<PythonUvListEntry> entries = fetchUvPythonList();
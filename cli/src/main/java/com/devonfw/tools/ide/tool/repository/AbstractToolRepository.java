@@ -1,5 +1,6 @@
 package com.devonfw.tools.ide.tool.repository;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import org.slf4j.event.Level;
 import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.BackgroundDownloader;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.OperatingSystem;
 import com.devonfw.tools.ide.os.SystemArchitecture;
@@ -22,6 +24,7 @@ import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.url.model.file.UrlChecksums;
 import com.devonfw.tools.ide.url.model.file.UrlDownloadFileMetadata;
 import com.devonfw.tools.ide.url.model.file.UrlGenericChecksum;
+import com.devonfw.tools.ide.url.model.file.UrlGenericChecksumType;
 import com.devonfw.tools.ide.url.model.file.json.ToolDependencies;
 import com.devonfw.tools.ide.url.model.file.json.ToolDependency;
 import com.devonfw.tools.ide.url.model.file.json.ToolSecurity;
@@ -89,11 +92,7 @@ public abstract class AbstractToolRepository implements ToolRepository {
    * @return the {@link Path} to the downloaded file.
    */
   protected Path doDownload(UrlDownloadFileMetadata metadata) {
-    String downloadFilename = createDownloadFilename(metadata.getTool(), metadata.getEdition(), metadata.getVersion(), metadata.getOs(),
-        metadata.getArch(), metadata.getUrls().iterator().next());
-    Path downloadCache = this.context.getDownloadPath().resolve(getId());
-    this.context.getFileAccess().mkdirs(downloadCache);
-    Path target = downloadCache.resolve(downloadFilename);
+    Path target = getDownloadTarget(metadata);
 
     if (Files.exists(target)) {
       // File is already cached
@@ -112,6 +111,101 @@ public abstract class AbstractToolRepository implements ToolRepository {
     return target;
   }
 
+  private Path getDownloadTarget(UrlDownloadFileMetadata metadata) {
+
+    String downloadFilename = createDownloadFilename(metadata.getTool(), metadata.getEdition(), metadata.getVersion(), metadata.getOs(),
+        metadata.getArch(), metadata.getUrls().iterator().next());
+    Path downloadCache = this.context.getDownloadPath().resolve(getId());
+    this.context.getFileAccess().mkdirs(downloadCache);
+    return downloadCache.resolve(downloadFilename);
+  }
+
+  /**
+   * Prepares the download of the requested tool into the download cache in the background. All metadata (URLs and checksums) is resolved on the calling
+   * thread since the {@link com.devonfw.tools.ide.url.model.UrlMetadata} is not thread-safe.
+   *
+   * @param tool the name of the tool to download.
+   * @param edition the edition of the tool to download.
+   * @param version the resolved {@link VersionIdentifier} to download.
+   * @param toolCommandlet the {@link ToolCommandlet}.
+   * @return the {@link PrefetchDownload} or {@code null} if it was already cached or cannot be cached.
+   */
+  public PrefetchDownload preparePrefetch(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    UrlDownloadFileMetadata metadata = getMetadata(tool, edition, version, toolCommandlet);
+    if (metadata.getUrls().isEmpty() || isLatestVersion(metadata.getVersion())) {
+      return null;
+    }
+    Path target = getDownloadTarget(metadata);
+    if (Files.exists(target)) {
+      LOG.trace("Download of {} in version {} is already cached at {}", tool, version, target);
+      return null;
+    }
+    List<UrlGenericChecksum> checksums = new ArrayList<>();
+    UrlChecksums expectedChecksums = metadata.getChecksums();
+    if (expectedChecksums != null) {
+      for (UrlGenericChecksum checksum : expectedChecksums) {
+        checksums.add(new UrlGenericChecksumType(checksum.getChecksum(), checksum.getHashAlgorithm(), checksum.toString()));
+      }
+    }
+    return new PrefetchDownload(target, this.context.getTempDownloadPath(), List.copyOf(metadata.getUrls()), List.copyOf(checksums));
+  }
+
+  /**
+   * Downloads the {@link #preparePrefetch(String, String, VersionIdentifier, ToolCommandlet) prepared} {@link PrefetchDownload} into the download cache.
+   * Unlike {@link #download(String, String, VersionIdentifier, ToolCommandlet)} this method neither accesses the {@link IdeContext} nor its
+   * {@link com.devonfw.tools.ide.io.FileAccess} and does not log so it can be called from a background thread.
+   *
+   * @param download the {@link PrefetchDownload}.
+   * @param downloader the {@link BackgroundDownloader} to use.
+   * @return the {@link Path} to the downloaded file or {@code null} if it has been downloaded concurrently.
+   */
+  public static Path prefetch(PrefetchDownload download, BackgroundDownloader downloader) {
+
+    Path target = download.target();
+    Exception error = null;
+    for (String url : download.urls()) {
+      Path tmpDownloadFile = null;
+      try {
+        Files.createDirectories(download.tempFolder());
+        tmpDownloadFile = Files.createTempFile(download.tempFolder(), target.getFileName().toString(), ".prefetch");
+        downloader.download(url, tmpDownloadFile);
+        for (UrlGenericChecksum expectedChecksum : download.checksums()) {
+          String hashAlgorithm = expectedChecksum.getHashAlgorithm();
+          String actualChecksum = downloader.checksum(tmpDownloadFile, hashAlgorithm);
+          if (!expectedChecksum.getChecksum().equals(actualChecksum)) {
+            throw new IllegalStateException("Downloaded file " + url + " has the wrong " + hashAlgorithm + " checksum " + actualChecksum + " instead of "
+                + expectedChecksum.getChecksum());
+          }
+        }
+        Files.createDirectories(target.getParent());
+        if (downloader.move(tmpDownloadFile, target)) {
+          return target;
+        }
+        return null;
+      } catch (IOException | RuntimeException e) {
+        if (tmpDownloadFile != null) {
+          downloader.delete(tmpDownloadFile);
+        }
+        error = e;
+      }
+    }
+    throw new IllegalStateException("Prefetch of " + target.getFileName() + " failed.", error);
+  }
+
+  /**
+   * A download {@link #preparePrefetch(String, String, VersionIdentifier, ToolCommandlet) prepared} for the
+   * {@link #prefetch(PrefetchDownload, BackgroundDownloader) prefetch}.
+   *
+   * @param target the {@link Path} to the file in the download cache.
+   * @param tempFolder the {@link Path} to the folder for temporary downloads.
+   * @param urls the {@link List} of URLs to download from.
+   * @param checksums the {@link List} of expected {@link UrlGenericChecksum}s.
+   */
+  public record PrefetchDownload(Path target, Path tempFolder, List<String> urls, List<UrlGenericChecksum> checksums) {
+
+  }
+
   /**
    * @param metadata the {@link UrlDownloadFileMetadata} for the download.
    * @param target the expected {@link Path} to download to.
@@ -0,0 +1,245 @@
+package com.devonfw.tools.ide.tool.repository;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.environment.AbstractEnvironmentVariables;
+import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
+import com.devonfw.tools.ide.environment.ExtensibleEnvironmentVariables;
+import com.devonfw.tools.ide.io.BackgroundDownloader;
+import com.devonfw.tools.ide.tool.LocalToolCommandlet;
+import com.devonfw.tools.ide.tool.ToolCommandlet;
+import com.devonfw.tools.ide.tool.repository.AbstractToolRepository.PrefetchDownload;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Prefetches the downloads of the tools configured in the other projects of {@link IdeContext#getIdeRoot() IDE_ROOT} into the
+ * {@link IdeContext#getDownloadPath() download cache}. The tools of the current project are installed by {@code ide update} anyway, but the tools of the
+ * other projects (or new versions matching their {@code «TOOL»_VERSION} patterns after an update of the urls) would otherwise only be downloaded when they
+ * are used for the first time. The prefetch runs in a background thread with low priority and limited bandwidth, and the checksums of the downloads are
+ * verified so that a later installation only needs to extract from the disk. The background thread uses its own {@link BackgroundDownloader} and does not
+ * log so it never interferes with the output of the main thread. Instead, the results are logged by {@link #await()}.
+ */
+public class DownloadPrefetcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DownloadPrefetcher.class);
+
+  private final IdeContext context;
+
+  private final BackgroundDownloader downloader;
+
+  private final ConcurrentLinkedQueue<PrefetchResult> results;
+
+  private Thread thread;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public DownloadPrefetcher(IdeContext context) {
+
+    super();
+    this.context = context;
+    double megabytesPerSecond = IdeVariables.IDE_PREFETCH_BANDWIDTH.get(context);
+    long maxBytesPerSecond = (megabytesPerSecond <= 0) ? 0 : (long) (megabytesPerSecond * 1024 * 1024);
+    this.downloader = new BackgroundDownloader(IdeVariables.HTTP_VERSIONS.get(context), maxBytesPerSecond);
+    this.results = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * Starts the prefetch in a background thread with low priority. The versions and download metadata are resolved before on the calling thread since the
+   * {@link IdeContext} and its {@link com.devonfw.tools.ide.url.model.UrlMetadata} are not thread-safe. Only the resulting URLs and checksums are passed to the
+   * background thread.
+   */
+  public void start() {
+
+    if (this.thread != null) {
+      throw new IllegalStateException("Prefetch already started.");
+    }
+    List<PreparedDownload> downloads = prepare();
+    this.thread = Thread.ofPlatform().name("ide-prefetch").daemon(true).priority(Thread.MIN_PRIORITY).unstarted(() -> download(downloads));
+    this.thread.start();
+  }
+
+  /**
+   * Waits for the background prefetch to complete and logs its results.
+   *
+   * @return the number of files that have been downloaded.
+   */
+  public int await() {
+
+    if (this.thread != null) {
+      try {
+        this.thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        this.thread.interrupt();
+      }
+    }
+    return report();
+  }
+
+  /**
+   * Prefetches the downloads of all configured tools synchronously.
+   *
+   * @return the number of files that have been downloaded.
+   */
+  public int prefetch() {
+
+    download(prepare());
+    return report();
+  }
+
+  private int report() {
+
+    int downloadCount = 0;
+    PrefetchResult result = this.results.poll();
+    while (result != null) {
+      if (result.error() != null) {
+        LOG.warn("Failed to prefetch {}", result.request(), result.error());
+      } else if (result.file() != null) {
+        LOG.debug("Prefetched {} to {}", result.request(), result.file());
+        downloadCount++;
+      }
+      result = this.results.poll();
+    }
+    // the download cache was modified without the FileAccess of the main thread
+    this.context.getFileAccess().clearMetadataCache();
+    return downloadCount;
+  }
+
+  private List<PreparedDownload> prepare() {
+
+    if (this.context.getNetworkStatus().isOffline()) {
+      LOG.debug("Skipping prefetch of downloads because offline.");
+      return List.of();
+    }
+    List<PreparedDownload> downloads = new ArrayList<>();
+    for (PrefetchRequest request : collectRequests()) {
+      try {
+        PreparedDownload download = prepare(request);
+        if (download != null) {
+          downloads.add(download);
+        }
+      } catch (Exception e) {
+        LOG.warn("Failed to prefetch {}", request, e);
+      }
+    }
+    return downloads;
+  }
+
+  private PreparedDownload prepare(PrefetchRequest request) {
+
+    ToolCommandlet toolCommandlet = this.context.getCommandletManager().getToolCommandlet(request.tool());
+    if (!(toolCommandlet instanceof LocalToolCommandlet)) {
+      return null;
+    }
+    ToolRepository toolRepository = toolCommandlet.getToolRepository();
+    if (!(toolRepository instanceof AbstractToolRepository repository)) {
+      return null;
+    }
+    VersionIdentifier version = repository.resolveVersion(request.tool(), request.edition(), request.version(), toolCommandlet);
+    PrefetchDownload download = repository.preparePrefetch(request.tool(), request.edition(), version, toolCommandlet);
+    if (download == null) {
+      return null;
+    }
+    return new PreparedDownload(request, download);
+  }
+
+  private void download(List<PreparedDownload> downloads) {
+
+    for (PreparedDownload download : downloads) {
+      if (Thread.currentThread().isInterrupted()) {
+        break;
+      }
+      try {
+        Path file = AbstractToolRepository.prefetch(download.download(), this.downloader);
+        this.results.add(new PrefetchResult(download.request(), file, null));
+      } catch (Exception e) {
+        this.results.add(new PrefetchResult(download.request(), null, e));
+      }
+    }
+  }
+
+  /**
+   * @return the {@link Set} of {@link PrefetchRequest}s for the tools configured in the other projects.
+   */
+  Set<PrefetchRequest> collectRequests() {
+
+    Set<PrefetchRequest> requests = new LinkedHashSet<>();
+    EnvironmentVariables user = this.context.getVariables().getByType(EnvironmentVariablesType.USER);
+    if (!(user instanceof AbstractEnvironmentVariables userVariables)) {
+      return requests;
+    }
+    Path ideHome = this.context.getIdeHome();
+    for (Path project : this.context.findProjects()) {
+      if (project.equals(ideHome)) {
+        continue; // the tools of the current project are installed by the update itself
+      }
+      EnvironmentVariables variables = createProjectVariables(userVariables, project);
+      String tools = variables.get(IdeVariables.IDE_TOOLS.getName());
+      List<String> toolNames = (tools == null) ? List.of() : IdeVariables.IDE_TOOLS.fromString(tools, this.context);
+      for (String tool : toolNames) {
+        if ((tool != null) && !tool.isBlank()) {
+          requests.add(new PrefetchRequest(tool, variables.getToolEdition(tool), variables.getToolVersion(tool)));
+        }
+      }
+    }
+    return requests;
+  }
+
+  /**
+   * @param userVariables the {@link EnvironmentVariablesType#USER user} {@link AbstractEnvironmentVariables variables} shared by all projects.
+   * @param project the {@link Path} to the {@link IdeContext#getIdeHome() IDE_HOME} of the project.
+   * @return the resolved {@link EnvironmentVariables} of the given project with the same layers as the {@link IdeContext#getVariables() variables} of the
+   *     current project and the project specific variables such as {@code IDE_HOME} or {@code WORKSPACE_PATH} pointing to the given project.
+   */
+  private EnvironmentVariables createProjectVariables(AbstractEnvironmentVariables userVariables, Path project) {
+
+    Path workspacePath = project.resolve(IdeContext.FOLDER_WORKSPACES).resolve(IdeContext.WORKSPACE_MAIN);
+    AbstractEnvironmentVariables settings = userVariables.extend(project.resolve(IdeContext.FOLDER_SETTINGS), EnvironmentVariablesType.SETTINGS);
+    AbstractEnvironmentVariables workspace = settings.extend(workspacePath, EnvironmentVariablesType.WORKSPACE);
+    AbstractEnvironmentVariables conf = workspace.extend(project.resolve(IdeContext.FOLDER_CONF), EnvironmentVariablesType.CONF);
+    ExtensibleEnvironmentVariables projectVariables = new ExtensibleEnvironmentVariables(conf, this.context);
+    projectVariables.setValue(IdeVariables.IDE_HOME.getName(), project.toString());
+    projectVariables.setValue(IdeVariables.WORKSPACE.getName(), IdeContext.WORKSPACE_MAIN);
+    projectVariables.setValue(IdeVariables.WORKSPACE_PATH.getName(), workspacePath.toString());
+    return projectVariables.resolved();
+  }
+
+  /**
+   * A request to prefetch a tool.
+   *
+   * @param tool the name of the tool.
+   * @param edition the edition of the tool.
+   * @param version the configured version (pattern) of the tool.
+   */
+  record PrefetchRequest(String tool, String edition, VersionIdentifier version) {
+
+    @Override
+    public String toString() {
+
+      return this.tool + "/" + this.edition + "@" + this.version;
+    }
+  }
+
+  private record PreparedDownload(PrefetchRequest request, PrefetchDownload download) {
+
+  }
+
+  private record PrefetchResult(PrefetchRequest request, Path file, Exception error) {
+
+  }
+
+}
@@ -0,0 +1,104 @@
+package com.devonfw.tools.ide.tool.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.io.HardLinkDeduplicator;
+import com.devonfw.tools.ide.io.HardLinkDeduplicator.DeduplicationResult;
+import com.devonfw.tools.ide.tool.ide.IdeToolCommandlet;
+
+/**
+ * Deduplicates the {@link IdeContext#getSoftwareRepositoryPath() software repository} with the layout {@code «repository»/«tool»/«edition»/«version»}.
+ * Consecutive versions of a tool (e.g. JDKs, maven, or IDEs) share many identical files that are replaced with hard-links by the
+ * {@link HardLinkDeduplicator}. Each installation is processed only once and then marked with the file {@value #FILE_DEDUPLICATED}. Installations without
+ * {@link IdeContext#FILE_SOFTWARE_VERSION version file} are not yet complete and therefore skipped. Installations of {@link IdeToolCommandlet IDEs} are
+ * skipped as well since IDEs update themselves and install plugins by modifying their installation in place.
+ */
+public class SoftwareRepositoryDeduplicator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SoftwareRepositoryDeduplicator.class);
+
+  /** Name of the file inside an installation that marks it as already deduplicated. */
+  public static final String FILE_DEDUPLICATED = ".ide.software.deduplicated";
+
+  /** Name of the file inside the software repository with the checksums of the files that are available as link targets. */
+  static final String FILE_INDEX = ".ide-deduplication-index";
+
+  private final IdeContext context;
+
+  private final Path softwareRepositoryPath;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public SoftwareRepositoryDeduplicator(IdeContext context) {
+
+    super();
+    this.context = context;
+    this.softwareRepositoryPath = context.getSoftwareRepositoryPath();
+  }
+
+  /**
+   * Deduplicates all installations in the software repository that have not yet been processed.
+   *
+   * @return the summed up {@link DeduplicationResult} of the newly processed installations.
+   */
+  public DeduplicationResult deduplicate() {
+
+    long size = 0;
+    long reclaimed = 0;
+    int linkCount = 0;
+    if ((this.softwareRepositoryPath == null) || !Files.isDirectory(this.softwareRepositoryPath)) {
+      return new DeduplicationResult(size, reclaimed, linkCount);
+    }
+    FileAccess fileAccess = this.context.getFileAccess();
+    HardLinkDeduplicator deduplicator = new HardLinkDeduplicator(fileAccess, this.softwareRepositoryPath, FILE_INDEX);
+    for (Path repository : fileAccess.listChildren(this.softwareRepositoryPath, Files::isDirectory)) {
+      for (Path tool : fileAccess.listChildren(repository, Files::isDirectory)) {
+        if (isIde(tool)) {
+          LOG.trace("Not deduplicating self-updating IDE {}", tool);
+          continue;
+        }
+        for (Path edition : fileAccess.listChildren(tool, Files::isDirectory)) {
+          for (Path installation : fileAccess.listChildren(edition, Files::isDirectory)) {
+            if (isPending(installation)) {
+              try {
+                DeduplicationResult result = deduplicator.deduplicate(installation);
+                fileAccess.writeFileContent(Long.toString(result.reclaimed()), installation.resolve(FILE_DEDUPLICATED));
+                size += result.size();
+                reclaimed += result.reclaimed();
+                linkCount += result.linkCount();
+              } catch (IOException | RuntimeException e) {
+                LOG.warn("Failed to deduplicate installation {}", installation, e);
+              }
+            }
+          }
+        }
+      }
+    }
+    deduplicator.save();
+    if (linkCount > 0) {
+      LOG.info("Deduplicated {} files in software repository saving {} MB of disk space.", linkCount, reclaimed / (1024 * 1024));
+    }
+    return new DeduplicationResult(size, reclaimed, linkCount);
+  }
+
+  private boolean isIde(Path tool) {
+
+    return this.context.getCommandletManager().getToolCommandlet(tool.getFileName().toString()) instanceof IdeToolCommandlet;
+  }
+
+  private static boolean isPending(Path installation) {
+
+    return Files.exists(installation.resolve(IdeContext.FILE_SOFTWARE_VERSION)) && !Files.exists(installation.resolve(FILE_DEDUPLICATED));
+  }
+
+}
@@ -79,6 +79,19 @@ public class UrlMetadata implements AbstractUrlMetadata {
     return urlTool.getOrCreateChild(edition);
   }
 
+  /**
+   * @return the sorted {@link List} with the names of all {@link UrlTool tools} available in the {@link UrlRepository}.
+   */
+  public List<String> getSortedTools() {
+
+    List<String> list = new ArrayList<>();
+    for (UrlTool urlTool : this.repository.getChildren()) {
+      list.add(urlTool.getName());
+    }
+    Collections.sort(list);
+    return Collections.unmodifiableList(list);
+  }
+
   @Override
   public List<String> getSortedEditions(String tool) {
 
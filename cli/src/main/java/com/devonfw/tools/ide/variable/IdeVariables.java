@@ -114,6 +114,12 @@ public interface IdeVariables {
   VariableDefinitionBoolean IDE_WRITE_LOGFILE = new VariableDefinitionBoolean("IDE_WRITE_LOGFILE", null,
       c -> Boolean.TRUE);
 
+  /**
+   * {@link VariableDefinition} to enable writing a trace of the step timings as JSON file next to the logfiles.
+   */
+  VariableDefinitionBoolean IDE_WRITE_TRACE = new VariableDefinitionBoolean("IDE_WRITE_TRACE", null,
+      c -> Boolean.FALSE);
+
   /** {@link VariableDefinition} for {@link com.devonfw.tools.ide.context.IdeContext#getProjectName() DEVON_IDE_CUSTOM_TOOLS}. */
   VariableDefinitionString DEVON_IDE_CUSTOM_TOOLS = new VariableDefinitionString("DEVON_IDE_CUSTOM_TOOLS");
 
@@ -126,6 +132,27 @@ public interface IdeVariables {
   /** {@link VariableDefinition} for support of overriding the default pycharm jvm options. */
   VariableDefinitionString PYCHARM_VM_ARGS = new VariableDefinitionString("PYCHARM_VM_ARGS", null);
 
+  /** {@link VariableDefinition} to enable the prefetch of the tool downloads of all projects during {@code ide update}. */
+  VariableDefinitionBoolean IDE_PREFETCH = new VariableDefinitionBoolean("IDE_PREFETCH", null, c -> Boolean.FALSE);
+
+  /** {@link VariableDefinition} for the maximum bandwidth of the {@link #IDE_PREFETCH prefetch} in megabytes per second ({@code 0} for unlimited). */
+  VariableDefinitionDouble IDE_PREFETCH_BANDWIDTH = new VariableDefinitionDouble("IDE_PREFETCH_BANDWIDTH", null, c -> Double.valueOf(2));
+
+  /** {@link VariableDefinition} for the maximum age of a backup in days before it gets pruned ({@code 0} to keep backups forever). */
+  VariableDefinitionDouble IDE_BACKUP_MAX_AGE = new VariableDefinitionDouble("IDE_BACKUP_MAX_AGE", null, c -> Double.valueOf(30));
+
+  /** {@link VariableDefinition} for the maximum total size of the backups in megabytes before the oldest get pruned ({@code 0} for unlimited). */
+  VariableDefinitionDouble IDE_BACKUP_MAX_SIZE = new VariableDefinitionDouble("IDE_BACKUP_MAX_SIZE", null, c -> Double.valueOf(2048));
+
+  /** {@link VariableDefinition} to replace identical files of different backups with hard-links (read-only) when the backups are pruned. */
+  VariableDefinitionBoolean IDE_BACKUP_DEDUPLICATION = new VariableDefinitionBoolean("IDE_BACKUP_DEDUPLICATION", null, c -> Boolean.FALSE);
+
+  /** {@link VariableDefinition} to replace identical files of different tool versions in the software repository with hard-links after installation. */
+  VariableDefinitionBoolean IDE_SOFTWARE_DEDUPLICATION = new VariableDefinitionBoolean("IDE_SOFTWARE_DEDUPLICATION", null, c -> Boolean.FALSE);
+
+  /** {@link VariableDefinition} for the URL used to check if we are online. */
+  VariableDefinitionString IDE_ONLINE_CHECK_URL = new VariableDefinitionString("IDE_ONLINE_CHECK_URL", null, c -> "https://www.github.com");
+
   /** A {@link Collection} with all pre-defined {@link VariableDefinition}s. */
   Collection<VariableDefinition<?>> VARIABLES = List.of(PATH, HOME, WORKSPACE_PATH, IDE_HOME, IDE_ROOT, WORKSPACE, IDE_TOOLS, HTTP_VERSIONS,
       CREATE_START_SCRIPTS,
@@ -133,7 +160,9 @@ public interface IdeVariables {
       GRADLE_USER_HOME,
       YARN_BUILD_OPTS, JASYPT_OPTS,
       MAVEN_ARGS, INTELLIJ_VM_ARGS, ANDROID_STUDIO_VM_ARGS, PYCHARM_VM_ARGS,
-      PROJECT_NAME, IDE_VARIABLE_SYNTAX_LEGACY_SUPPORT_ENABLED, PREFERRED_GIT_PROTOCOL);
+      PROJECT_NAME, IDE_VARIABLE_SYNTAX_LEGACY_SUPPORT_ENABLED, PREFERRED_GIT_PROTOCOL, IDE_ONLINE_CHECK_URL, IDE_WRITE_TRACE,
+      IDE_PREFETCH, IDE_PREFETCH_BANDWIDTH, IDE_BACKUP_MAX_AGE, IDE_BACKUP_MAX_SIZE,
+      IDE_BACKUP_DEDUPLICATION, IDE_SOFTWARE_DEDUPLICATION);
 
   /**
    * @param name the name of the requested {@link VariableDefinition}.
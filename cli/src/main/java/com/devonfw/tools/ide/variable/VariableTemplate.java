@@ -0,0 +1,137 @@
+package com.devonfw.tools.ide.variable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+/**
+ * A template {@link String} compiled for a {@link VariableSyntax} into literal segments and variable references. Workspace merging resolves the same template
+ * strings over and over again, so templates are {@link #of(String, VariableSyntax) compiled} only once and then cached to avoid scanning them with a regex
+ * {@link Matcher} each time.
+ */
+public final class VariableTemplate {
+
+  private static final int MAX_CACHE_SIZE = 4096;
+
+  private static final String[] NO_VARIABLES = new String[0];
+
+  private static final Map<VariableSyntax, Map<String, VariableTemplate>> CACHE = new EnumMap<>(VariableSyntax.class);
+
+  static {
+    for (VariableSyntax syntax : VariableSyntax.values()) {
+      CACHE.put(syntax, new ConcurrentHashMap<>());
+    }
+  }
+
+  private final String template;
+
+  private final String[] literals;
+
+  private final String[] variables;
+
+  private final String[] expressions;
+
+  private VariableTemplate(String template, String[] literals, String[] variables, String[] expressions) {
+
+    super();
+    this.template = template;
+    this.literals = literals;
+    this.variables = variables;
+    this.expressions = expressions;
+  }
+
+  /**
+   * @return the original template {@link String}.
+   */
+  public String getTemplate() {
+
+    return this.template;
+  }
+
+  /**
+   * @return the number of variable references in this template.
+   */
+  public int getVariableCount() {
+
+    return this.variables.length;
+  }
+
+  /**
+   * @param i the index of the segment in the range from {@code 0} to {@link #getVariableCount()} (inclusive).
+   * @return the literal text before the variable with the given index or the trailing text if {@code i} is {@link #getVariableCount()}.
+   */
+  public String getLiteral(int i) {
+
+    return this.literals[i];
+  }
+
+  /**
+   * @param i the index of the variable in the range from {@code 0} to {@link #getVariableCount()} (exclusive).
+   * @return the name of the variable with the given index.
+   */
+  public String getVariable(int i) {
+
+    return this.variables[i];
+  }
+
+  /**
+   * @param i the index of the variable in the range from {@code 0} to {@link #getVariableCount()} (exclusive).
+   * @return the original variable expression (e.g. "$[IDE_HOME]") of the variable with the given index.
+   */
+  public String getExpression(int i) {
+
+    return this.expressions[i];
+  }
+
+  @Override
+  public String toString() {
+
+    return this.template;
+  }
+
+  /**
+   * @param template the template {@link String} that potentially contains variables.
+   * @param syntax the {@link VariableSyntax} of the variables.
+   * @return the compiled {@link VariableTemplate}.
+   */
+  public static VariableTemplate of(String template, VariableSyntax syntax) {
+
+    if (template.indexOf('$') < 0) {
+      return new VariableTemplate(template, new String[] { template }, NO_VARIABLES, NO_VARIABLES);
+    }
+    Map<String, VariableTemplate> cache = CACHE.get(syntax);
+    VariableTemplate result = cache.get(template);
+    if (result == null) {
+      result = compile(template, syntax);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        cache.clear();
+      }
+      cache.put(template, result);
+    }
+    return result;
+  }
+
+  private static VariableTemplate compile(String template, VariableSyntax syntax) {
+
+    Matcher matcher = syntax.getPattern().matcher(template);
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    List<String> expressions = new ArrayList<>();
+    int start = 0;
+    while (matcher.find()) {
+      literals.add(template.substring(start, matcher.start()));
+      variables.add(syntax.getVariable(matcher));
+      expressions.add(matcher.group());
+      start = matcher.end();
+    }
+    if (variables.isEmpty()) {
+      return new VariableTemplate(template, new String[] { template }, NO_VARIABLES, NO_VARIABLES);
+    }
+    literals.add(template.substring(start));
+    return new VariableTemplate(template, literals.toArray(String[]::new), variables.toArray(String[]::new), expressions.toArray(String[]::new));
+  }
+
+}
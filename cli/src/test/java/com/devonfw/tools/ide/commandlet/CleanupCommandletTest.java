@@ -183,6 +183,74 @@ class CleanupCommandletTest extends AbstractIdeContextTest {
     assertThat(context).logAtSuccess().hasMessage("Unused tools have been deleted successfully.");
   }
 
+  /**
+   * Tests that a dry run reports the unused software with its size but deletes nothing.
+   *
+   * @throws IOException if the test setup cannot be created.
+   */
+  @Test
+  void testCleanupDryRunReportsSizeAndKeepsSoftware() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+
+    Path unusedVersion = createInstalledVersion(context, "default", "cleanup-test-dry", "default", "1.0");
+    Files.write(unusedVersion.resolve("payload.bin"), new byte[2048]);
+
+    CleanupCommandlet cleanup = context.getCommandletManager().getCommandlet(CleanupCommandlet.class);
+    cleanup.dryRun.setValue(true);
+
+    // act
+    cleanup.run();
+
+    // assert
+    assertThat(unusedVersion).as("A dry run must not delete anything").exists();
+    assertThat(context).logAtInfo().hasMessageContaining(" - cleanup-test-dry (2.0 KiB)\n\t - default\n\t\t - 1.0 (2.0 KiB)\n");
+    assertThat(context).logAtInfo().hasMessage("Dry run: nothing has been deleted.");
+  }
+
+  /**
+   * Tests the scan of a software repository with multiple tools, editions, and versions where only one version per tool is used.
+   *
+   * @throws IOException if the test setup cannot be created.
+   */
+  @Test
+  void testCleanupScansMultipleToolsEditionsAndVersions() throws IOException {
+
+    WindowsSymlinkTestHelper.assumeSymlinksSupported();
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    int toolCount = 3;
+    int versionCount = 3;
+    Path projectSoftware = context.getIdeHome().resolve(IdeContext.FOLDER_SOFTWARE);
+    for (int tool = 0; tool < toolCount; tool++) {
+      String toolName = "cleanup-test-tool" + tool;
+      for (int version = 0; version < versionCount; version++) {
+        for (String edition : new String[] { "community", "ultimate" }) {
+          Path versionPath = createInstalledVersion(context, "default", toolName, edition, "1." + version);
+          if ((version == 0) && edition.equals("ultimate")) {
+            createSoftwareLink(projectSoftware.resolve(toolName), versionPath);
+          }
+        }
+      }
+    }
+    CleanupCommandlet cleanup = getCleanupWithConfirmation(context);
+
+    // act
+    cleanup.run();
+
+    // assert
+    Path defaultRepository = context.getSoftwareRepositoryPath().resolve("default");
+    for (int tool = 0; tool < toolCount; tool++) {
+      Path toolPath = defaultRepository.resolve("cleanup-test-tool" + tool);
+      assertThat(toolPath.resolve("community")).as("Edition without any used version should be deleted").doesNotExist();
+      assertThat(toolPath.resolve("ultimate")).isDirectoryContaining(path -> path.getFileName().toString().equals("1.0"));
+      assertThat(toolPath.resolve("ultimate").toFile().list()).hasSize(1);
+    }
+    assertThat(context).logAtSuccess().hasMessage("Unused tools have been deleted successfully.");
+  }
+
   /**
    * Creates an installed software version with the structure {@code _ide/software/<repository>/<tool>/<edition>/<version>}.
    *
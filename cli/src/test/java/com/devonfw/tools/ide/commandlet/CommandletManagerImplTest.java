@@ -0,0 +1,102 @@
+package com.devonfw.tools.ide.commandlet;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.cli.CliArguments;
+import com.devonfw.tools.ide.completion.CompletionCandidate;
+import com.devonfw.tools.ide.completion.CompletionCandidateCollectorDefault;
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.tool.mvn.Mvn;
+
+/**
+ * Test of {@link CommandletManagerImpl}.
+ */
+class CommandletManagerImplTest extends AbstractIdeContextTest {
+
+  /** Test that no {@link Commandlet} is created when the {@link CommandletManagerImpl} is created. */
+  @Test
+  void testNoCommandletCreatedOnStartup() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+
+    // act
+    CommandletManagerImpl manager = new CommandletManagerImpl(context);
+
+    // assert
+    assertThat(manager.getCommandletDescriptors()).hasSizeGreaterThan(70).noneMatch(CommandletDescriptor::isCreated);
+  }
+
+  /** Test that only the matching {@link Commandlet} is created when a {@link Commandlet} is found by its keyword. */
+  @Test
+  void testOnlyMatchingCommandletCreated() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl manager = new CommandletManagerImpl(context);
+    CliArguments args = new CliArguments("env", "--bash");
+    args.next();
+
+    // act
+    Iterator<Commandlet> iterator = manager.findCommandlet(args, null);
+    Commandlet env = iterator.next();
+
+    // assert
+    assertThat(env).isInstanceOf(EnvironmentCommandlet.class);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(getCreatedNames(manager)).containsExactly("env");
+    assertThat(manager.getCommandletByFirstKeyword("-v")).isInstanceOf(VersionCommandlet.class);
+    assertThat(manager.getCommandlet(Mvn.class).getName()).isEqualTo("mvn");
+    assertThat(getCreatedNames(manager)).containsExactlyInAnyOrder("env", "version", "mvn");
+  }
+
+  /** Test that auto-completion of the first keyword only creates the {@link Commandlet}s that can complete the argument. */
+  @Test
+  void testCompletionOnlyCreatesCandidates() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl manager = new CommandletManagerImpl(context);
+    CliArguments args = CliArguments.ofCompletion("inst");
+    args.next();
+    CompletionCandidateCollectorDefault collector = new CompletionCandidateCollectorDefault(context);
+
+    // act
+    Iterator<Commandlet> iterator = manager.findCommandlet(args, collector);
+    while (iterator.hasNext()) {
+      iterator.next();
+    }
+
+    // assert
+    assertThat(collector.getSortedCandidates().stream().map(CompletionCandidate::text)).containsExactly("install", "install-plugin");
+    assertThat(getCreatedNames(manager)).containsExactlyInAnyOrder("install", "install-plugin");
+  }
+
+  /** Test that every {@link CommandletDescriptor} is consistent with the {@link Commandlet} it creates. */
+  @Test
+  void testDescriptorsMatchCommandlets() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl manager = new CommandletManagerImpl(context);
+
+    // act + assert
+    for (CommandletDescriptor<?> descriptor : manager.getCommandletDescriptors()) {
+      Commandlet commandlet = descriptor.getCommandlet();
+      assertThat(commandlet.getName()).isEqualTo(descriptor.getName());
+      assertThat(commandlet.getFirstKeyword().getOptionName()).isEqualTo(descriptor.getKeyword());
+      assertThat(manager.getCommandlet(descriptor.getName())).isSameAs(commandlet);
+    }
+    assertThat(manager.getCommandlets()).hasSize(manager.getCommandletDescriptors().size());
+  }
+
+  private static List<String> getCreatedNames(CommandletManagerImpl manager) {
+
+    return manager.getCommandletDescriptors().stream().filter(CommandletDescriptor::isCreated).map(CommandletDescriptor::getName).toList();
+  }
+
+}
@@ -2,6 +2,7 @@ package com.devonfw.tools.ide.commandlet;
 
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -150,4 +151,26 @@ class EnvironmentCommandletTest extends AbstractIdeContextTest {
 
     return path.toString().replace('\\', '/');
   }
+
+  /**
+   * Test of {@link EnvironmentCommandlet} that only the commandlets of the installed tools are created.
+   */
+  @Test
+  void testRunOnlyCreatesCommandletsOfInstalledTools() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManager commandletManager = context.getCommandletManager();
+    EnvironmentCommandlet env = commandletManager.getCommandlet(EnvironmentCommandlet.class);
+
+    // act
+    env.run();
+
+    // assert
+    List<String> createdCommandlets = commandletManager.getCommandletDescriptors().stream().filter(CommandletDescriptor::isCreated)
+        .map(CommandletDescriptor::getName).toList();
+    // java, mvn, and node are installed, the node based tools are installed into node, and gradle is needed for GRADLE_USER_HOME
+    assertThat(createdCommandlets).contains("env", "java", "mvn", "node", "gradle", "npm", "ng", "yarn").doesNotContain("intellij", "eclipse",
+        "vscode", "python", "uv", "pip", "az", "aws", "kotlinc", "terraform");
+  }
 }
@@ -13,6 +13,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfo;
@@ -230,8 +231,96 @@ class SystemPathTest extends AbstractIdeContextTest {
     assertThat(context).log(IdeLogLevel.WARNING).hasMessageContaining("Ignoring invalid PATH entry");
   }
 
+  @Test
+  void testFindBinaryCachesResultAndAvoidsRepeatedProbes() throws IOException {
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path softwareDir = context.getIdeHome().resolve("scratch-software");
+    for (int i = 0; i < 20; i++) {
+      Files.createDirectories(softwareDir.resolve("tool" + i).resolve("bin"));
+    }
+    // the system PATH entries are searched after all tool entries
+    Path binDir = context.getIdeHome().resolve("scratch-bin");
+    Files.createDirectories(binDir);
+    Path binary = binDir.resolve("mytool");
+    Files.writeString(binary, "tool-version");
+    ProbeCountingSystemPath systemPath = new ProbeCountingSystemPath(context, softwareDir, binDir);
+
+    // act
+    Path first = systemPath.findBinaryPathByName("mytool");
+    int probesOfFirstLookup = systemPath.probes;
+    for (int i = 0; i < 1000; i++) {
+      assertThat(systemPath.findBinaryPathByName("mytool")).isEqualTo(first);
+    }
+
+    // assert
+    assertThat(first).isEqualTo(binary);
+    assertThat(probesOfFirstLookup).isGreaterThan(20);
+    assertThat(systemPath.probes).isEqualTo(probesOfFirstLookup);
+  }
+
+  @Test
+  void testFindBinaryCacheInvalidatedBySetPath() throws IOException {
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path softwareDir = context.getIdeHome().resolve("scratch-software");
+    Path oldBin = softwareDir.resolve("mytool").resolve("bin");
+    Files.createDirectories(oldBin);
+    Files.writeString(oldBin.resolve("mytool"), "old-version");
+    Path newBin = context.getIdeHome().resolve("scratch-repository").resolve("mytool").resolve("bin");
+    Files.createDirectories(newBin);
+    Files.writeString(newBin.resolve("mytool"), "new-version");
+    ProbeCountingSystemPath systemPath = new ProbeCountingSystemPath(context, softwareDir, newBin);
+    assertThat(systemPath.findBinaryPathByName("mytool")).isEqualTo(oldBin.resolve("mytool"));
+    int probesBefore = systemPath.probes;
+
+    // act
+    systemPath.setPath("mytool", newBin);
+    Path result = systemPath.findBinaryPathByName("mytool");
+
+    // assert
+    assertThat(result).isEqualTo(newBin.resolve("mytool"));
+    assertThat(systemPath.probes).isGreaterThan(probesBefore);
+  }
+
+  @Test
+  void testFindBinaryDoesNotCacheMissingBinary() throws IOException {
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path binDir = context.getIdeHome().resolve("scratch-bin");
+    Files.createDirectories(binDir);
+    SystemPath systemPath = new SystemPath(context, null, ';', new ArrayList<>(List.of(binDir)));
+    assertThat(systemPath.hasBinaryOnPath("faketool")).isFalse();
+
+    // act
+    Files.writeString(binDir.resolve("faketool"), "@echo hi");
+
+    // assert
+    assertThat(systemPath.hasBinaryOnPath("faketool")).isTrue();
+  }
+
   private static boolean checkPathToIgnoreLowercase(Path p, String toIgnore) {
     String s = p.toAbsolutePath().toString().replace('\\', '/').toLowerCase(Locale.ROOT);
     return !s.contains(toIgnore);
   }
+
+  /**
+   * {@link SystemPath} counting the file-system probes.
+   */
+  private static class ProbeCountingSystemPath extends SystemPath {
+
+    private int probes;
+
+    private ProbeCountingSystemPath(IdeContext context, Path softwarePath, Path systemPathEntry) {
+
+      super(context, softwarePath, ':', new ArrayList<>(List.of(systemPathEntry)));
+    }
+
+    @Override
+    boolean exists(Path file) {
+
+      this.probes++;
+      return super.exists(file);
+    }
+  }
 }
@@ -0,0 +1,144 @@
+package com.devonfw.tools.ide.completion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.cli.CliArguments;
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.git.GitContext;
+
+/**
+ * Test of {@link CompletionIndex}.
+ */
+class CompletionIndexTest extends AbstractIdeContextTest {
+
+  /** Test that {@link CompletionIndex#update()} writes the index file with the editions and versions from ide-urls. */
+  @Test
+  void testUpdateWritesIndex() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CompletionIndex index = new CompletionIndex(context);
+
+    // act
+    boolean written = index.update();
+
+    // assert
+    assertThat(written).isTrue();
+    assertThat(index.getIndexFile()).exists();
+    assertThat(index.getSortedEditions("java")).containsExactly("java");
+    assertThat(index.getSortedVersions("java", "java")).containsExactly("21.0.8_9", "17.0.10", "17.0.6");
+    assertThat(new CompletionIndex(context).getSortedVersions("java", "java")).containsExactly("21.0.8_9", "17.0.10", "17.0.6");
+    assertThat(new CompletionIndex(context).update()).isFalse();
+  }
+
+  /**
+   * Test that the index is keyed by the commit id of ide-urls so touching {@code .git/HEAD} on a pull without changes does not outdate it.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testIndexKeyedByUrlsCommitId() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path gitFolder = Files.createDirectories(context.getUrlsPath().resolve(GitContext.GIT_FOLDER));
+    Path headFile = gitFolder.resolve(GitContext.FILE_HEAD);
+    Files.writeString(headFile, "ref: refs/heads/main\n");
+    Path refFile = Files.createDirectories(gitFolder.resolve("refs/heads")).resolve("main");
+    Files.writeString(refFile, "1111111111111111111111111111111111111111\n");
+    assertThat(new CompletionIndex(context).update()).isTrue();
+
+    // act
+    Files.setLastModifiedTime(headFile, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+    boolean writtenAfterTouch = new CompletionIndex(context).update();
+    Files.delete(refFile);
+    String packedRefs = "# pack-refs with: peeled fully-peeled sorted\n1111111111111111111111111111111111111111 refs/heads/main\n";
+    Files.writeString(gitFolder.resolve("packed-refs"), packedRefs);
+    boolean writtenAfterPack = new CompletionIndex(context).update();
+    Files.writeString(headFile, "2222222222222222222222222222222222222222\n");
+    List<String> outdatedVersions = new CompletionIndex(context).getSortedVersions("java", "java");
+    boolean writtenAfterChange = new CompletionIndex(context).update();
+
+    // assert
+    assertThat(writtenAfterTouch).isFalse();
+    assertThat(writtenAfterPack).isFalse();
+    assertThat(outdatedVersions).isNull();
+    assertThat(writtenAfterChange).isTrue();
+    assertThat(new CompletionIndex(context).getSortedVersions("java", "java")).containsExactly("21.0.8_9", "17.0.10", "17.0.6");
+    assertThat(context.getIdePath()).isDirectoryNotContaining("glob:**/*.tmp");
+  }
+
+  /** Test that without an index file nothing is answered so completion falls back to ide-urls. */
+  @Test
+  void testMissingIndex() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CompletionIndex index = new CompletionIndex(context);
+
+    // act
+    List<String> versions = index.getSortedVersions("java", "java");
+
+    // assert
+    assertThat(versions).isNull();
+    assertThat(index.getSortedEditions("java")).isNull();
+  }
+
+  /** Test that version completion is answered from the index without walking the ide-urls. */
+  @Test
+  void testCompleteVersionFromIndex() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getCompletionIndex().update();
+    Path urlsPath = context.getUrlsPath();
+    context.getFileAccess().delete(urlsPath);
+    IdeTestContext newContext = newContext(context.getIdeHome());
+    String[] argsArray = { "set-version", "java", "" };
+    CliArguments args = CliArguments.ofCompletion(argsArray);
+
+    // act
+    List<CompletionCandidate> candidates = newContext.complete(args, new CompletionCandidateCollectorDefault(newContext), false);
+
+    // assert
+    assertThat(candidates.stream().map(CompletionCandidate::text)).containsExactly("21.0.8_9", "*", "17.0.10", "17.0.6", "*!");
+  }
+
+  /**
+   * Test that without git repository of ide-urls the index is considered outdated if it is older than ide-urls or has expired.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testIndexWithoutUrlsCommitIdExpires() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CompletionIndex index = new CompletionIndex(context);
+    index.update();
+    Path indexFile = index.getIndexFile();
+    long now = System.currentTimeMillis();
+
+    // act
+    boolean writtenWhenUpToDate = new CompletionIndex(context).update();
+    Files.setLastModifiedTime(indexFile, FileTime.fromMillis(now - CompletionIndex.INDEX_RETENTION_WITHOUT_COMMIT_ID.toMillis() - 60000));
+    List<String> expiredVersions = new CompletionIndex(context).getSortedVersions("java", "java");
+    boolean writtenWhenExpired = new CompletionIndex(context).update();
+    Files.setLastModifiedTime(context.getUrlsPath(), FileTime.fromMillis(now + 60000));
+    List<String> olderThanUrlsVersions = new CompletionIndex(context).getSortedVersions("java", "java");
+
+    // assert
+    assertThat(writtenWhenUpToDate).isFalse();
+    assertThat(expiredVersions).isNull();
+    assertThat(writtenWhenExpired).isTrue();
+    assertThat(olderThanUrlsVersions).isNull();
+  }
+
+}
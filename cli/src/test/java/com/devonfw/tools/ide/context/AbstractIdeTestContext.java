@@ -19,6 +19,7 @@ import com.devonfw.tools.ide.environment.EnvironmentVariablesSystem;
 import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
 import com.devonfw.tools.ide.environment.IdeSystem;
 import com.devonfw.tools.ide.environment.IdeSystemTestImpl;
+import com.devonfw.tools.ide.git.GitUrl;
 import com.devonfw.tools.ide.io.IdeProgressBar;
 import com.devonfw.tools.ide.io.IdeProgressBarTestImpl;
 import com.devonfw.tools.ide.log.IdeLogLevel;
@@ -57,6 +58,8 @@ public class AbstractIdeTestContext extends AbstractIdeContext {
 
   private Path urlsPath;
 
+  private GitUrl urlsGitUrl;
+
   protected final WireMockRuntimeInfo wireMockRuntimeInfo;
 
   private NetworkStatusMock networkStatus;
@@ -313,6 +316,20 @@ public class AbstractIdeTestContext extends AbstractIdeContext {
     this.urlMetadata = new UrlMetadata(this);
   }
 
+  @Override
+  protected GitUrl getUrlsGitUrl() {
+
+    return this.urlsGitUrl;
+  }
+
+  /**
+   * @param urlsGitUrl the {@link GitUrl} of the ide-urls repository to update or {@code null} (default) to never update the ide-urls.
+   */
+  public void setUrlsGitUrl(GitUrl urlsGitUrl) {
+
+    this.urlsGitUrl = urlsGitUrl;
+  }
+
   /**
    * @param defaultToolRepository the new value of {@link #getDefaultToolRepository()}.
    */
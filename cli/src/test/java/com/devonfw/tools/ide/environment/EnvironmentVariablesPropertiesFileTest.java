@@ -3,6 +3,7 @@ package com.devonfw.tools.ide.environment;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.io.TempDir;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.version.IdeVersion;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
 /**
@@ -159,4 +161,99 @@ class EnvironmentVariablesPropertiesFileTest extends AbstractIdeContextTest {
     assertThat(lines).containsExactlyElementsOf(linesAfterSave);
   }
 
+  @Test
+  void testLoadFromCache(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path propertiesFilePath = tempDir.resolve("ide.properties");
+    Files.write(propertiesFilePath, List.of("# comment", "var1=1", "export var2=2"));
+    FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+    Files.setLastModifiedTime(propertiesFilePath, lastModified);
+    Path cacheFile = tempDir.resolve(EnvironmentVariablesPropertiesCache.FILE_PROPERTIES_CACHE);
+    IdeTestContext context = new IdeTestContext();
+    EnvironmentVariablesPropertiesCache cache = new EnvironmentVariablesPropertiesCache(cacheFile);
+    new EnvironmentVariablesPropertiesFile(null, TYPE, tempDir, propertiesFilePath, context, cache);
+    cache.save();
+    // modify file without changing size and timestamp so only the cache can provide the old values
+    Files.write(propertiesFilePath, List.of("# comment", "var1=3", "export var2=4"));
+    Files.setLastModifiedTime(propertiesFilePath, lastModified);
+
+    // act
+    EnvironmentVariablesPropertiesFile cached = new EnvironmentVariablesPropertiesFile(null, TYPE, tempDir, propertiesFilePath, context,
+        new EnvironmentVariablesPropertiesCache(cacheFile));
+    Files.setLastModifiedTime(propertiesFilePath, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    EnvironmentVariablesPropertiesFile reloaded = new EnvironmentVariablesPropertiesFile(null, TYPE, tempDir, propertiesFilePath, context,
+        new EnvironmentVariablesPropertiesCache(cacheFile));
+
+    // assert
+    assertThat(cacheFile).exists();
+    assertThat(cached.getVariables()).containsOnly(entry("var1", "1"), entry("var2", "2"));
+    assertThat(cached.collectExportedVariables()).extracting(VariableLine::getName).containsExactly("var2");
+    assertThat(reloaded.getVariables()).containsOnly(entry("var1", "3"), entry("var2", "4"));
+  }
+
+  @Test
+  void testCachePrunesDeletedFiles(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+    Path deleted = Files.createDirectories(tempDir.resolve("deleted")).resolve("ide.properties");
+    Path kept = Files.createDirectories(tempDir.resolve("kept")).resolve("ide.properties");
+    Path added = Files.createDirectories(tempDir.resolve("added")).resolve("ide.properties");
+    for (Path file : List.of(deleted, kept, added)) {
+      Files.write(file, List.of("var1=1"));
+      Files.setLastModifiedTime(file, lastModified);
+    }
+    Path cacheFile = tempDir.resolve(EnvironmentVariablesPropertiesCache.FILE_PROPERTIES_CACHE);
+    IdeTestContext context = new IdeTestContext();
+    EnvironmentVariablesPropertiesCache cache = new EnvironmentVariablesPropertiesCache(cacheFile);
+    new EnvironmentVariablesPropertiesFile(null, TYPE, deleted.getParent(), deleted, context, cache);
+    new EnvironmentVariablesPropertiesFile(null, TYPE, kept.getParent(), kept, context, cache);
+    cache.save();
+    Files.delete(deleted);
+
+    // act
+    cache = new EnvironmentVariablesPropertiesCache(cacheFile);
+    new EnvironmentVariablesPropertiesFile(null, TYPE, added.getParent(), added, context, cache);
+    cache.save();
+
+    // assert
+    String content = Files.readString(cacheFile);
+    assertThat(content).contains(kept.toAbsolutePath().toString(), added.toAbsolutePath().toString()).doesNotContain(deleted.toAbsolutePath().toString());
+    assertThat(tempDir).isDirectoryNotContaining("glob:**/*.tmp");
+  }
+
+  @Test
+  void testCacheOfDifferentVersionIsDropped(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path propertiesFilePath = tempDir.resolve("ide.properties");
+    Files.write(propertiesFilePath, List.of("var1=1"));
+    FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+    Files.setLastModifiedTime(propertiesFilePath, lastModified);
+    Path cacheFile = tempDir.resolve(EnvironmentVariablesPropertiesCache.FILE_PROPERTIES_CACHE);
+    IdeTestContext context = new IdeTestContext();
+    EnvironmentVariablesPropertiesCache cache = new EnvironmentVariablesPropertiesCache(cacheFile);
+    new EnvironmentVariablesPropertiesFile(null, TYPE, tempDir, propertiesFilePath, context, cache);
+    cache.save();
+    String header = Files.readAllLines(cacheFile).getFirst();
+    String version = IdeVersion.getVersionString();
+    // modify file without changing size and timestamp so only the cache can provide the old values
+    Files.write(propertiesFilePath, List.of("var1=2"));
+    Files.setLastModifiedTime(propertiesFilePath, lastModified);
+
+    // act
+    EnvironmentVariablesPropertiesFile reloaded;
+    IdeVersion.setMockVersionForTesting("2099.01.001");
+    try {
+      reloaded = new EnvironmentVariablesPropertiesFile(null, TYPE, tempDir, propertiesFilePath, context, new EnvironmentVariablesPropertiesCache(cacheFile));
+    } finally {
+      IdeVersion.setMockVersionForTesting(version);
+    }
+
+    // assert
+    assertThat(header).isEqualTo("#" + EnvironmentVariablesPropertiesCache.FORMAT_VERSION + "\t" + version);
+    assertThat(reloaded.getVariables()).containsOnly(entry("var1", "2"));
+  }
+
 }
@@ -112,6 +112,7 @@ public final class EnvironmentVariablesPropertiesMock extends EnvironmentVariabl
     } else {
       LOG.debug("Set variable '{}={}' in {}", name, value, getPropertiesFilePath());
       this.modifiedVariables.add(name);
+      onVariableModified();
       if (export && (value != null)) {
         this.exportedVariables.add(name);
       } else {
@@ -156,4 +156,34 @@ class EnvironmentVariablesTest extends AbstractIdeContextTest {
     assertThat(AbstractEnvironmentVariables.mergeWithDefault("-Xmx8000m -s invalid/settings.xml", null))
         .isEqualTo("-Xmx8000m -s invalid/settings.xml");
   }
+
+  /**
+   * Test of {@link EnvironmentVariables#cached()} that resolved values are cached until a variable is set.
+   */
+  @Test
+  void testCachedResolvesUntilVariableIsSet() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    EnvironmentVariables variables = context.getVariables();
+    EnvironmentVariables settings = variables.getByType(EnvironmentVariablesType.SETTINGS);
+    settings.set("CACHE_TEST", "foo");
+    String template = "$[IDE_HOME]/$[CACHE_TEST]/$[CACHE_TEST]";
+    String ideHome = context.getIdeHome().toString();
+
+    // act
+    EnvironmentVariables cached = variables.cached();
+    String resolved1 = cached.resolve(template, "test", false);
+    String uncached = variables.resolve(template, "test", false);
+    String resolved2 = cached.resolve(template, "test", false);
+    settings.set("CACHE_TEST", "bar");
+    String resolved3 = cached.resolve(template, "test", false);
+
+    // assert
+    assertThat(cached.cached()).isSameAs(cached);
+    assertThat(resolved1).isEqualTo(uncached).isEqualTo(ideHome + "/foo/foo");
+    assertThat(resolved2).isEqualTo(resolved1);
+    assertThat(resolved3).isEqualTo(ideHome + "/bar/bar");
+    assertThat(cached.get("CACHE_TEST")).isEqualTo("bar");
+  }
 }
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.devonfw.tools.ide.cli.CliException;
+import com.devonfw.tools.ide.cli.CliOfflineException;
+import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
@@ -314,4 +316,261 @@ class GitContextTest extends AbstractIdeContextTest {
     // assert
     assertThat(modifiedFile).hasContent(CONTENT_ORIGINAL);
   }
+
+  /**
+   * Runs a real shallow clone and update of a local bare repository via {@link GitContext#shallowCloneOrUpdate(GitUrl, Path)}.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testShallowCloneOrUpdate(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path remote = tempDir.resolve("remote.git");
+    Path work = tempDir.resolve("work");
+    Path clone = tempDir.resolve("clone");
+    git(tempDir, "init", "-q", "--bare", "--initial-branch=main", remote.toString());
+    git(tempDir, "clone", "-q", remote.toString(), work.toString());
+    commitAndPush(work, "v1");
+    commitAndPush(work, "v2");
+    IdeTestContext context = newContext(tempDir);
+    context.getNetworkStatus().simulateOnline();
+    context.setGitContext(new GitContextMock(context));
+    GitUrl gitUrl = new GitUrl(remote.toUri().toString(), "main");
+
+    // act
+    context.getGitContext().shallowCloneOrUpdate(gitUrl, clone);
+
+    // assert
+    assertThat(clone.resolve("file.txt")).hasContent("v2");
+    assertThat(clone.resolve(GitContext.GIT_FOLDER).resolve("shallow")).exists();
+    assertThat(git(clone, "rev-list", "--count", "HEAD")).isEqualTo("1");
+
+    // act
+    commitAndPush(work, "v3");
+    Files.writeString(clone.resolve("file.txt"), "local change");
+    context.getGitContext().shallowCloneOrUpdate(gitUrl, clone);
+
+    // assert
+    assertThat(clone.resolve("file.txt")).hasContent("v3");
+    assertThat(git(clone, "rev-list", "--count", "HEAD")).isEqualTo("1");
+  }
+
+  /**
+   * Tests that {@link GitContext#shallowCloneOrUpdate(GitUrl, Path)} removes the objects of replaced commits so the repository does not grow with every
+   * update.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testShallowUpdateKeepsObjectCountBounded(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path remote = tempDir.resolve("remote.git");
+    Path work = tempDir.resolve("work");
+    Path clone = tempDir.resolve("clone");
+    git(tempDir, "init", "-q", "--bare", "--initial-branch=main", remote.toString());
+    git(tempDir, "clone", "-q", remote.toString(), work.toString());
+    commitAndPush(work, "v0");
+    IdeTestContext context = newContext(tempDir);
+    context.getNetworkStatus().simulateOnline();
+    context.setGitContext(new GitContextMock(context));
+    GitUrl gitUrl = new GitUrl(remote.toUri().toString(), "main");
+    context.getGitContext().shallowCloneOrUpdate(gitUrl, clone);
+
+    // act
+    for (int i = 1; i <= 5; i++) {
+      commitAndPush(work, "v" + i);
+      context.getGitContext().shallowCloneOrUpdate(gitUrl, clone);
+    }
+
+    // assert
+    assertThat(clone.resolve("file.txt")).hasContent("v5");
+    // a single commit with one tree and one blob
+    assertThat(countObjects(clone)).isEqualTo(3);
+  }
+
+  /**
+   * Runs the synchronization of two local bare repositories concurrently via {@link GitBackgroundSync} while the settings are cloned in the foreground.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testBackgroundSyncRunsConcurrentlyWithSettingsUpdate(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path urlsRemote = createRemote(tempDir, "urls", "urls-v1");
+    Path settingsRemote = createRemote(tempDir, "settings", "settings-v1");
+    Path urls = tempDir.resolve("urls");
+    Path settings = tempDir.resolve("settings");
+    IdeTestContext context = newContext(tempDir);
+    context.getNetworkStatus().simulateOnline();
+    context.setGitContext(new GitContextMock(context));
+    GitContext gitContext = context.getGitContext();
+
+    // act
+    GitBackgroundSync sync = GitBackgroundSync.start("ide-urls", urls,
+        () -> gitContext.shallowCloneOrUpdate(new GitUrl(urlsRemote.toUri().toString(), "main"), urls));
+    gitContext.pullOrClone(new GitUrl(settingsRemote.toUri().toString(), "main"), settings);
+    sync.await();
+
+    // assert
+    assertThat(sync.isDone()).isTrue();
+    assertThat(urls.resolve("file.txt")).hasContent("urls-v1");
+    assertThat(settings.resolve("file.txt")).hasContent("settings-v1");
+  }
+
+  /**
+   * Tests that {@link GitBackgroundSync#await()} reports the failure of the synchronization with the according repository.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testBackgroundSyncReportsErrorOfRepository(@TempDir Path tempDir) {
+
+    // arrange
+    Path urls = tempDir.resolve("urls");
+
+    // act
+    GitBackgroundSync sync = GitBackgroundSync.start("ide-urls", urls, () -> {
+      throw new IllegalStateException("remote not found");
+    });
+
+    // assert
+    assertThatThrownBy(sync::await).isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to update ide-urls repository at " + urls + ": remote not found");
+  }
+
+  /**
+   * Tests that {@link GitBackgroundSync#await()} rethrows a {@link CliException} unchanged so the CLI reports its message.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testBackgroundSyncRethrowsCliException(@TempDir Path tempDir) {
+
+    // arrange
+    CliException error = new CliOfflineException();
+
+    // act
+    GitBackgroundSync sync = GitBackgroundSync.start("ide-urls", tempDir, () -> {
+      throw error;
+    });
+
+    // assert
+    assertThatThrownBy(sync::await).isSameAs(error);
+  }
+
+  /**
+   * Tests that {@link AbstractIdeContext#startUrlsUpdate()} clones the ide-urls in the background while the context is reloaded in the foreground and that
+   * {@link AbstractIdeContext#getUrls()} waits for it.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testStartUrlsUpdateClonesInBackground(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path urlsRemote = createRemote(tempDir, "urls", "urls-v1");
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    context.setUrlsGitUrl(new GitUrl(urlsRemote.toUri().toString(), "main"));
+    Path urls = context.getUrlsPath();
+    context.getFileAccess().delete(urls);
+
+    // act
+    context.startUrlsUpdate();
+    context.reload();
+    context.getUrls();
+
+    // assert
+    assertThat(urls.resolve("file.txt")).hasContent("urls-v1");
+    assertThat(git(urls, "rev-list", "--count", "HEAD")).isEqualTo("1");
+    assertThat(context).log().hasNoMessageContaining("Failed to update ide-urls");
+  }
+
+  /**
+   * Tests that {@link AbstractIdeContext#awaitUrlsUpdate()} deletes a failed clone of the ide-urls so it is not mistaken for a valid repository and
+   * {@link AbstractIdeContext#getUrls()} retries the clone.
+   *
+   * @param tempDir a {@link TempDir} {@link Path}.
+   */
+  @Test
+  void testAwaitUrlsUpdateDeletesFailedClone(@TempDir Path tempDir) {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    context.setUrlsGitUrl(new GitUrl(tempDir.resolve("missing.git").toUri().toString(), "main"));
+    Path urls = context.getUrlsPath();
+    context.getFileAccess().delete(urls);
+
+    // act
+    context.startUrlsUpdate();
+    context.awaitUrlsUpdate();
+
+    // assert
+    assertThat(urls).doesNotExist();
+    assertThat(context.getFileAccess().exists(urls)).isFalse();
+  }
+
+  /**
+   * Tests that {@link AbstractIdeContext#getUrls()} after {@link AbstractIdeContext#startUrlsUpdate()} reports a missing ide-urls clone in offline mode
+   * with the {@link CliOfflineException} instead of an unexpected error.
+   */
+  @Test
+  void testStartUrlsUpdateInOfflineModeThrowsCliOfflineException() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getStartContext().setOfflineMode(true);
+    context.setUrlsGitUrl(new GitUrl("https://github.com/devonfw/ide-urls.git", null));
+    context.getFileAccess().delete(context.getUrlsPath());
+
+    // act
+    context.startUrlsUpdate();
+
+    // assert
+    assertThatThrownBy(context::getUrls).isInstanceOf(CliOfflineException.class);
+  }
+
+  private static Path createRemote(Path tempDir, String name, String content) throws Exception {
+
+    Path remote = tempDir.resolve(name + ".git");
+    Path work = tempDir.resolve(name + "-work");
+    git(tempDir, "init", "-q", "--bare", "--initial-branch=main", remote.toString());
+    git(tempDir, "clone", "-q", remote.toString(), work.toString());
+    commitAndPush(work, content);
+    return remote;
+  }
+
+  private static void commitAndPush(Path work, String content) throws Exception {
+
+    Files.writeString(work.resolve("file.txt"), content);
+    git(work, "add", "file.txt");
+    git(work, "-c", "user.name=test", "-c", "user.email=test@example.com", "commit", "-q", "-m", content);
+    git(work, "push", "-q", "origin", "HEAD:main");
+  }
+
+  private static int countObjects(Path repository) throws Exception {
+
+    int count = 0;
+    for (String line : git(repository, "count-objects", "-v").split("\n")) {
+      if (line.startsWith("count: ") || line.startsWith("in-pack: ")) {
+        count += Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+      }
+    }
+    return count;
+  }
+
+  private static String git(Path directory, String... args) throws Exception {
+
+    List<String> command = new ArrayList<>();
+    command.add("git");
+    command.addAll(List.of(args));
+    Process process = new ProcessBuilder(command).directory(directory.toFile()).redirectErrorStream(true).start();
+    String out = new String(process.getInputStream().readAllBytes()).trim();
+    assertThat(process.waitFor()).as("git %s failed: %s", command, out).isZero();
+    return out;
+  }
 }
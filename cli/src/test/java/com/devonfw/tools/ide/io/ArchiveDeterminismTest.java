@@ -1,10 +1,16 @@
 package com.devonfw.tools.ide.io;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -57,6 +63,55 @@ public class ArchiveDeterminismTest extends AbstractIdeContextTest {
     assertThat(archive1).hasSameBinaryContentAs(archive2);
   }
 
+  /**
+   * Test that {@link FileAccessImpl#compressTarGz(Path, OutputStream)} is deterministic and lossless for content spanning many compression blocks that are
+   * compressed in parallel.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Test
+  public void testTarGzDeterminismWithLargeContent() throws IOException {
+
+    // arrange
+    IdeTestContext context = new IdeTestContext();
+    FileAccessImpl fileAccess = new FileAccessImpl(context);
+    Path contentDir = this.tempDir.resolve("content-large");
+    Files.createDirectories(contentDir);
+    Random random = new Random(42);
+    byte[] compressible = new byte[1_500_000];
+    for (int i = 0; i < compressible.length; i++) {
+      compressible[i] = (byte) ('a' + random.nextInt(4));
+    }
+    byte[] incompressible = new byte[700_000];
+    random.nextBytes(incompressible);
+    Files.write(contentDir.resolve("compressible.txt"), compressible);
+    Files.write(contentDir.resolve("incompressible.bin"), incompressible);
+    Path archive1 = this.tempDir.resolve("large1.tar.gz");
+    Path archive2 = this.tempDir.resolve("large2.tar.gz");
+
+    // act
+    try (OutputStream out1 = Files.newOutputStream(archive1)) {
+      fileAccess.compressTarGz(contentDir, out1);
+    }
+    try (OutputStream out2 = Files.newOutputStream(archive2)) {
+      fileAccess.compressTarGz(contentDir, out2);
+    }
+
+    // assert
+    assertThat(archive1).hasSameBinaryContentAs(archive2);
+    assertThat(Files.size(archive1)).isLessThan(compressible.length + incompressible.length);
+    try (InputStream in = Files.newInputStream(archive1);
+        TarArchiveInputStream tarIn = new TarArchiveInputStream(new GZIPInputStream(in))) {
+      TarArchiveEntry entry = tarIn.getNextEntry();
+      assertThat(entry.getName()).isEqualTo("compressible.txt");
+      assertThat(tarIn.readAllBytes()).isEqualTo(compressible);
+      entry = tarIn.getNextEntry();
+      assertThat(entry.getName()).isEqualTo("incompressible.bin");
+      assertThat(tarIn.readAllBytes()).isEqualTo(incompressible);
+      assertThat(tarIn.getNextEntry()).isNull();
+    }
+  }
+
   /**
    * Test that {@link FileAccessImpl#compressZip(Path, OutputStream)} is deterministic.
    *
@@ -0,0 +1,186 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
+import com.devonfw.tools.ide.io.BackupStore.BackupEntry;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Test of {@link BackupStore}.
+ */
+class BackupStoreTest extends AbstractIdeContextTest {
+
+  private static final long MB = 1024 * 1024;
+
+  /**
+   * Test of {@link BackupStore#selectForDeletion(List, LocalDateTime, Duration, long)} with the age and size budget.
+   */
+  @Test
+  void testSelectForDeletion() {
+
+    // arrange
+    LocalDateTime now = LocalDateTime.of(2025, 6, 15, 12, 0, 0);
+    BackupEntry justNow = entry("just-now", now.minusMinutes(5), 900 * MB);
+    BackupEntry yesterday = entry("yesterday", now.minusDays(1), 50 * MB);
+    BackupEntry lastWeek = entry("last-week", now.minusDays(7), 100 * MB);
+    BackupEntry twoWeeks = entry("two-weeks", now.minusDays(14), 10 * MB);
+    BackupEntry lastYear = entry("last-year", now.minusDays(365), 1 * MB);
+    List<BackupEntry> entries = List.of(lastWeek, lastYear, justNow, twoWeeks, yesterday);
+
+    // act
+    List<BackupEntry> deletions = BackupStore.selectForDeletion(entries, now, Duration.ofDays(30), 1000 * MB);
+
+    // assert
+    // just-now is always kept, yesterday fits, last-week exceeds the size budget, two-weeks still fits, last-year is too old
+    assertThat(deletions).containsExactly(lastWeek, lastYear);
+    assertThat(BackupStore.selectForDeletion(entries, now, null, 0)).isEmpty();
+    assertThat(BackupStore.selectForDeletion(entries, now, Duration.ofDays(10), 0)).containsExactly(twoWeeks, lastYear);
+  }
+
+  /**
+   * Test of {@link BackupStore#selectForDeletion(List, LocalDateTime, Duration, long)} with files shared via hard-link that only count once for all kept
+   * backups but fully for a backup that remains alone.
+   */
+  @Test
+  void testSelectForDeletionWithSharedFiles() {
+
+    // arrange
+    LocalDateTime now = LocalDateTime.of(2025, 6, 15, 12, 0, 0);
+    BackupEntry newer = new BackupEntry(Path.of("newer"), now.minusDays(1), Map.of("shared", 600 * MB, "a", 10 * MB));
+    BackupEntry older = new BackupEntry(Path.of("older"), now.minusDays(2), Map.of("shared", 600 * MB, "b", 10 * MB));
+    BackupEntry oldest = new BackupEntry(Path.of("oldest"), now.minusDays(3), Map.of("c", 500 * MB));
+
+    // act
+    List<BackupEntry> deletions = BackupStore.selectForDeletion(List.of(oldest, newer, older), now, null, 1000 * MB);
+
+    // assert
+    // newer needs 610 MB, older only adds 10 MB for its own file, oldest exceeds the budget
+    assertThat(deletions).containsExactly(oldest);
+    // once the newer backup is gone, the shared file counts fully for the older one
+    assertThat(BackupStore.selectForDeletion(List.of(older), now, null, 600 * MB)).containsExactly(older);
+  }
+
+  /**
+   * Test of {@link BackupStore#prune()} on a synthetic backup tree with deduplication of identical files.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testPruneWithDeduplication() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    enableDeduplication(context);
+    BackupStore store = BackupStore.of(context);
+    byte[] content = new byte[8192];
+    Arrays.fill(content, (byte) 'x');
+    LocalDateTime now = LocalDateTime.now();
+    Path old = createBackup(store, now.minusDays(100), "java", content);
+    Path first = createBackup(store, now.minusDays(3), "mvn", content);
+    Path second = createBackup(store, now.minusDays(2), "mvn", content);
+
+    // act
+    List<BackupEntry> deletions = store.prune();
+
+    // assert
+    assertThat(deletions).extracting(BackupEntry::path).containsExactly(old);
+    assertThat(old).doesNotExist();
+    assertThat(old.getParent()).doesNotExist();
+    Path firstFile = first.resolve("software/lib.jar");
+    Path secondFile = second.resolve("software/lib.jar");
+    assertThat(secondFile).hasBinaryContent(content);
+    assertThat(Files.isSameFile(firstFile, secondFile)).isTrue();
+    List<BackupEntry> entries = store.getEntries();
+    assertThat(entries).extracting(BackupEntry::size).containsExactly(8192L + 5, 8192L + 5);
+  }
+
+  /**
+   * Test of {@link BackupStore#prune()} without {@link IdeVariables#IDE_BACKUP_DEDUPLICATION deduplication} that is disabled by default.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testPruneWithoutDeduplication() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    BackupStore store = BackupStore.of(context);
+    byte[] content = new byte[8192];
+    LocalDateTime now = LocalDateTime.now();
+    Path first = createBackup(store, now.minusDays(3), "mvn", content);
+    Path second = createBackup(store, now.minusDays(2), "mvn", content);
+
+    // act
+    List<BackupEntry> deletions = store.prune();
+
+    // assert
+    assertThat(deletions).isEmpty();
+    assertThat(Files.isSameFile(first.resolve("software/lib.jar"), second.resolve("software/lib.jar"))).isFalse();
+    assertThat(Files.isWritable(first.resolve("software/lib.jar"))).isTrue();
+    assertThat(first.resolve(BackupStore.FILE_BACKUP_INFO)).doesNotExist();
+    assertThat(store.getFolder().resolve(BackupStore.FILE_INDEX)).doesNotExist();
+  }
+
+  /**
+   * Test that at most {@link BackupStore#MAX_NEW_BACKUPS_PER_RUN} new backups are deduplicated per run starting with the newest.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testDeduplicationBoundedPerRun() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    enableDeduplication(context);
+    BackupStore store = BackupStore.of(context);
+    byte[] content = new byte[8192];
+    LocalDateTime now = LocalDateTime.now();
+    Path oldest = createBackup(store, now.minusDays(BackupStore.MAX_NEW_BACKUPS_PER_RUN + 1), "java", content);
+    for (int i = BackupStore.MAX_NEW_BACKUPS_PER_RUN; i > 0; i--) {
+      createBackup(store, now.minusDays(i), "java", content);
+    }
+
+    // act
+    store.getEntries();
+    boolean oldestProcessedInFirstRun = Files.exists(oldest.resolve(BackupStore.FILE_BACKUP_INFO));
+    store.getEntries();
+
+    // assert
+    assertThat(oldestProcessedInFirstRun).isFalse();
+    assertThat(oldest.resolve(BackupStore.FILE_BACKUP_INFO)).exists();
+  }
+
+  private static void enableDeduplication(IdeTestContext context) {
+
+    context.getVariables().getByType(EnvironmentVariablesType.CONF).set(IdeVariables.IDE_BACKUP_DEDUPLICATION.getName(), "true");
+  }
+
+  private static Path createBackup(BackupStore store, LocalDateTime time, String name, byte[] content) throws IOException {
+
+    Path backup = store.getFolder().resolve(time.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"))).resolve(
+        time.format(DateTimeFormatter.ofPattern("HH-mm-ss")) + "_" + name);
+    Path software = Files.createDirectories(backup.resolve("software"));
+    Files.write(software.resolve("lib.jar"), content);
+    Files.writeString(software.resolve("small"), "small");
+    return backup;
+  }
+
+  private static BackupEntry entry(String name, LocalDateTime time, long size) {
+
+    return new BackupEntry(Path.of(name), time, Map.of(name, size));
+  }
+
+}
@@ -12,8 +12,12 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.devonfw.tools.ide.commandlet.EnvironmentCommandlet;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.os.SystemInfoMock;
@@ -936,6 +941,48 @@ class FileAccessImplTest extends AbstractIdeContextTest {
     assertThat(fileAccess.toRealPath(link)).isEqualTo(realPath(tempDir.resolve("file")));
   }
 
+  /**
+   * Test of {@link FileAccessImpl#extract7z(Path, Path)} with many small files written in parallel and a large file written directly.
+   *
+   * @param tempDir temporary directory to use.
+   * @throws IOException on error.
+   */
+  @Test
+  void test7zExtractionWithManyFiles(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    IdeTestContext context = new IdeTestContext();
+    Path archive = tempDir.resolve("many.7z");
+    byte[] large = new byte[ParallelFileWriter.MAX_FILE_SIZE + 1];
+    for (int i = 0; i < large.length; i++) {
+      large[i] = (byte) i;
+    }
+    try (SevenZOutputFile out = new SevenZOutputFile(archive.toFile())) {
+      for (int i = 0; i < 200; i++) {
+        SevenZArchiveEntry entry = new SevenZArchiveEntry();
+        entry.setName("folder" + (i % 10) + "/file" + i + ".txt");
+        out.putArchiveEntry(entry);
+        out.write(("content of file " + i).getBytes());
+        out.closeArchiveEntry();
+      }
+      SevenZArchiveEntry entry = new SevenZArchiveEntry();
+      entry.setName("large.bin");
+      out.putArchiveEntry(entry);
+      out.write(large);
+      out.closeArchiveEntry();
+    }
+    Path targetDir = tempDir.resolve("target");
+
+    // act
+    context.getFileAccess().extract7z(archive, targetDir);
+
+    // assert
+    for (int i = 0; i < 200; i++) {
+      assertThat(targetDir.resolve("folder" + (i % 10)).resolve("file" + i + ".txt")).hasContent("content of file " + i);
+    }
+    assertThat(targetDir.resolve("large.bin")).hasBinaryContent(large);
+  }
+
   /**
    * Tests if a file can be found within a list of folders.
    *
@@ -986,12 +1033,37 @@ class FileAccessImplTest extends AbstractIdeContextTest {
     fileAccess.download(source, archiveFile);
 
     //assert
-    assertProgressBar(context, "Copying", fileSize);
+    assertProgressBar(context, "Copying", fileSize, FileAccessImpl.COPY_CHUNK_SIZE, 0, fileSize);
     assertThat(archiveFile).hasSize(fileSize).hasSameBinaryContentAs(tempFile);
     IdeProgressBarTestImpl progressBar = context.getProgressBarMap().get(taskName);
     assertThat(progressBar.getMaxSize()).isEqualTo(fileSize);
   }
 
+  /**
+   * Tests if {@link FileAccess#download(String, Path)} of a file path as URL larger than {@link FileAccessImpl#COPY_CHUNK_SIZE} is copied completely with
+   * one progress step per chunk.
+   *
+   * @param tempDir temporary directory to use.
+   */
+  @Test
+  void testDownloadLargeFileCopiesInChunks(@TempDir Path tempDir) throws IOException {
+
+    //arrange
+    IdeTestContext context = newContext(tempDir);
+    Path sourceFile = tempDir.resolve("source.bin");
+    Path targetFile = tempDir.resolve("target.bin");
+    byte[] data = new byte[(int) (2 * FileAccessImpl.COPY_CHUNK_SIZE + 4711)];
+    new Random(42).nextBytes(data);
+    Files.write(sourceFile, data);
+
+    //act
+    context.getFileAccess().download(sourceFile.toString(), targetFile);
+
+    //assert
+    assertProgressBar(context, "Copying", data.length, FileAccessImpl.COPY_CHUNK_SIZE, 2, 4711);
+    assertThat(targetFile).hasSameBinaryContentAs(sourceFile);
+  }
+
 
   /**
    * Tests if {@link FileAccess#download(String, Path)} of a file path as URL will copy the file and not use a progress-bar if the file size is small.
@@ -1180,6 +1252,30 @@ class FileAccessImplTest extends AbstractIdeContextTest {
     assertThat(fileAccess.isNonEmptyFile(existingFile)).isTrue();
   }
 
+  /**
+   * Test of {@link FileAccessImpl#getSize(Path)} that must sum up regular files recursively without following links.
+   */
+  @Test
+  void testGetSize(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    FileAccess fileAccess = new IdeTestContext().getFileAccess();
+    Path folder = tempDir.resolve("folder");
+    Files.createDirectories(folder.resolve("sub"));
+    Files.write(folder.resolve("file1"), new byte[100]);
+    Files.write(folder.resolve("sub/file2"), new byte[23]);
+    Path external = tempDir.resolve("external");
+    Files.write(external, new byte[1000]);
+    if (!new IdeTestContext().getSystemInfo().isWindows()) {
+      Files.createSymbolicLink(folder.resolve("link"), external);
+    }
+
+    // act + assert
+    assertThat(fileAccess.getSize(folder)).isEqualTo(123);
+    assertThat(fileAccess.getSize(folder.resolve("file1"))).isEqualTo(100);
+    assertThat(fileAccess.getSize(tempDir.resolve("non-existing"))).isZero();
+  }
+
   /**
    * Regression test for #1738: delete must remove directory links themselves and never recurse into their targets.
    */
@@ -1283,4 +1379,167 @@ class FileAccessImplTest extends AbstractIdeContextTest {
     assertThat(count).isEqualTo(Path.of("").toAbsolutePath().getNameCount() + 2);
   }
 
+  /**
+   * Test of {@link FileAccessImpl#exists(Path)}, {@link FileAccessImpl#isDirectory(Path)}, and {@link FileAccessImpl#toRealPath(Path)} that repeated queries
+   * only access the file-system once.
+   */
+  @Test
+  void testMetadataCacheAvoidsRepeatedLookups(@TempDir Path tempDir) {
+
+    // arrange
+    FileAccessImpl fileAccess = new FileAccessImpl(new IdeTestContext());
+    Path dir = tempDir.resolve("dir");
+    Path link = tempDir.resolve("link");
+    fileAccess.mkdirs(dir);
+    fileAccess.symlink(dir, link);
+    int lookupCount = fileAccess.getMetadataLookupCount();
+
+    // act
+    for (int i = 0; i < 10; i++) {
+      assertThat(fileAccess.exists(link)).isTrue();
+      assertThat(fileAccess.isDirectory(link)).isTrue();
+      assertThat(fileAccess.toRealPath(link)).isEqualTo(fileAccess.toRealPath(dir));
+    }
+
+    // assert
+    assertThat(fileAccess.getMetadataLookupCount() - lookupCount).isEqualTo(4);
+  }
+
+  /**
+   * Test of {@link FileAccessImpl#writeFileContentAtomically(String, Path)} that the file is replaced without leaving a temporary file behind and that the
+   * cached metadata is invalidated.
+   */
+  @Test
+  void testWriteFileContentAtomically(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    FileAccessImpl fileAccess = new FileAccessImpl(new IdeTestContext());
+    Path file = tempDir.resolve("file.txt");
+    assertThat(fileAccess.exists(file)).isFalse();
+
+    // act
+    fileAccess.writeFileContentAtomically("first", file);
+    fileAccess.writeFileContentAtomically("second", file);
+
+    // assert
+    assertThat(file).hasContent("second");
+    assertThat(fileAccess.exists(file)).isTrue();
+    try (Stream<Path> children = Files.list(tempDir)) {
+      assertThat(children).containsExactly(file);
+    }
+  }
+
+  /**
+   * Test that {@link FileAccessImpl#delete(Path) deleting} or {@link FileAccessImpl#setWritable(Path, boolean) making writable} a read-only hard-link (e.g.
+   * created by {@link HardLinkDeduplicator}) does not make the other hard-links sharing the same file writable.
+   */
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void testHardLinkStaysReadOnly(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    FileAccessImpl fileAccess = new FileAccessImpl(new IdeTestContext());
+    Path original = tempDir.resolve("original");
+    Files.writeString(original, "shared");
+    Path deleted = Files.createLink(tempDir.resolve("deleted"), original);
+    Path modified = Files.createLink(tempDir.resolve("modified"), original);
+    Files.setPosixFilePermissions(original, PosixFilePermissions.fromString("r--r--r--"));
+
+    // act
+    fileAccess.delete(deleted);
+    boolean writable = fileAccess.setWritable(modified, true);
+    Files.writeString(modified, "modified");
+
+    // assert
+    assertThat(deleted).doesNotExist();
+    assertThat(writable).isTrue();
+    assertThat(Files.isSameFile(original, modified)).isFalse();
+    assertThat(original).hasContent("shared");
+    assertThat(Files.getPosixFilePermissions(original)).doesNotContain(PosixFilePermission.OWNER_WRITE);
+    try (Stream<Path> children = Files.list(tempDir)) {
+      assertThat(children).containsExactlyInAnyOrder(original, modified);
+    }
+  }
+
+  /**
+   * Test of {@link PathMetadataCache} that a value looked up while the cache is {@link PathMetadataCache#clear() cleared} (e.g. by a modification on
+   * another thread) is not cached since it may be outdated.
+   */
+  @Test
+  void testMetadataCacheDiscardsLookupConcurrentToClear(@TempDir Path tempDir) {
+
+    // arrange
+    PathMetadataCache cache = new PathMetadataCache();
+    Path file = tempDir.resolve("file");
+
+    // act
+    boolean existsDuringClear = cache.exists(file, p -> {
+      boolean exists = Files.exists(p);
+      cache.clear();
+      return exists;
+    });
+    boolean exists = cache.exists(file, Files::exists);
+
+    // assert
+    assertThat(existsDuringClear).isFalse();
+    assertThat(exists).isFalse();
+    assertThat(cache.getLookupCount()).isEqualTo(2);
+  }
+
+  /**
+   * Test of {@link FileAccessImpl#exists(Path)}, {@link FileAccessImpl#isDirectory(Path)}, and {@link FileAccessImpl#toRealPath(Path)} that the cached
+   * metadata is invalidated when the file-system is modified via {@link FileAccess}.
+   */
+  @Test
+  void testMetadataCacheInvalidatedOnModification(@TempDir Path tempDir) {
+
+    // arrange
+    FileAccessImpl fileAccess = new FileAccessImpl(new IdeTestContext());
+    Path dir1 = tempDir.resolve("dir1");
+    Path dir2 = tempDir.resolve("dir2");
+    Path link = tempDir.resolve("link");
+    fileAccess.mkdirs(dir2);
+    assertThat(fileAccess.exists(dir1)).isFalse();
+    assertThat(fileAccess.isDirectory(link)).isFalse();
+
+    // act + assert
+    fileAccess.mkdirs(dir1);
+    assertThat(fileAccess.exists(dir1)).isTrue();
+    fileAccess.symlink(dir1, link);
+    assertThat(fileAccess.isDirectory(link)).isTrue();
+    assertThat(fileAccess.toRealPath(link)).isEqualTo(fileAccess.toRealPath(dir1));
+    fileAccess.symlink(dir2, link);
+    assertThat(fileAccess.toRealPath(link)).isEqualTo(fileAccess.toRealPath(dir2));
+    fileAccess.delete(link);
+    assertThat(fileAccess.exists(link)).isFalse();
+    fileAccess.writeFileContent("content", link, false);
+    assertThat(fileAccess.exists(link)).isTrue();
+    assertThat(fileAccess.isDirectory(link)).isFalse();
+  }
+
+  /**
+   * Test of {@link FileAccessImpl} metadata cache that repeatedly running the {@link EnvironmentCommandlet} does not access the file-system again for
+   * the existence and link checks of the installed tools.
+   */
+  @Test
+  void testMetadataCacheReducesLookupsOfEnvironmentCommandlet() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    FileAccessImpl fileAccess = (FileAccessImpl) context.getFileAccess();
+    EnvironmentCommandlet env = context.getCommandletManager().getCommandlet(EnvironmentCommandlet.class);
+    env.run(); // initial run may create folders (e.g. for corepack)
+    fileAccess.clearMetadataCache();
+    int initialLookupCount = fileAccess.getMetadataLookupCount();
+    env.run();
+    int lookupCount = fileAccess.getMetadataLookupCount();
+
+    // act
+    env.run();
+
+    // assert
+    assertThat(lookupCount).isGreaterThan(initialLookupCount);
+    assertThat(fileAccess.getMetadataLookupCount()).isEqualTo(lookupCount);
+  }
+
 }
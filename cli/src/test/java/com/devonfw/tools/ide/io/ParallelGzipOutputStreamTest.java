@@ -0,0 +1,60 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link ParallelGzipOutputStream}.
+ */
+class ParallelGzipOutputStreamTest extends Assertions {
+
+  /**
+   * Test that data of various sizes (empty, within a block, exactly at and across block boundaries) is compressed losslessly and reproducibly.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testCompressIsLosslessAndReproducible() throws IOException {
+
+    Random random = new Random(4711);
+    for (int size : new int[] { 0, 1, 1000, 128 * 1024, 128 * 1024 + 1, 1_000_000 }) {
+      // arrange
+      byte[] data = new byte[size];
+      for (int i = 0; i < size; i++) {
+        data[i] = (byte) (random.nextInt(8) + ((i / 1000) % 3 == 0 ? random.nextInt(256) : 'a'));
+      }
+
+      // act
+      byte[] compressed1 = gzip(data);
+      byte[] compressed2 = gzip(data);
+
+      // assert
+      assertThat(compressed1).as("reproducible for size %d", size).isEqualTo(compressed2);
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed1))) {
+        assertThat(in.readAllBytes()).as("lossless for size %d", size).isEqualTo(data);
+      }
+    }
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(baos)) {
+      // write in odd chunks to not align with the block size
+      int offset = 0;
+      while (offset < data.length) {
+        int length = Math.min(7777, data.length - offset);
+        out.write(data, offset, length);
+        offset += length;
+      }
+    }
+    return baos.toByteArray();
+  }
+
+}
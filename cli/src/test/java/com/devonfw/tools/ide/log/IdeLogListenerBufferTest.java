@@ -0,0 +1,168 @@
+package com.devonfw.tools.ide.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test of {@link IdeLogListenerBuffer}.
+ */
+class IdeLogListenerBufferTest extends Assertions {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdeLogListenerBufferTest.class);
+
+  /** Test that buffered log messages are only formatted when the buffer is flushed. */
+  @Test
+  void testBufferedMessageFormattedOnFlush() {
+
+    // arrange
+    IdeTestStartContext startContext = new IdeTestStartContext(IdeLogLevel.INFO);
+    startContext.deactivateLogging(IdeLogLevel.TRACE);
+    CountingArg arg = new CountingArg("java");
+
+    // act
+    LOG.info("Installing {}", arg);
+    int formattedWhileBuffering = arg.count.get();
+    startContext.activateLogging();
+
+    // assert
+    assertThat(formattedWhileBuffering).isZero();
+    assertThat(arg.count.get()).isEqualTo(1);
+    assertThat(startContext.getEntries()).singleElement().satisfies(entry -> {
+      assertThat(entry.level()).isEqualTo(IdeLogLevel.INFO);
+      assertThat(entry.message()).isEqualTo("Installing java");
+    });
+  }
+
+  /** Test that log messages below the threshold are neither buffered nor formatted. */
+  @Test
+  void testMessageBelowThresholdNotFormatted() {
+
+    // arrange
+    IdeTestStartContext startContext = new IdeTestStartContext(IdeLogLevel.INFO);
+    startContext.deactivateLogging(IdeLogLevel.WARNING);
+    CountingArg arg = new CountingArg("java");
+
+    // act
+    LOG.debug("Debugging {}", arg);
+    LOG.info("Installing {}", arg);
+    startContext.activateLogging();
+
+    // assert
+    assertThat(arg.count.get()).isZero();
+    assertThat(startContext.getEntries()).isEmpty();
+  }
+
+  /** Test that the buffer is bounded and discards the oldest log events if its capacity is exceeded. */
+  @Test
+  void testBufferBounded() {
+
+    // arrange
+    IdeLogListenerBuffer buffer = new IdeLogListenerBuffer(true, 3);
+
+    // act
+    for (int i = 0; i < 5; i++) {
+      buffer.buffer(IdeLogLevel.INFO, "Message {}", new Object[] { i }, null);
+    }
+
+    // assert
+    assertThat(buffer.getBufferSize()).isEqualTo(3);
+    assertThat(buffer.buffer).extracting(entry -> entry.args()[0]).containsExactly(2, 3, 4);
+    assertThat(buffer.buffer).allMatch(entry -> entry.message() == null);
+  }
+
+  /** Test that log events of {@link IdeLogLevel#WARNING} or higher are never discarded if the capacity is exceeded. */
+  @Test
+  void testBufferNeverDiscardsWarnings() {
+
+    // arrange
+    IdeLogListenerBuffer buffer = new IdeLogListenerBuffer(true, 2);
+
+    // act
+    buffer.buffer(IdeLogLevel.WARNING, "Warning", null, null);
+    for (int i = 0; i < 3; i++) {
+      buffer.buffer(IdeLogLevel.INFO, "Info", null, null);
+      buffer.buffer(IdeLogLevel.ERROR, "Error", null, null);
+    }
+
+    // assert
+    assertThat(buffer.buffer).extracting(IdeLogEntry::level).containsExactly(IdeLogLevel.WARNING, IdeLogLevel.ERROR, IdeLogLevel.INFO,
+        IdeLogLevel.ERROR, IdeLogLevel.INFO, IdeLogLevel.ERROR);
+  }
+
+  /** Test that discarded log events are reported as warning when the buffer is flushed. */
+  @Test
+  void testDiscardedEventsReportedAsWarning() {
+
+    // arrange
+    IdeTestStartContext startContext = new IdeTestStartContext(IdeLogLevel.INFO);
+    startContext.deactivateLogging(IdeLogLevel.TRACE);
+
+    // act
+    for (int i = 0; i <= IdeLogListenerBuffer.DEFAULT_CAPACITY; i++) {
+      LOG.debug("Debugging {}", i);
+    }
+    startContext.activateLogging();
+
+    // assert
+    assertThat(startContext.getEntries()).filteredOn(entry -> entry.level() == IdeLogLevel.WARNING).singleElement()
+        .satisfies(entry -> assertThat(entry.message()).startsWith("Discarded 1 log events"));
+  }
+
+  /**
+   * Test that log events buffered concurrently by multiple threads are not lost.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  void testConcurrentBuffering() throws Exception {
+
+    // arrange
+    IdeLogListenerBuffer buffer = new IdeLogListenerBuffer(true);
+    int threadCount = 4;
+    int eventCount = 1000;
+    Thread[] threads = new Thread[threadCount];
+    for (int i = 0; i < threadCount; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < eventCount; j++) {
+          buffer.buffer(IdeLogLevel.WARNING, "Warning {}", new Object[] { j }, null);
+        }
+      });
+    }
+
+    // act
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // assert
+    assertThat(buffer.getBufferSize()).isEqualTo(threadCount * eventCount);
+  }
+
+  private static class CountingArg {
+
+    private final String value;
+
+    private final AtomicInteger count;
+
+    private CountingArg(String value) {
+
+      this.value = value;
+      this.count = new AtomicInteger();
+    }
+
+    @Override
+    public String toString() {
+
+      this.count.incrementAndGet();
+      return this.value;
+    }
+  }
+
+}
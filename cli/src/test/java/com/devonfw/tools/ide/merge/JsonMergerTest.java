@@ -2,6 +2,7 @@ package com.devonfw.tools.ide.merge;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -60,4 +61,95 @@ class JsonMergerTest extends AbstractIdeContextTest {
     assertThat(result.indexOf("// Single-line comment")).isLessThan(result.indexOf("\"editor.fontSize\""));
     assertThat(result.indexOf("/* Block comment */")).isLessThan(result.indexOf("\"editor.tabSize\""));
   }
+
+  /**
+   * Test that {@link JsonMerger} preserves the order of the properties and the indentation of the workspace file and does not rewrite it if nothing changed.
+   *
+   * @param tempDir the temporary folder to use as workspace for this test.
+   * @throws Exception on error.
+   */
+  @Test
+  void testMergePreservesWorkspaceAndSkipsUnchanged(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeContext context = newContext(PROJECT_BASIC, null, false);
+    JsonMerger jsonMerger = new JsonMerger(context);
+    Path workspaceJson = tempDir.resolve("settings.json");
+    Files.writeString(workspaceJson, """
+        {
+          "editor.fontSize": 12,
+          "files.exclude": {
+            "**/.git": true
+          },
+          "editor.tabSize": 4
+        }
+        """);
+    Path updateJson = tempDir.resolve("update.json");
+    Files.writeString(updateJson, """
+        {
+          "editor.tabSize": 2,
+          "java.home": "$[IDE_HOME]/software/java"
+        }
+        """);
+    String ideHome = context.getIdeHome().toString().replace('\\', '/');
+
+    // act
+    jsonMerger.merge(null, updateJson, context.getVariables(), workspaceJson);
+    FileTime lastModified = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(workspaceJson, lastModified);
+    jsonMerger.merge(null, updateJson, context.getVariables(), workspaceJson);
+
+    // assert
+    assertThat(workspaceJson).hasContent("""
+        {
+          "editor.fontSize": 12,
+          "files.exclude": {
+            "**/.git": true
+          },
+          "editor.tabSize": 2,
+          "java.home": "${IDE_HOME}/software/java"
+        }
+        """.replace("${IDE_HOME}", ideHome));
+    assertThat(Files.getLastModifiedTime(workspaceJson)).isEqualTo(lastModified);
+  }
+
+  /**
+   * Test that {@link JsonMerger#inverseMerge(Path, com.devonfw.tools.ide.environment.EnvironmentVariables, boolean, Path) inverse merge} does not rewrite an
+   * unchanged update template that is formatted differently than the merge result.
+   *
+   * @param tempDir the temporary folder to use as workspace for this test.
+   * @throws Exception on error.
+   */
+  @Test
+  void testInverseMergeSkipsUnchangedTemplateWithCustomFormatting(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeContext context = newContext(PROJECT_BASIC, null, false);
+    JsonMerger jsonMerger = new JsonMerger(context);
+    String template = """
+        {"editor.tabSize":2,
+            "files.exclude": { "**/.git": true },   "editor.wordWrap" : "on"}
+        """;
+    Path updateJson = tempDir.resolve("update.json");
+    Files.writeString(updateJson, template);
+    Path workspaceJson = tempDir.resolve("settings.json");
+    Files.writeString(workspaceJson, """
+        {
+          "editor.tabSize": 2,
+          "files.exclude": {
+            "**/.git": true
+          },
+          "editor.wordWrap": "on"
+        }
+        """);
+    FileTime lastModified = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(updateJson, lastModified);
+
+    // act
+    jsonMerger.inverseMerge(workspaceJson, context.getVariables(), false, updateJson);
+
+    // assert
+    assertThat(updateJson).hasContent(template);
+    assertThat(Files.getLastModifiedTime(updateJson)).isEqualTo(lastModified);
+  }
 }
@@ -1,17 +1,27 @@
 package com.devonfw.tools.ide.network;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.concurrent.Callable;
 
 import javax.net.ssl.SSLHandshakeException;
 
 import org.junit.jupiter.api.Test;
 
+import com.devonfw.tools.ide.cache.CachedValue;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 
 /**
  * Test of {@link NetworkStatusImpl}.
  */
+@WireMockTest
 class NetworkStatusImplTest extends AbstractIdeContextTest {
 
   /**
@@ -54,4 +64,107 @@ class NetworkStatusImplTest extends AbstractIdeContextTest {
     assertThat(networkStatus.isTlsTrustIssue(wrapped)).isTrue();
     assertThat(networkStatus.isTlsTrustIssue(new IllegalStateException("some unrelated network glitch"))).isFalse();
   }
+
+  /**
+   * Verifies that the online check started in background uses the {@link IdeVariables#IDE_ONLINE_CHECK_URL configured URL} and that its persisted result is
+   * reused by a consecutive invocation without sending another request.
+   */
+  @Test
+  void testBackgroundOnlineCheckIsPersistedAndReused(WireMockRuntimeInfo wmRuntimeInfo) {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    String url = wmRuntimeInfo.getHttpBaseUrl() + "/health";
+    context.getVariables().getByType(EnvironmentVariablesType.CONF).set(IdeVariables.IDE_ONLINE_CHECK_URL.getName(), url);
+    stubOnlineCheck(200);
+    NetworkStatusImpl networkStatus = new NetworkStatusImpl(context, null, CachedValue.DEFAULT_RETENTION, true);
+
+    // act
+    networkStatus.startOnlineCheck();
+    boolean online = networkStatus.isOnline();
+    boolean onlineInNextInvocation = new NetworkStatusImpl(context, null, CachedValue.DEFAULT_RETENTION, true).isOnline();
+
+    // assert
+    assertThat(online).isTrue();
+    assertThat(onlineInNextInvocation).isTrue();
+    assertThat(context.getIdePath().resolve(NetworkStatusImpl.FILE_ONLINE_CHECK)).hasContent("online");
+    WireMock.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/health")));
+  }
+
+  /**
+   * Verifies that a failed online check is not persisted so a consecutive invocation detects a recovered connection (e.g. after a VPN reconnect).
+   */
+  @Test
+  void testFailedOnlineCheckIsNotPersisted(WireMockRuntimeInfo wmRuntimeInfo) {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    String url = wmRuntimeInfo.getHttpBaseUrl() + "/health";
+    stubOnlineCheck(503);
+    NetworkStatusImpl networkStatus = new NetworkStatusImpl(context, url, CachedValue.DEFAULT_RETENTION, true);
+    Throwable error = networkStatus.getError();
+    stubOnlineCheck(200);
+
+    // act
+    boolean onlineInNextInvocation = new NetworkStatusImpl(context, url, CachedValue.DEFAULT_RETENTION, true).isOnline();
+
+    // assert
+    assertThat(error).isNotNull();
+    assertThat(onlineInNextInvocation).isTrue();
+    WireMock.verify(2, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/health")));
+  }
+
+  /**
+   * Verifies that an outdated persisted result of the online check is ignored.
+   */
+  @Test
+  void testOutdatedPersistedOnlineCheckIsIgnored(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    String url = wmRuntimeInfo.getHttpBaseUrl() + "/health";
+    stubOnlineCheck(200);
+    Path file = context.getIdePath().resolve(NetworkStatusImpl.FILE_ONLINE_CHECK);
+    context.getFileAccess().writeFileContent("online", file);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 2 * NetworkStatusImpl.PERSISTED_ONLINE_CHECK_RETENTION));
+    NetworkStatusImpl networkStatus = new NetworkStatusImpl(context, url, CachedValue.DEFAULT_RETENTION, true);
+
+    // act
+    boolean online = networkStatus.isOnline();
+
+    // assert
+    assertThat(online).isTrue();
+    assertThat(file).hasContent("online");
+    WireMock.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/health")));
+  }
+
+  /**
+   * Verifies that an empty (e.g. truncated) persisted result of the online check is ignored instead of being treated as offline.
+   */
+  @Test
+  void testEmptyPersistedOnlineCheckIsIgnored(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    String url = wmRuntimeInfo.getHttpBaseUrl() + "/health";
+    stubOnlineCheck(200);
+    Path file = context.getIdePath().resolve(NetworkStatusImpl.FILE_ONLINE_CHECK);
+    context.getFileAccess().writeFileContent("", file);
+    NetworkStatusImpl networkStatus = new NetworkStatusImpl(context, url, CachedValue.DEFAULT_RETENTION, true);
+
+    // act
+    boolean online = networkStatus.isOnline();
+
+    // assert
+    assertThat(online).isTrue();
+    assertThat(file).hasContent("online");
+    assertThat(context.getIdePath()).isDirectoryNotContaining("glob:**/" + NetworkStatusImpl.FILE_ONLINE_CHECK + "*.tmp");
+    WireMock.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/health")));
+  }
+
+  private static void stubOnlineCheck(int status) {
+
+    WireMock.stubFor(WireMock.get(WireMock.urlPathEqualTo("/health"))
+        .willReturn(WireMock.aResponse().withStatus(status).withHeader("Content-Type", "text/plain").withBody("OK")));
+  }
 }
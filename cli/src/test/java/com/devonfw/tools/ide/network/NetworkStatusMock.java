@@ -16,7 +16,7 @@ public class NetworkStatusMock extends NetworkStatusImpl {
    * @param wireMockRuntimeInfo the {@link WireMockRuntimeInfo}. May be {@code null}.
    */
   public NetworkStatusMock(AbstractIdeTestContext context, WireMockRuntimeInfo wireMockRuntimeInfo) {
-    super(context, statusUrl(wireMockRuntimeInfo), Long.MAX_VALUE);
+    super(context, statusUrl(wireMockRuntimeInfo), Long.MAX_VALUE, false);
   }
 
   private static String statusUrl(WireMockRuntimeInfo wireMockRuntimeInfo) {
@@ -0,0 +1,65 @@
+package com.devonfw.tools.ide.step;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.json.JsonMapping;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Test of {@link StepTraceWriter}.
+ */
+class StepTraceWriterTest extends AbstractIdeContextTest {
+
+  /** Test that the {@link StepImpl step} tree is written as Chrome Trace Event JSON. */
+  @Test
+  void testWriteTrace() throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    StepImpl root = context.newStep(true, "ide", "install", "java");
+    Step download = context.newStep("Download java", "21.0.8_9");
+    download.addDownloadBytes(4096);
+    download.addDownloadBytes(1024);
+    download.success();
+    Step extract = context.newStep("Extract java");
+    extract.addProcessSpawn();
+    extract.error("Extraction failed");
+    root.close();
+    Path traceFile = context.getIdeHome().resolve("trace.json");
+
+    // act
+    new StepTraceWriter().write(root, traceFile);
+
+    // assert
+    JsonNode trace = JsonMapping.create().readTree(traceFile.toFile());
+    JsonNode events = trace.get("traceEvents");
+    assertThat(events).hasSize(4);
+    assertThat(events.get(0).get("ph").asText()).isEqualTo("M");
+    JsonNode rootEvent = events.get(1);
+    assertThat(rootEvent.get("name").asText()).isEqualTo("ide");
+    assertThat(rootEvent.get("ph").asText()).isEqualTo("X");
+    assertThat(rootEvent.get("ts").asDouble()).isZero();
+    assertThat(rootEvent.get("dur").asDouble()).isPositive();
+    assertThat(rootEvent.get("tid").asLong()).isEqualTo(Thread.currentThread().threadId());
+    assertThat(rootEvent.get("args").get("params").get(1).asText()).isEqualTo("java");
+    assertThat(rootEvent.get("args").get("success").asBoolean()).isFalse();
+    JsonNode downloadEvent = events.get(2);
+    assertThat(downloadEvent.get("name").asText()).isEqualTo("Download java");
+    assertThat(downloadEvent.get("ts").asDouble()).isGreaterThanOrEqualTo(0);
+    assertThat(downloadEvent.get("dur").asDouble()).isLessThanOrEqualTo(rootEvent.get("dur").asDouble());
+    assertThat(downloadEvent.get("args").get("success").asBoolean()).isTrue();
+    assertThat(downloadEvent.get("args").get("downloadBytes").asLong()).isEqualTo(5120);
+    assertThat(downloadEvent.get("args").get("processSpawns").asInt()).isZero();
+    JsonNode extractEvent = events.get(3);
+    assertThat(extractEvent.get("name").asText()).isEqualTo("Extract java");
+    assertThat(extractEvent.get("ts").asDouble()).isGreaterThanOrEqualTo(downloadEvent.get("ts").asDouble());
+    assertThat(extractEvent.get("args").get("processSpawns").asInt()).isEqualTo(1);
+    assertThat(extractEvent.get("args").get("downloadBytes").asLong()).isZero();
+    assertThat(trace.get("otherData").get("startTime").asLong()).isEqualTo(root.getStart());
+  }
+
+}
@@ -1,7 +1,12 @@
 package com.devonfw.tools.ide.tool.mvn;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -19,6 +24,8 @@ import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.url.model.file.UrlChecksums;
 import com.devonfw.tools.ide.url.model.file.UrlDownloadFileMetadata;
 import com.devonfw.tools.ide.url.model.file.UrlGenericChecksum;
+import com.devonfw.tools.ide.util.HexUtil;
+import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
 /**
@@ -250,6 +257,120 @@ class MvnRepositoryTest extends AbstractIdeContextTest {
         "2024.07.003-alpha", "2024.07.002-alpha", "2024.06.001-alpha", "2024.05.001-alpha", "2024.04.001-alpha", "2024.03.001-alpha");
   }
 
+  /**
+   * Test of {@link MvnRepository#downloadArtifact(MvnArtifact)} from a file-based mirror configured in the maven {@code settings.xml}.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  void testDownloadArtifactFromMirror() throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    MvnArtifact artifact = new MvnArtifact("com.example", "demo", "1.0");
+    Path mirror = createMirror(context.getIdeRoot().resolve("mirror"), artifact, "demo-content");
+    writeSettings(context, mirror.toUri().toString(), "");
+    MvnRepository mvnRepository = new MvnRepository(context);
+
+    // act
+    Path artifactPath = mvnRepository.downloadArtifact(artifact);
+
+    // assert
+    Path localRepository = IdeVariables.M2_REPO.get(context);
+    assertThat(artifactPath).isEqualTo(localRepository.resolve(artifact.getPath()));
+    assertThat(artifactPath).hasContent("demo-content");
+    assertThat(localRepository.resolve(artifact.getPath() + ".sha1")).exists();
+  }
+
+  /**
+   * Test of {@link MvnRepository#downloadArtifact(MvnArtifact)} with a mirror that requires credentials so maven has to be used as fallback.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  void testDownloadArtifactFromMirrorWithCredentials() throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    MvnArtifact artifact = new MvnArtifact("com.example", "demo", "1.0");
+    Path mirror = createMirror(context.getIdeRoot().resolve("mirror"), artifact, "demo-content");
+    writeSettings(context, mirror.toUri().toString(), """
+          <servers>
+            <server>
+              <id>local</id>
+              <username>user</username>
+              <password>secret</password>
+            </server>
+          </servers>
+        """);
+    MvnRepository mvnRepository = new MvnRepository(context);
+
+    // act
+    Path artifactPath = mvnRepository.downloadArtifact(artifact);
+
+    // assert
+    assertThat(artifactPath).isNull();
+    assertThat(IdeVariables.M2_REPO.get(context).resolve(artifact.getPath())).doesNotExist();
+  }
+
+  /**
+   * Test of {@link MvnRepository#downloadArtifact(MvnArtifact)} with an active proxy in the maven {@code settings.xml} so maven has to be used as fallback.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  void testDownloadArtifactWithProxy() throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    MvnArtifact artifact = new MvnArtifact("com.example", "demo", "1.0");
+    Path mirror = createMirror(context.getIdeRoot().resolve("mirror"), artifact, "demo-content");
+    writeSettings(context, mirror.toUri().toString(), """
+          <proxies>
+            <proxy>
+              <host>proxy.example.com</host>
+              <port>8080</port>
+            </proxy>
+          </proxies>
+        """);
+    MvnRepository mvnRepository = new MvnRepository(context);
+
+    // act
+    Path artifactPath = mvnRepository.downloadArtifact(artifact);
+
+    // assert
+    assertThat(artifactPath).isNull();
+    assertThat(IdeVariables.M2_REPO.get(context).resolve(artifact.getPath())).doesNotExist();
+  }
+
+  private static Path createMirror(Path mirror, MvnArtifact artifact, String content) throws Exception {
+
+    Path file = mirror.resolve(artifact.getPath());
+    Files.createDirectories(file.getParent());
+    byte[] data = content.getBytes(StandardCharsets.UTF_8);
+    Files.write(file, data);
+    Files.writeString(file.resolveSibling(file.getFileName() + ".md5"), HexUtil.toHexString(MessageDigest.getInstance("MD5").digest(data)));
+    Files.writeString(file.resolveSibling(file.getFileName() + ".sha1"), HexUtil.toHexString(MessageDigest.getInstance("SHA-1").digest(data)));
+    return mirror;
+  }
+
+  private static void writeSettings(IdeTestContext context, String mirrorUrl, String servers) throws IOException {
+
+    Path settingsFile = context.getMavenConfigurationFolder().resolve(Mvn.SETTINGS_FILE);
+    Files.createDirectories(settingsFile.getParent());
+    Files.writeString(settingsFile, """
+        <settings>
+          <mirrors>
+            <mirror>
+              <id>local</id>
+              <mirrorOf>*</mirrorOf>
+              <url>%s</url>
+            </mirror>
+          </mirrors>
+        %s</settings>
+        """.formatted(mirrorUrl, servers));
+  }
+
   private static Document parseXml(String xml) {
 
     InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
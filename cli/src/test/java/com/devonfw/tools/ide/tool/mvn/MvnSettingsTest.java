@@ -0,0 +1,91 @@
+package com.devonfw.tools.ide.tool.mvn;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.tool.mvn.MvnSettings.Mirror;
+
+/**
+ * Test of {@link MvnSettings}.
+ */
+class MvnSettingsTest extends Assertions {
+
+  private static final String LOCAL_REPOSITORY_URL = "http://localhost:8080/repository";
+
+  private static final String HTTP_REPOSITORY_URL = "http://repo.example.com/maven2";
+
+  /** Test of {@link Mirror#matches(String, String)} with the {@code mirrorOf} patterns supported by maven. */
+  @Test
+  void testMirrorMatches() {
+
+    // arrange
+    Mirror all = new Mirror("all", "https://mirror", "*");
+    Mirror allButCentral = new Mirror("all-but-central", "https://mirror", "*,!central");
+    Mirror external = new Mirror("external", "https://mirror", "external:*");
+    Mirror externalHttp = new Mirror("external-http", "https://mirror", "external:http:*");
+    Mirror list = new Mirror("list", "https://mirror", "snapshots, central");
+
+    // act + assert
+    assertThat(all.matches("central", MvnRepository.MAVEN_CENTRAL)).isTrue();
+    assertThat(allButCentral.matches("central", MvnRepository.MAVEN_CENTRAL)).isFalse();
+    assertThat(allButCentral.matches("snapshots", MvnRepository.MAVEN_SNAPSHOTS)).isTrue();
+    assertThat(external.matches("central", MvnRepository.MAVEN_CENTRAL)).isTrue();
+    assertThat(external.matches("local", LOCAL_REPOSITORY_URL)).isFalse();
+    assertThat(externalHttp.matches("central", MvnRepository.MAVEN_CENTRAL)).isFalse();
+    assertThat(externalHttp.matches("example", HTTP_REPOSITORY_URL)).isTrue();
+    assertThat(externalHttp.matches("local", LOCAL_REPOSITORY_URL)).isFalse();
+    assertThat(list.matches("central", MvnRepository.MAVEN_CENTRAL)).isTrue();
+    assertThat(list.matches("example", HTTP_REPOSITORY_URL)).isFalse();
+  }
+
+  /**
+   * Test of {@link MvnSettings#findMirror(String, String)} where an exact {@code mirrorOf} wins over a preceding wildcard and of
+   * {@link MvnSettings#hasActiveProxy()}.
+   *
+   * @param tempDir the temporary directory.
+   * @throws IOException on error.
+   */
+  @Test
+  void testFindMirrorAndProxy(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path settingsFile = tempDir.resolve(Mvn.SETTINGS_FILE);
+    Files.writeString(settingsFile, """
+        <settings>
+          <mirrors>
+            <mirror>
+              <id>wildcard</id>
+              <mirrorOf>*</mirrorOf>
+              <url>https://wildcard.example.com</url>
+            </mirror>
+            <mirror>
+              <id>central-mirror</id>
+              <mirrorOf>central</mirrorOf>
+              <url>https://central.example.com</url>
+            </mirror>
+          </mirrors>
+          <proxies>
+            <proxy>
+              <active>false</active>
+              <host>proxy.example.com</host>
+            </proxy>
+          </proxies>
+        </settings>
+        """);
+
+    // act
+    MvnSettings settings = MvnSettings.of(settingsFile);
+
+    // assert
+    assertThat(settings.findMirror("central", MvnRepository.MAVEN_CENTRAL).id()).isEqualTo("central-mirror");
+    assertThat(settings.findMirror("snapshots", MvnRepository.MAVEN_SNAPSHOTS).id()).isEqualTo("wildcard");
+    assertThat(settings.hasActiveProxy()).isFalse();
+    assertThat(MvnSettings.EMPTY.findMirror("central", MvnRepository.MAVEN_CENTRAL)).isNull();
+  }
+
+}
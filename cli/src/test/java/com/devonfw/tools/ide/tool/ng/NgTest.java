@@ -1,9 +1,15 @@
 package com.devonfw.tools.ide.tool.ng;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 
@@ -81,6 +87,40 @@ class NgTest extends AbstractIdeContextTest {
     assertThat(context).logAtInfo().hasMessageContaining("ng --version");
   }
 
+  /**
+   * Tests that the installed version of {@link Ng} is persisted so that new instances (e.g. in the next IDEasy process) do not spawn npm again until the
+   * {@code package.json} of the global npm package changes.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testInstalledVersionIsCachedUntilManifestChanges() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_NG);
+    Path manifest = context.getSoftwarePath().resolve("node/lib/node_modules/@angular/cli/package.json");
+    Files.createDirectories(manifest.getParent());
+    Files.writeString(manifest, "{\"version\":\"18.0.1\"}");
+
+    // act
+    CountingNg first = new CountingNg(context, "18.0.1");
+    VersionIdentifier firstVersion = first.getInstalledVersion();
+    CountingNg second = new CountingNg(context, "18.0.1");
+    VersionIdentifier secondVersion = second.getInstalledVersion();
+    Files.writeString(manifest, "{\"version\":\"19.0.0\"}");
+    Files.setLastModifiedTime(manifest, FileTime.fromMillis(Files.getLastModifiedTime(manifest).toMillis() + 2000));
+    CountingNg third = new CountingNg(context, "19.0.0");
+    VersionIdentifier thirdVersion = third.getInstalledVersion();
+
+    // assert
+    assertThat(firstVersion).hasToString("18.0.1");
+    assertThat(first.processCount).isEqualTo(1);
+    assertThat(secondVersion).hasToString("18.0.1");
+    assertThat(second.processCount).isZero();
+    assertThat(thirdVersion).hasToString("19.0.0");
+    assertThat(third.processCount).isEqualTo(1);
+  }
+
   private void checkInstallation(IdeTestContext context) {
 
     assertThat(context).logAtInfo().hasMessageContaining("npm install -gf @angular/cli@18.0.1");
@@ -88,4 +128,25 @@ class NgTest extends AbstractIdeContextTest {
     assertThat(context).logAtSuccess().hasMessageContaining("Successfully installed ng in version 18.0.1");
   }
 
+  private static class CountingNg extends Ng {
+
+    private final String version;
+
+    private int processCount;
+
+    private CountingNg(IdeTestContext context, String version) {
+
+      super(context);
+      this.version = version;
+    }
+
+    @Override
+    protected VersionIdentifier computeInstalledVersion() {
+
+      // simulates spawning "npm list -g @angular/cli"
+      this.processCount++;
+      return VersionIdentifier.of(this.version);
+    }
+  }
+
 }
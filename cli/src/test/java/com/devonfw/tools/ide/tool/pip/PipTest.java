@@ -1,10 +1,16 @@
 package com.devonfw.tools.ide.tool.pip;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
+
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.os.SystemInfoMock;
 import com.devonfw.tools.ide.version.VersionIdentifier;
@@ -80,6 +86,45 @@ class PipTest extends AbstractIdeContextTest {
     assertThat(versions).containsExactly(VersionIdentifier.of("24.2"), VersionIdentifier.of("24.1"), VersionIdentifier.of("24.0"));
   }
 
+  /**
+   * Tests that the installed version of {@link Pip} is persisted in the project until the {@code METADATA} of its {@code .dist-info} changes and not in the
+   * (potentially shared) python installation.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testInstalledVersionIsCachedUntilMetadataChanges() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_PIP);
+    context.setSystemInfo(SystemInfoMock.LINUX_X64);
+    Path sitePackages = context.getSoftwarePath().resolve("python/lib/python3.12/site-packages");
+    Path oldDistInfo = sitePackages.resolve("pip-24.1.dist-info");
+    Files.createDirectories(oldDistInfo);
+    Files.writeString(oldDistInfo.resolve("METADATA"), "Name: pip\nVersion: 24.1\n");
+
+    // act
+    CountingPip first = new CountingPip(context, "24.1");
+    VersionIdentifier firstVersion = first.getInstalledVersion();
+    CountingPip second = new CountingPip(context, "24.1");
+    VersionIdentifier secondVersion = second.getInstalledVersion();
+    FileUtils.deleteDirectory(oldDistInfo.toFile());
+    Path newDistInfo = Files.createDirectories(sitePackages.resolve("pip-24.2.dist-info"));
+    Files.writeString(newDistInfo.resolve("METADATA"), "Name: pip\nVersion: 24.2\n");
+    CountingPip third = new CountingPip(context, "24.2");
+    VersionIdentifier thirdVersion = third.getInstalledVersion();
+
+    // assert
+    assertThat(firstVersion).hasToString("24.1");
+    assertThat(first.processCount).isEqualTo(1);
+    assertThat(secondVersion).hasToString("24.1");
+    assertThat(second.processCount).isZero();
+    assertThat(thirdVersion).hasToString("24.2");
+    assertThat(third.processCount).isEqualTo(1);
+    assertThat(context.getIdeHome().resolve(IdeContext.FOLDER_DOT_IDE).resolve("pip.installed.version")).exists();
+    assertThat(context.getSoftwarePath().resolve("python")).isDirectoryNotContaining("glob:**/*.installed.version");
+  }
+
   private void checkInstallation(IdeTestContext context) {
 
     // Pip is installed via uv pip install pip==<version>
@@ -87,4 +132,25 @@ class PipTest extends AbstractIdeContextTest {
 
     assertThat(context).logAtSuccess().hasMessageContaining("Successfully installed pip");
   }
+
+  private static class CountingPip extends Pip {
+
+    private final String version;
+
+    private int processCount;
+
+    private CountingPip(IdeTestContext context, String version) {
+
+      super(context);
+      this.version = version;
+    }
+
+    @Override
+    protected VersionIdentifier computeInstalledVersion() {
+
+      // simulates spawning "pip show pip"
+      this.processCount++;
+      return VersionIdentifier.of(this.version);
+    }
+  }
 }
@@ -1,11 +1,19 @@
 package com.devonfw.tools.ide.tool.python;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.tool.uv.Uv;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 
@@ -26,14 +34,131 @@ public class PythonRepositoryTest extends AbstractIdeContextTest {
 
   private PythonRepository newRepository(IdeTestContext context) {
 
+    return newRepository(context, new AtomicInteger());
+  }
+
+  private PythonRepository newRepository(IdeTestContext context, AtomicInteger uvCalls) {
+
     return new PythonRepository(context) {
       @Override
       protected List<PythonUvListEntry> fetchUvPythonList() {
+        uvCalls.incrementAndGet();
         return context.getCommandletManager().getCommandlet(Uv.class).parsePythonListJson(List.of(UV_PYTHON_LIST_JSON));
       }
     };
   }
 
+  private static void installUv(IdeTestContext context, String version) throws IOException {
+
+    Path uvPath = context.getSoftwarePath().resolve("uv");
+    Files.createDirectories(uvPath.resolve("bin"));
+    Files.writeString(uvPath.resolve(IdeContext.FILE_SOFTWARE_VERSION), version);
+  }
+
+  @Test
+  public void testGetSortedVersionsIsPersistedAndReusedWithoutRunningUv() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    installUv(context, "0.9.5");
+    AtomicInteger uvCalls = new AtomicInteger();
+    newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+
+    // act
+    List<VersionIdentifier> versions = newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(uvCalls).hasValue(1);
+    assertThat(versions).containsExactly(
+        VersionIdentifier.of("3.14.6"),
+        VersionIdentifier.of("3.13.14"),
+        VersionIdentifier.of("3.11.4"));
+    assertThat(context.getIdePath().resolve(PythonRepository.FILE_PYTHON_VERSIONS)).exists();
+  }
+
+  @Test
+  public void testGetSortedVersionsUpdatesMetadataCacheOfIndex() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    installUv(context, "0.9.5");
+    Path indexFile = context.getIdePath().resolve(PythonRepository.FILE_PYTHON_VERSIONS);
+    FileAccess fileAccess = context.getFileAccess();
+    assertThat(fileAccess.exists(indexFile)).isFalse();
+
+    // act
+    newRepository(context).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(fileAccess.exists(indexFile)).isTrue();
+  }
+
+  @Test
+  public void testGetSortedVersionsIgnoresPersistedVersionsOfOtherUvVersion() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    installUv(context, "0.9.5");
+    AtomicInteger uvCalls = new AtomicInteger();
+    newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+    installUv(context, "0.10.0");
+
+    // act
+    newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(uvCalls).hasValue(2);
+  }
+
+  @Test
+  public void testGetSortedVersionsRefreshesOutdatedVersions() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    installUv(context, "0.9.5");
+    AtomicInteger uvCalls = new AtomicInteger();
+    newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+    Path indexFile = context.getIdePath().resolve(PythonRepository.FILE_PYTHON_VERSIONS);
+    long outdated = System.currentTimeMillis() - PythonRepository.CACHE_DURATION.toMillis() - 60000;
+    Files.setLastModifiedTime(indexFile, FileTime.fromMillis(outdated));
+
+    // act
+    List<VersionIdentifier> versions = newRepository(context, uvCalls).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(versions).hasSize(3);
+    assertThat(uvCalls).hasValue(2);
+    assertThat(Files.getLastModifiedTime(indexFile).toMillis()).isGreaterThan(outdated);
+    try (Stream<Path> children = Files.list(indexFile.getParent())) {
+      assertThat(children.map(child -> child.getFileName().toString())).noneMatch(name -> name.endsWith(".tmp"));
+    }
+  }
+
+  @Test
+  public void testGetSortedVersionsUsesOutdatedVersionsIfRefreshFails() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    installUv(context, "0.9.5");
+    newRepository(context).getSortedVersions("python", "python", null);
+    Path indexFile = context.getIdePath().resolve(PythonRepository.FILE_PYTHON_VERSIONS);
+    long outdated = System.currentTimeMillis() - PythonRepository.CACHE_DURATION.toMillis() - 60000;
+    Files.setLastModifiedTime(indexFile, FileTime.fromMillis(outdated));
+    PythonRepository repository = new PythonRepository(context) {
+      @Override
+      protected List<PythonUvListEntry> fetchUvPythonList() {
+        throw new IllegalStateException("offline");
+      }
+    };
+
+    // act
+    List<VersionIdentifier> versions = repository.getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(versions).hasSize(3);
+    assertThat(Files.getLastModifiedTime(indexFile).toMillis()).isEqualTo(outdated);
+  }
+
   @Test
   public void testGetSortedVersionsComesFromUvAndDropsNonCpython() {
 
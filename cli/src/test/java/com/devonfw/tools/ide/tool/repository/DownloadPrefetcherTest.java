@@ -0,0 +1,134 @@
+package com.devonfw.tools.ide.tool.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.tool.repository.DownloadPrefetcher.PrefetchRequest;
+
+/**
+ * Test of {@link DownloadPrefetcher}.
+ */
+class DownloadPrefetcherTest extends AbstractIdeContextTest {
+
+  /**
+   * Test of {@link DownloadPrefetcher#collectRequests()} that only collects the tools configured in the other projects.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testCollectRequestsOfOtherProjects() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path otherProject = context.getIdeRoot().resolve("other");
+    Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_WORKSPACES).resolve(IdeContext.WORKSPACE_MAIN));
+    Path settings = Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_SETTINGS));
+    Files.writeString(settings.resolve("ide.properties"), """
+        IDE_TOOLS=java,mvn
+        JAVA_VERSION=21*
+        MVN_VERSION=3.9.0
+        """);
+
+    // act
+    DownloadPrefetcher prefetcher = new DownloadPrefetcher(context);
+
+    // assert
+    assertThat(prefetcher.collectRequests()).extracting(PrefetchRequest::toString).containsExactly("java/java@21*", "mvn/mvn@3.9.0");
+  }
+
+  /**
+   * Test of {@link DownloadPrefetcher#collectRequests()} that the variables of the other projects are resolved with all their layers including the
+   * workspace.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testCollectRequestsResolvesWorkspaceOfOtherProject() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path otherProject = context.getIdeRoot().resolve("other");
+    Path workspace = Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_WORKSPACES).resolve(IdeContext.WORKSPACE_MAIN));
+    Path settings = Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_SETTINGS));
+    Files.writeString(settings.resolve("ide.properties"), """
+        IDE_TOOLS=java
+        JAVA_VERSION=17*
+        """);
+    Files.writeString(workspace.resolve("ide.properties"), """
+        JAVA_VERSION=21*
+        """);
+
+    // act
+    DownloadPrefetcher prefetcher = new DownloadPrefetcher(context);
+
+    // assert
+    assertThat(prefetcher.collectRequests()).extracting(PrefetchRequest::toString).containsExactly("java/java@21*");
+  }
+
+  /**
+   * Test of {@link DownloadPrefetcher#prefetch()} where the checksum of the download does not match so nothing is stored in the download cache.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testPrefetchWithInvalidChecksum() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContextWithOtherProject("0000000000000000000000000000000000000000000000000000000000000000");
+    DownloadPrefetcher prefetcher = new DownloadPrefetcher(context);
+
+    // act
+    int count = prefetcher.prefetch();
+
+    // assert
+    assertThat(count).isZero();
+    assertThat(context).logAtWarning().hasMessageContaining("Failed to prefetch mvn/mvn@3.9.9");
+    assertThat(context.getDownloadPath().resolve("default")).isEmptyDirectory();
+  }
+
+  /**
+   * Test of {@link DownloadPrefetcher#prefetch()} that downloads and verifies the file only once and skips it if already cached.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testPrefetchSkipsCachedDownload() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContextWithOtherProject("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+
+    // act
+    int firstCount = new DownloadPrefetcher(context).prefetch();
+    int secondCount = new DownloadPrefetcher(context).prefetch();
+
+    // assert
+    assertThat(firstCount).isEqualTo(1);
+    assertThat(secondCount).isZero();
+    assertThat(context.getDownloadPath().resolve("default")).isDirectoryContaining(path -> path.getFileName().toString().startsWith("mvn-3.9.9"));
+  }
+
+  private IdeTestContext newContextWithOtherProject(String sha256) throws IOException {
+
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    Path otherProject = context.getIdeRoot().resolve("other");
+    Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_WORKSPACES).resolve(IdeContext.WORKSPACE_MAIN));
+    Path settings = Files.createDirectories(otherProject.resolve(IdeContext.FOLDER_SETTINGS));
+    Files.writeString(settings.resolve("ide.properties"), """
+        IDE_TOOLS=mvn
+        MVN_VERSION=3.9.9
+        """);
+    Path archive = Files.createFile(otherProject.resolve("apache-maven-3.9.9-bin.tar.gz"));
+    Path versionFolder = Files.createDirectories(context.getUrlsPath().resolve("mvn").resolve("mvn").resolve("3.9.9"));
+    Files.writeString(versionFolder.resolve("urls"), archive.toString());
+    Files.writeString(versionFolder.resolve("urls.sha256"), sha256);
+    return context;
+  }
+
+}
@@ -0,0 +1,244 @@
+package com.devonfw.tools.ide.tool.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.io.HardLinkDeduplicator.DeduplicationResult;
+
+/**
+ * Test of {@link SoftwareRepositoryDeduplicator}.
+ */
+class SoftwareRepositoryDeduplicatorTest extends AbstractIdeContextTest {
+
+  private static final int LARGE_FILE_SIZE = 64 * 1024;
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that links identical files of two versions and keeps different or small files.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testDeduplicateLinksIdenticalFilesOfDifferentVersions() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] shared = randomBytes(1);
+    Path v17 = createInstallation(context, "17.0.1");
+    Files.write(v17.resolve("lib/modules"), shared);
+    Files.write(v17.resolve("lib/unique"), randomBytes(2));
+    Files.writeString(v17.resolve("release"), "small");
+    Path v21 = createInstallation(context, "21.0.1");
+    Files.write(v21.resolve("lib/modules"), shared);
+    Files.write(v21.resolve("lib/unique"), randomBytes(3));
+    Files.writeString(v21.resolve("release"), "small");
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isEqualTo(1);
+    assertThat(result.reclaimed()).isEqualTo(LARGE_FILE_SIZE);
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), v21.resolve("lib/modules"))).isTrue();
+    assertThat(v21.resolve("lib/modules")).hasBinaryContent(shared);
+    assertThat(Files.isSameFile(v17.resolve("lib/unique"), v21.resolve("lib/unique"))).isFalse();
+    assertThat(Files.isSameFile(v17.resolve("release"), v21.resolve("release"))).isFalse();
+    assertThat(v17.resolve(SoftwareRepositoryDeduplicator.FILE_DEDUPLICATED)).exists();
+    assertThat(v21.resolve(SoftwareRepositoryDeduplicator.FILE_DEDUPLICATED)).exists();
+  }
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that only processes new installations and links them via the persisted index.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testDeduplicateIsIncremental() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] shared = randomBytes(1);
+    Path v17 = createInstallation(context, "17.0.1");
+    Files.write(v17.resolve("lib/modules"), shared);
+    new SoftwareRepositoryDeduplicator(context).deduplicate();
+    Path v21 = createInstallation(context, "21.0.1");
+    Files.write(v21.resolve("lib/modules"), shared);
+    Path incomplete = context.getSoftwareRepositoryPath().resolve("default/java/java/25.0.1");
+    Files.createDirectories(incomplete);
+    Files.write(incomplete.resolve("modules"), shared);
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isEqualTo(1);
+    assertThat(result.size()).isEqualTo("21.0.1".length()); // only the version file of the new installation
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), v21.resolve("lib/modules"))).isTrue();
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), incomplete.resolve("modules"))).isFalse();
+    assertThat(incomplete.resolve(SoftwareRepositoryDeduplicator.FILE_DEDUPLICATED)).doesNotExist();
+  }
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that does not link a file to an indexed file that has been modified in place since it was
+   * indexed.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testDeduplicateIgnoresIndexedFileModifiedInPlace() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] original = randomBytes(1);
+    Path v17 = createInstallation(context, "17.0.1");
+    Path modules17 = v17.resolve("lib/modules");
+    Files.write(modules17, original);
+    new SoftwareRepositoryDeduplicator(context).deduplicate();
+    byte[] modified = original.clone();
+    modified[0]++;
+    Files.write(modules17, modified);
+    Path v21 = createInstallation(context, "21.0.1");
+    Files.write(v21.resolve("lib/modules"), original);
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isZero();
+    assertThat(Files.isSameFile(modules17, v21.resolve("lib/modules"))).isFalse();
+    assertThat(modules17).hasBinaryContent(modified);
+    assertThat(v21.resolve("lib/modules")).hasBinaryContent(original);
+  }
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that linked files are made read-only so they cannot be modified in place and that files
+   * typically modified in place (e.g. {@code cacerts}) are never linked.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void testDeduplicateProtectsLinkedFilesFromModificationInPlace() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] shared = randomBytes(1);
+    byte[] certificates = randomBytes(2);
+    Path v17 = createInstallation(context, "17.0.1");
+    Files.write(v17.resolve("lib/modules"), shared);
+    Files.createDirectories(v17.resolve("lib/security"));
+    Files.write(v17.resolve("lib/security/cacerts"), certificates);
+    Path v21 = createInstallation(context, "21.0.1");
+    Files.write(v21.resolve("lib/modules"), shared);
+    Files.createDirectories(v21.resolve("lib/security"));
+    Files.write(v21.resolve("lib/security/cacerts"), certificates);
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isEqualTo(1);
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), v21.resolve("lib/modules"))).isTrue();
+    assertThat(Files.getPosixFilePermissions(v21.resolve("lib/modules"))).doesNotContain(PosixFilePermission.OWNER_WRITE,
+        PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE);
+    assertThat(Files.isSameFile(v17.resolve("lib/security/cacerts"), v21.resolve("lib/security/cacerts"))).isFalse();
+  }
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that neither links files with different permissions (e.g. executable flag) nor symbolic
+   * links.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  @DisabledOnOs(OS.WINDOWS)
+  void testDeduplicateIgnoresSymbolicLinksAndDifferentPermissions() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] shared = randomBytes(1);
+    Path v17 = createInstallation(context, "17.0.1");
+    Files.write(v17.resolve("lib/modules"), shared);
+    Files.createSymbolicLink(v17.resolve("lib/link"), Path.of("modules"));
+    Path v21 = createInstallation(context, "21.0.1");
+    Path modules21 = v21.resolve("lib/modules");
+    Files.write(modules21, shared);
+    Files.setPosixFilePermissions(modules21, PosixFilePermissions.fromString("rwxr-xr-x"));
+    Files.write(v21.resolve("lib/link"), shared);
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isEqualTo(1);
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), modules21)).isFalse();
+    assertThat(modules21).isExecutable();
+    assertThat(v17.resolve("lib/link")).isSymbolicLink();
+    assertThat(Files.isSameFile(v17.resolve("lib/modules"), v21.resolve("lib/link"))).isTrue();
+  }
+
+  /**
+   * Test of {@link SoftwareRepositoryDeduplicator#deduplicate()} that neither links the files of the eclipse p2 configuration that are modified when plugins
+   * are installed nor any files of IDEs that update themselves in place.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  void testDeduplicateIgnoresP2ConfigurationAndIdes() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    byte[] shared = randomBytes(1);
+    Path v17 = createInstallation(context, "17.0.1");
+    Path v21 = createInstallation(context, "21.0.1");
+    for (Path installation : new Path[] { v17, v21 }) {
+      Files.createDirectories(installation.resolve("configuration/org.eclipse.equinox.simpleconfigurator"));
+      Files.write(installation.resolve("configuration/org.eclipse.equinox.simpleconfigurator/bundles.info"), shared);
+      Files.createDirectories(installation.resolve("p2/org.eclipse.equinox.p2.engine"));
+      Files.write(installation.resolve("p2/org.eclipse.equinox.p2.engine/profile.gz"), shared);
+    }
+    Path intellij1 = createInstallation(context, "intellij", "2024.1");
+    Files.write(intellij1.resolve("lib/app.jar"), shared);
+    Path intellij2 = createInstallation(context, "intellij", "2024.2");
+    Files.write(intellij2.resolve("lib/app.jar"), shared);
+
+    // act
+    DeduplicationResult result = new SoftwareRepositoryDeduplicator(context).deduplicate();
+
+    // assert
+    assertThat(result.linkCount()).isZero();
+    assertThat(intellij1.resolve(SoftwareRepositoryDeduplicator.FILE_DEDUPLICATED)).doesNotExist();
+    assertThat(Files.isSameFile(intellij1.resolve("lib/app.jar"), intellij2.resolve("lib/app.jar"))).isFalse();
+  }
+
+  private static Path createInstallation(IdeTestContext context, String version) throws IOException {
+
+    return createInstallation(context, "java", version);
+  }
+
+  private static Path createInstallation(IdeTestContext context, String tool, String version) throws IOException {
+
+    Path installation = context.getSoftwareRepositoryPath().resolve("default").resolve(tool).resolve(tool).resolve(version);
+    Files.createDirectories(installation.resolve("lib"));
+    Files.writeString(installation.resolve(IdeContext.FILE_SOFTWARE_VERSION), version);
+    return installation;
+  }
+
+  private static byte[] randomBytes(long seed) {
+
+    byte[] data = new byte[LARGE_FILE_SIZE];
+    new Random(seed).nextBytes(data);
+    return data;
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.devonfw.tools.ide.variable;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link VariableTemplate}.
+ */
+class VariableTemplateTest extends Assertions {
+
+  /**
+   * Test of {@link VariableTemplate#of(String, VariableSyntax)} with {@link VariableSyntax#SQUARE}.
+   */
+  @Test
+  void testSquare() {
+
+    // arrange
+    String template = "${ENVIRONMENT_VARIABLE}:?foo$[REPLACEMENT_VARIABLE].${invalid-syntax$PATH;bar$[PATH]end";
+
+    // act
+    VariableTemplate result = VariableTemplate.of(template, VariableSyntax.SQUARE);
+
+    // assert
+    assertThat(result.getTemplate()).isEqualTo(template);
+    assertThat(result.getVariableCount()).isEqualTo(2);
+    assertThat(result.getLiteral(0)).isEqualTo("${ENVIRONMENT_VARIABLE}:?foo");
+    assertThat(result.getVariable(0)).isEqualTo("REPLACEMENT_VARIABLE");
+    assertThat(result.getExpression(0)).isEqualTo("$[REPLACEMENT_VARIABLE]");
+    assertThat(result.getLiteral(1)).isEqualTo(".${invalid-syntax$PATH;bar");
+    assertThat(result.getVariable(1)).isEqualTo("PATH");
+    assertThat(result.getLiteral(2)).isEqualTo("end");
+    assertThat(VariableTemplate.of(template, VariableSyntax.SQUARE)).isSameAs(result);
+  }
+
+  /**
+   * Test of {@link VariableTemplate#of(String, VariableSyntax)} with {@link VariableSyntax#CURLY} and without variables.
+   */
+  @Test
+  void testCurlyAndLiteral() {
+
+    // act
+    VariableTemplate curly = VariableTemplate.of("${IDE_HOME}/software", VariableSyntax.CURLY);
+    VariableTemplate literal = VariableTemplate.of("no variables in $[IDE_HOME]", VariableSyntax.CURLY);
+
+    // assert
+    assertThat(curly.getVariableCount()).isEqualTo(1);
+    assertThat(curly.getLiteral(0)).isEmpty();
+    assertThat(curly.getVariable(0)).isEqualTo("IDE_HOME");
+    assertThat(curly.getLiteral(1)).isEqualTo("/software");
+    assertThat(literal.getVariableCount()).isZero();
+    assertThat(literal.getLiteral(0)).isEqualTo("no variables in $[IDE_HOME]");
+  }
+
+}
@@ -109,6 +109,8 @@ public class App extends Application {
   public void stop() {
 
     this.nlsService.removeLocaleChangeListener(this::reloadMainView);
+    this.taskManager.shutdown();
+    this.guiStateManager.getProjectManager().close();
   }
 
   private void reloadMainView() {
@@ -38,6 +38,12 @@ public class MainController {
 
   private static final Logger LOG = LoggerFactory.getLogger(MainController.class);
 
+  /** The id of the task that loads the projects. */
+  static final String TASK_LOAD_PROJECTS = "load-projects";
+
+  /** The id of the task that loads the workspaces of the selected project. */
+  static final String TASK_LOAD_WORKSPACES = "load-workspaces";
+
   private final GuiStateManager guiStateManager;
   private final ProjectManager projectManager;
   private final TaskManager taskManager;
@@ -229,40 +235,65 @@ public class MainController {
 
     assert (ideRootPath != null) : "directoryPath is null! Please check the setup of your environment variables (IDE_ROOT)";
 
-    List<String> projects = projectManager.getProjectNames();
-
-    selectedProject.getItems().clear();
-    selectedProject.getItems().addAll(projects);
-
     selectedProject.setOnAction(actionEvent -> {
 
       setWorkspaceComboBox();
 
       selectedWorkspace.setDisable(false);
     });
+
+    // listing the projects requires I/O so it must not block the UI thread
+    taskManager.submit(TASK_LOAD_PROJECTS, "Loading projects", task -> {
+      try {
+        List<String> projects = projectManager.getProjectNames();
+        Platform.runLater(() -> selectedProject.getItems().setAll(projects));
+        return projects;
+      } catch (RuntimeException e) {
+        LOG.error("Failed to load projects", e);
+        Platform.runLater(() -> new IdeDialog(AlertType.ERROR, "Failed to load projects: " + e.getMessage()).showAndWait());
+        return List.of();
+      }
+    });
   }
 
   private void setWorkspaceComboBox() {
 
-    List<String> workspaces;
-    try {
-      workspaces = projectManager.getWorkspaceNames(selectedProject.getValue());
-    } catch (NotDirectoryException e) {
-      throw new RuntimeException(e);
-    }
-
+    String projectName = selectedProject.getValue();
     selectedWorkspace.setValue(null);
     selectedWorkspace.getItems().clear();
-    selectedWorkspace.getItems().addAll(workspaces);
+    setIdeButtonsDisabled(true);
+    if (projectName == null) {
+      return;
+    }
+    // a previous selection that is still loading is outdated
+    taskManager.cancel(TASK_LOAD_WORKSPACES);
+    taskManager.submit(TASK_LOAD_WORKSPACES, "Loading workspaces of " + projectName, task -> {
+      try {
+        List<String> workspaces = projectManager.getWorkspaceNames(projectName);
+        Platform.runLater(() -> showWorkspaces(projectName, workspaces));
+        return workspaces;
+      } catch (NotDirectoryException | RuntimeException e) {
+        LOG.error("Failed to load workspaces of project {}", projectName, e);
+        Platform.runLater(() -> new IdeDialog(AlertType.ERROR, "Failed to load workspaces of project " + projectName + ": " + e.getMessage()).showAndWait());
+        return List.of();
+      }
+    });
+  }
+
+  private void showWorkspaces(String projectName, List<String> workspaces) {
+
+    if (!projectName.equals(selectedProject.getValue())) {
+      return; // the selection changed in the meantime
+    }
+    selectedWorkspace.getItems().setAll(workspaces);
 
     if (workspaces.contains("main")) {
       selectedWorkspace.setValue("main");
-      updateContext(selectedProject.getValue(), selectedWorkspace.getValue());
+      updateContext(projectName, selectedWorkspace.getValue());
       setIdeButtonsDisabled(false);
     } else {
       setIdeButtonsDisabled(true);
     }
-
   }
 
   private void openIDE(String inIde) {
@@ -1,10 +1,21 @@
 package com.devonfw.ide.gui.context;
 
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -13,14 +24,26 @@ import org.slf4j.LoggerFactory;
 import com.devonfw.tools.ide.context.IdeContext;
 
 /**
- * Service class that allows to access the list of projects
+ * Service class that allows to access the list of projects. The names of the projects and workspaces are kept in an index so the directories are not listed
+ * again on every query. An entry of the index is refreshed if the last modification time of its directory changed or if a {@link WatchService} reported a
+ * change of a (nested) directory.
  */
-public class ProjectManager {
+public class ProjectManager implements AutoCloseable {
 
   private static final Logger LOG = LoggerFactory.getLogger(ProjectManager.class);
 
   private final Path ideRootDirectory;
 
+  private final Map<Path, Listing> index = new ConcurrentHashMap<>();
+
+  private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+  private WatchService watchService;
+
+  private volatile boolean watchServiceUnavailable;
+
+  private volatile Consumer<Path> changeListener;
+
   /**
    * Service class that reads the list of projects/workspaces
    *
@@ -48,10 +71,32 @@ public class ProjectManager {
    */
   public List<String> getProjectNames() {
 
-    return IdeContext.findProjects(this.ideRootDirectory).stream()
-        .map(Path::getFileName)
-        .map(Path::toString)
-        .toList();
+    return getNames(this.ideRootDirectory, this::listProjectNames);
+  }
+
+  private List<String> listProjectNames(Path ideRoot) {
+
+    watchChildren(ideRoot);
+    return IdeContext.findProjects(ideRoot).stream().map(Path::getFileName).map(Path::toString).toList();
+  }
+
+  /**
+   * Also watches the folders that are no project (yet) so we get notified when their workspaces folder is created.
+   *
+   * @param ideRoot the {@link Path} to IDE_ROOT.
+   */
+  private void watchChildren(Path ideRoot) {
+
+    if (this.watchServiceUnavailable) {
+      return;
+    }
+    try (Stream<Path> children = Files.list(ideRoot)) {
+      children.filter(Files::isDirectory).filter(child -> !IdeContext.FOLDER_UNDERSCORE_IDE.equals(child.getFileName().toString()))
+          .forEach(this::watch);
+    } catch (IOException e) {
+      // e.g. IDE_ROOT has been deleted, then there are simply no projects
+      LOG.debug("Cannot watch the folders in {} for changes", ideRoot, e);
+    }
   }
 
   /**
@@ -60,15 +105,129 @@ public class ProjectManager {
    */
   public List<String> getWorkspaceNames(String projectName) throws NotDirectoryException {
 
-    Path workspacesDir = ideRootDirectory.resolve(projectName).resolve("workspaces");
+    Path workspacesDir = ideRootDirectory.resolve(projectName).resolve(IdeContext.FOLDER_WORKSPACES);
     if (!Files.isDirectory(workspacesDir)) {
       throw new NotDirectoryException("invalid workspaces directory for project: " + projectName);
     }
-    try (Stream<Path> subPaths = Files.list(workspacesDir)) {
-      return subPaths.filter(Files::isDirectory)
-          .map(Path::getFileName).map(Path::toString).toList();
+    return getNames(workspacesDir, dir -> {
+      try (Stream<Path> subPaths = Files.list(dir)) {
+        return subPaths.filter(Files::isDirectory)
+            .map(Path::getFileName).map(Path::toString).toList();
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to read workspaces for " + projectName, e);
+      }
+    });
+  }
+
+  private List<String> getNames(Path directory, Function<Path, List<String>> lister) {
+
+    FileTime lastModified = getLastModifiedTime(directory);
+    Listing listing = this.index.get(directory);
+    if ((listing != null) && (lastModified != null) && lastModified.equals(listing.lastModified())) {
+      return listing.names();
+    }
+    // watch before listing so that no change after the listing gets lost
+    watch(directory);
+    List<String> names = lister.apply(directory);
+    this.index.put(directory, new Listing(lastModified, names));
+    return names;
+  }
+
+  private static FileTime getLastModifiedTime(Path directory) {
+
+    try {
+      return Files.getLastModifiedTime(directory);
     } catch (IOException e) {
-      throw new RuntimeException("Failed to read workspaces for " + projectName, e);
+      return null;
     }
   }
+
+  /**
+   * @param directory the {@link Path} to the directory to watch for changes of its children.
+   */
+  synchronized void watch(Path directory) {
+
+    if (this.watchServiceUnavailable || this.watchedDirectories.contains(directory)) {
+      return;
+    }
+    if (this.watchService == null) {
+      try {
+        this.watchService = FileSystems.getDefault().newWatchService();
+      } catch (IOException e) {
+        // without the watch service we still detect direct changes via the last modification time
+        LOG.debug("Cannot create watch service to detect changes of nested directories", e);
+        this.watchServiceUnavailable = true;
+        return;
+      }
+      Thread.ofVirtual().name("project-index-watcher").start(this::processWatchEvents);
+    }
+    try {
+      directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+      this.watchedDirectories.add(directory);
+    } catch (IOException e) {
+      // only this directory (e.g. unreadable) is not watched, changes of it are still detected via the last modification time
+      LOG.debug("Cannot watch directory {} for changes", directory, e);
+    } catch (ClosedWatchServiceException e) {
+      LOG.debug("Cannot watch directory {} since watch service is closed", directory, e);
+      this.watchServiceUnavailable = true;
+    }
+  }
+
+  private void processWatchEvents() {
+
+    WatchService service = this.watchService;
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        key.pollEvents();
+        Path directory = (Path) key.watchable();
+        // a change of a directory also affects the listing of its parent (e.g. a new workspaces folder turns a folder into a project)
+        this.index.remove(directory);
+        this.index.remove(directory.getParent());
+        if (!key.reset()) {
+          this.watchedDirectories.remove(directory);
+        }
+        Consumer<Path> listener = this.changeListener;
+        if (listener != null) {
+          listener.accept(directory);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // closed
+    }
+  }
+
+  /**
+   * @param changeListener the {@link Consumer} to notify with the {@link Path} to the changed directory after a change reported by the
+   *     {@link WatchService} has been applied to the index.
+   */
+  void setChangeListener(Consumer<Path> changeListener) {
+
+    this.changeListener = changeListener;
+  }
+
+  /**
+   * Stops watching the project directories for changes.
+   */
+  @Override
+  public synchronized void close() {
+
+    if (this.watchService != null) {
+      try {
+        this.watchService.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close watch service", e);
+      }
+      this.watchService = null;
+    }
+    this.watchServiceUnavailable = true;
+    this.watchedDirectories.clear();
+    this.index.clear();
+  }
+
+  private record Listing(FileTime lastModified, List<String> names) {
+
+  }
 }
@@ -1,6 +1,14 @@
 package com.devonfw.ide.gui.context;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,7 +21,8 @@ import com.devonfw.ide.gui.progress.ProgressBarTask;
 
 /**
  * Singleton class that manages all currently running tasks and their progress bars. It provides an {@link ObservableList} of tasks, which can be observed by
- * components like in the UI.
+ * components like in the UI. Further, it acts as scheduler for long-running IDEasy operations (e.g. install, update, or project scan) that are
+ * {@link #submit(String, String, Function) submitted} to run on virtual threads so the UI thread never blocks.
  *
  * @see ProgressBarTask
  */
@@ -24,6 +33,15 @@ public class TaskManager {
   private final ObservableList<ProgressBarTask> tasks = FXCollections.observableArrayList();
   private final ObservableList<ProgressBarTask> taskListReadOnly = FXCollections.unmodifiableObservableList(tasks);
 
+  /** Maximum number of submitted operations running concurrently. Further operations are queued until a running one completes. */
+  static final int MAX_CONCURRENT_OPERATIONS = 4;
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final Semaphore permits = new Semaphore(MAX_CONCURRENT_OPERATIONS);
+
+  private final Map<String, Future<?>> operations = new ConcurrentHashMap<>();
+
   /**
    * Adds a task to the task list. The duplicate check and the add are performed atomically on the FX thread. Duplicate IDs are silently ignored (idempotent).
    *
@@ -68,4 +86,78 @@ public class TaskManager {
 
     return taskListReadOnly;
   }
+
+  /**
+   * Submits a long-running operation to run in the background on a virtual thread. An indeterminate {@link ProgressBarTask} is {@link #addTask(ProgressBarTask)
+   * added} immediately and passed to the operation to report its progress. It is closed and removed automatically when the operation completes, fails, or
+   * gets {@link #cancel(String) cancelled}. At most {@link #MAX_CONCURRENT_OPERATIONS} operations run concurrently.
+   *
+   * @param taskId the unique id of the task.
+   * @param title the title of the task to display.
+   * @param operation the {@link Function} performing the actual work. Should react on {@link Thread#isInterrupted() interruption} to support
+   *     cancellation.
+   * @param <T> type of the result.
+   * @return the {@link Future} to retrieve the result of the operation.
+   */
+  public <T> Future<T> submit(String taskId, String title, Function<ProgressBarTask, T> operation) {
+    assert operation != null;
+
+    ProgressBarTask task = new ProgressBarTask(this, taskId, title);
+    FutureTask<T> future = new FutureTask<>(() -> {
+      this.permits.acquire();
+      try {
+        LOG.debug("Running task {}", taskId);
+        return operation.apply(task);
+      } finally {
+        this.permits.release();
+      }
+    }) {
+      @Override
+      protected void done() {
+
+        operations.remove(taskId, this);
+        task.close();
+      }
+    };
+    if (this.operations.putIfAbsent(taskId, future) != null) {
+      throw new IllegalStateException("Task with ID " + taskId + " is already running.");
+    }
+    addTask(task);
+    this.executor.execute(future);
+    return future;
+  }
+
+  /**
+   * Cancels a {@link #submit(String, String, Function) submitted} operation by interrupting its thread.
+   *
+   * @param taskId the id of the task to cancel.
+   * @return {@code true} if the operation was cancelled, {@code false} otherwise (e.g. if already completed or not found).
+   */
+  public boolean cancel(String taskId) {
+
+    Future<?> future = this.operations.get(taskId);
+    if (future == null) {
+      return false;
+    }
+    LOG.debug("Cancelling task {}", taskId);
+    return future.cancel(true);
+  }
+
+  /**
+   * @param taskId the id of the task.
+   * @return {@code true} if an operation with the given id has been {@link #submit(String, String, Function) submitted} and is still queued or running,
+   *     {@code false} otherwise.
+   */
+  public boolean isRunning(String taskId) {
+
+    return this.operations.containsKey(taskId);
+  }
+
+  /**
+   * Cancels all running operations and stops the scheduler. Should be called when the GUI is closed.
+   */
+  public void shutdown() {
+
+    this.executor.shutdownNow();
+  }
 }
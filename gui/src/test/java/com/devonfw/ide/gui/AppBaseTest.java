@@ -8,6 +8,8 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testfx.util.WaitForAsyncUtils;
 
 import com.devonfw.ide.gui.context.GuiStateManager;
 import com.devonfw.ide.gui.context.TaskManager;
@@ -94,20 +97,32 @@ public class AppBaseTest extends HeadlessApplicationTest {
   }
 
   @BeforeEach
-  protected void resetTaskManager() {
+  protected void resetTaskManager() throws TimeoutException {
 
+    waitForLoading();
     taskManager.clearTasks();
     waitForFxEvents();
   }
 
+  /**
+   * Waits until the projects and workspaces that are loaded in the background have been applied to the UI.
+   */
+  private static void waitForLoading() throws TimeoutException {
+
+    WaitForAsyncUtils.waitFor(10, TimeUnit.SECONDS,
+        () -> !taskManager.isRunning(MainController.TASK_LOAD_PROJECTS) && !taskManager.isRunning(MainController.TASK_LOAD_WORKSPACES));
+    waitForFxEvents();
+  }
+
   /**
    * Tests that the workspace {@link ComboBox} is enabled when a project is selected.
    */
   @Test
-  public void testWorkspaceComboboxEnabledEnabledWhenProjectSelected() {
+  public void testWorkspaceComboboxEnabledEnabledWhenProjectSelected() throws TimeoutException {
 
     // assert that a project is selected
     interact(() -> selectedProject.getSelectionModel().select("project-1"));
+    waitForLoading();
 
     // assert all IDE open buttons are disabled
     assertThat(selectedWorkspace.isDisabled())
@@ -134,10 +149,11 @@ public class AppBaseTest extends HeadlessApplicationTest {
    * This test ensures that all IDE open buttons are enabled when a project is selected.
    */
   @Test
-  public void testIdeOpenButtonsEnabledWhenWorkspaceSelected() {
+  public void testIdeOpenButtonsEnabledWhenWorkspaceSelected() throws TimeoutException {
 
     // assert that a project and workspace is selected
     interact(() -> selectedProject.getSelectionModel().select("project-1"));
+    waitForLoading();
     interact(() -> selectedWorkspace.getSelectionModel().select("main"));
 
     // assert all IDE open buttons are enabled
@@ -150,10 +166,11 @@ public class AppBaseTest extends HeadlessApplicationTest {
    * This test ensures that switching to a project will auto-select the main workspace
    */
   @Test
-  public void testSwitchingProjectResetsWorkspaceSelectionToMain() {
+  public void testSwitchingProjectResetsWorkspaceSelectionToMain() throws TimeoutException {
 
     // select a project and its workspace -> all IDE open buttons become enabled
     interact(() -> selectedProject.getSelectionModel().select("project-1"));
+    waitForLoading();
     interact(() -> selectedWorkspace.getSelectionModel().select("main"));
 
     for (Button button : new Button[] { androidStudioOpen, eclipseOpen, intellijOpen, vsCodeOpen }) {
@@ -162,6 +179,7 @@ public class AppBaseTest extends HeadlessApplicationTest {
 
     // switch to another project -> the workspace selection must be reset and the IDE open buttons disabled again
     interact(() -> selectedProject.getSelectionModel().select("project-2"));
+    waitForLoading();
 
     assertThat(selectedWorkspace.getValue()).as("Workspace selection should be reset when switching to a different project").isEqualTo("main");
 
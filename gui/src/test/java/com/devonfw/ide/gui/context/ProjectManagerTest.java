@@ -6,8 +6,11 @@ import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,9 +22,9 @@ import com.devonfw.tools.ide.context.IdeTestContext;
  */
 public class ProjectManagerTest extends AbstractIdeContextTest {
 
-  private static ProjectManager projectManager;
+  private ProjectManager projectManager;
 
-  private static Path ideRoot;
+  private Path ideRoot;
 
   private final List<String> VALID_PROJECT_LIST = List.of("project-0", "project-1", "project-2", "project-3", "project-4", "project-5");
 
@@ -32,6 +35,15 @@ public class ProjectManagerTest extends AbstractIdeContextTest {
     ideRoot = context.getIdeRoot();
   }
 
+  @AfterEach
+  void closeProjectManager() {
+
+    if (projectManager != null) {
+      projectManager.close();
+      projectManager = null;
+    }
+  }
+
   @Test
   void testProjectManagerFull() throws NotDirectoryException {
 
@@ -136,4 +148,65 @@ public class ProjectManagerTest extends AbstractIdeContextTest {
     assertThat(projectManager.getProjectNames()).doesNotContain("_ide");
     assertThat(projectManager.getProjectNames()).containsAll(VALID_PROJECT_LIST);
   }
+
+  @Test
+  void testProjectNamesEmptyWhenRootDeleted() throws IOException {
+
+    Path root = Files.createDirectory(ideRoot.resolve("deleted-root"));
+    projectManager = new ProjectManager(root);
+    Files.delete(root);
+
+    assertThat(projectManager.getProjectNames()).isEmpty();
+  }
+
+  @Test
+  void testIndexRefreshedWhenFolderBecomesProject() throws Exception {
+
+    Path folder = ideRoot.resolve("project-new");
+    Files.createDirectory(folder);
+    try (ProjectManager manager = new ProjectManager(ideRoot)) {
+      assertThat(manager.getProjectNames()).doesNotContain("project-new");
+      CountDownLatch changed = awaitChange(manager, folder);
+
+      // a nested change does not touch IDE_ROOT itself and is therefore only detected via the watch service
+      Files.createDirectories(folder.resolve("workspaces").resolve("main"));
+
+      assertThat(changed.await(30, TimeUnit.SECONDS)).isTrue();
+      assertThat(manager.getProjectNames()).contains("project-new");
+      assertThat(manager.getWorkspaceNames("project-new")).containsExactly("main");
+    } finally {
+      FileUtils.deleteDirectory(folder.toFile());
+    }
+  }
+
+  @Test
+  void testIndexRefreshedAfterDirectoryCannotBeWatched() throws Exception {
+
+    Path folder = ideRoot.resolve("project-new");
+    Files.createDirectory(folder);
+    try (ProjectManager manager = new ProjectManager(ideRoot)) {
+      // a single directory that cannot be watched (e.g. deleted or unreadable) must not disable the watch service for all other directories
+      manager.watch(ideRoot.resolve("missing"));
+      assertThat(manager.getProjectNames()).doesNotContain("project-new");
+      CountDownLatch changed = awaitChange(manager, folder);
+
+      Files.createDirectories(folder.resolve("workspaces").resolve("main"));
+
+      assertThat(changed.await(30, TimeUnit.SECONDS)).isTrue();
+      assertThat(manager.getProjectNames()).contains("project-new");
+    } finally {
+      FileUtils.deleteDirectory(folder.toFile());
+    }
+  }
+
+  private static CountDownLatch awaitChange(ProjectManager manager, Path directory) {
+
+    CountDownLatch latch = new CountDownLatch(1);
+    manager.setChangeListener(changed -> {
+      if (changed.equals(directory)) {
+        latch.countDown();
+      }
+    });
+    return latch;
+  }
 }
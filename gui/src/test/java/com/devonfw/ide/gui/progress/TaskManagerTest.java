@@ -1,9 +1,17 @@
 package com.devonfw.ide.gui.progress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testfx.util.WaitForAsyncUtils.waitForFxEvents;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.application.Platform;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -70,4 +78,56 @@ class TaskManagerTest extends HeadlessApplicationTest {
     assertEquals(1, taskManager.getTasks().size());
     assertTrue(taskManager.getTasks().contains(task1));
   }
+
+  @Test
+  void shouldRunSubmittedOperationWithoutBlockingFxThread() throws Exception {
+
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<Future<Boolean>> future = new AtomicReference<>();
+
+    // submitting from the FX thread must return immediately even though the operation blocks
+    interact(() -> future.set(taskManager.submit("task-1", "Install", task -> {
+      await(release);
+      return Platform.isFxApplicationThread();
+    })));
+    waitForFxEvents();
+
+    assertEquals(1, taskManager.getTasks().size());
+    assertTrue(taskManager.isRunning("task-1"));
+
+    release.countDown();
+
+    assertFalse(future.get().get(10, TimeUnit.SECONDS));
+    waitForFxEvents();
+    assertTrue(taskManager.getTasks().isEmpty());
+    assertFalse(taskManager.isRunning("task-1"));
+  }
+
+  @Test
+  void shouldCancelSubmittedOperation() {
+
+    CountDownLatch release = new CountDownLatch(1);
+    Future<Void> future = taskManager.submit("task-1", "Update", task -> {
+      await(release);
+      return null;
+    });
+    waitForFxEvents();
+
+    assertTrue(taskManager.cancel("task-1"));
+
+    assertTrue(future.isCancelled());
+    waitForFxEvents();
+    assertTrue(taskManager.getTasks().isEmpty());
+    assertFalse(taskManager.isRunning("task-1"));
+    assertFalse(taskManager.cancel("task-1"));
+  }
+
+  private static void await(CountDownLatch latch) {
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
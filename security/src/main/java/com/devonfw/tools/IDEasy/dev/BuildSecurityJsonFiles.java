@@ -4,9 +4,18 @@ import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.owasp.dependencycheck.Engine;
 import org.owasp.dependencycheck.data.nvdcve.CveDB;
@@ -26,6 +35,7 @@ import com.devonfw.tools.ide.url.updater.UpdateManager;
 import com.devonfw.tools.ide.version.BoundaryType;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.devonfw.tools.ide.version.VersionRange;
+import com.devonfw.tools.ide.version.VersionRangeRelation;
 
 import us.springett.parsers.cpe.Cpe;
 import us.springett.parsers.cpe.CpeBuilder;
@@ -52,12 +62,17 @@ public class BuildSecurityJsonFiles implements Runnable {
 
   private static final Set<String> IGNORED_VERSIONS = Set.of("*", "-");
 
+  private static final int MAX_THREADS = 8;
+
   private final UrlMetadata urlMetadata;
 
   private final UpdateManager updateManager;
 
   private final Engine engine;
 
+  /** Memoized results of the CVE queries per CPE as updaters sharing a vendor or product would otherwise repeat the same queries. */
+  private final Map<String, List<Vulnerability>> vulnerabilityCache = new ConcurrentHashMap<>();
+
   private BuildSecurityJsonFiles(Path urlsPath) {
 
     super();
@@ -75,30 +90,28 @@ public class BuildSecurityJsonFiles implements Runnable {
       this.engine.analyzeDependencies();
 
       CveDB database = engine.getDatabase();
-
-      for (AbstractUrlUpdater updater : this.updateManager.getUpdaters()) {
-        String updaterName = updater.getClass().getSimpleName();
-        String tool = updater.getTool();
-        LOG.info("Processing {} for tool {}", updaterName, tool);
-        List<Vulnerability> vulnerabilities = findVulnerabilities(database, updater);
-        if ((vulnerabilities == null) || (vulnerabilities.isEmpty())) {
-          LOG.info("No vulnerabilities found for {} with CPE {}:{}", updaterName, updater.getCpeRegistry().getPrimaryVendor(),
-              updater.getCpeRegistry().getPrimaryProduct());
-        } else {
-          for (String edition : updater.getEditions()) {
-            LOG.info("Processing edition {} for tool {}", edition, tool);
-            UrlSecurityFile securityFile = this.urlMetadata.getEdition(tool, edition).getSecurityFile();
-            securityFile.clearSecurityWarnings(); // pointless parsing of JSON causing waste
-            for (Vulnerability vulnerability : vulnerabilities) {
-              LOG.info("Processing vulnerability {} for tool {}", vulnerability.getName(), tool);
-              Cve cve = toCve(vulnerability, edition, updater);
-              if (cve != null) {
-                securityFile.addCve(cve);
-              }
-            }
-            securityFile.save();
+      List<AbstractUrlUpdater> updaters = this.updateManager.getUpdaters();
+      int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<Map<String, List<Cve>>>> futures = new ArrayList<>(updaters.size());
+        for (AbstractUrlUpdater updater : updaters) {
+          futures.add(executor.submit(() -> computeCves(database, updater)));
+        }
+        // the URL metadata is lazily loaded and not thread-safe so the security files are written sequentially
+        for (int i = 0; i < updaters.size(); i++) {
+          AbstractUrlUpdater updater = updaters.get(i);
+          Map<String, List<Cve>> editionCves;
+          try {
+            editionCves = futures.get(i).get();
+          } catch (ExecutionException e) {
+            LOG.error("Failed to process tool {}", updater.getTool(), e.getCause());
+            continue;
           }
+          writeSecurityFiles(updater, editionCves);
         }
+      } finally {
+        executor.shutdownNow();
       }
       this.engine.close();
 
@@ -107,6 +120,47 @@ public class BuildSecurityJsonFiles implements Runnable {
     }
   }
 
+  private Map<String, List<Cve>> computeCves(CveDB database, AbstractUrlUpdater updater) {
+
+    String updaterName = updater.getClass().getSimpleName();
+    String tool = updater.getTool();
+    LOG.info("Processing {} for tool {}", updaterName, tool);
+    List<Vulnerability> vulnerabilities = findVulnerabilities(database, updater);
+    if (vulnerabilities.isEmpty()) {
+      LOG.info("No vulnerabilities found for {} with CPE {}:{}", updaterName, updater.getCpeRegistry().getPrimaryVendor(),
+          updater.getCpeRegistry().getPrimaryProduct());
+      return null;
+    }
+    Map<String, List<Cve>> editionCves = new LinkedHashMap<>();
+    for (String edition : updater.getEditions()) {
+      LOG.info("Processing edition {} for tool {}", edition, tool);
+      List<Cve> cves = new ArrayList<>();
+      for (Vulnerability vulnerability : vulnerabilities) {
+        LOG.info("Processing vulnerability {} for tool {}", vulnerability.getName(), tool);
+        Cve cve = toCve(vulnerability, edition, updater);
+        if (cve != null) {
+          cves.add(cve);
+        }
+      }
+      editionCves.put(edition, cves);
+    }
+    return editionCves;
+  }
+
+  private void writeSecurityFiles(AbstractUrlUpdater updater, Map<String, List<Cve>> editionCves) {
+
+    if (editionCves == null) {
+      return;
+    }
+    for (Entry<String, List<Cve>> entry : editionCves.entrySet()) {
+      UrlSecurityFile securityFile = this.urlMetadata.getEdition(updater.getTool(), entry.getKey()).getSecurityFile();
+      securityFile.clearSecurityWarnings(); // pointless parsing of JSON causing waste
+      for (Cve cve : entry.getValue()) {
+        securityFile.addCve(cve);
+      }
+      securityFile.save();
+    }
+  }
 
   /**
    * Main entry point for building security JSON files. Loads the URL repository, retrieves dependencies with vulnerabilities, and processes them to
@@ -154,10 +208,40 @@ public class BuildSecurityJsonFiles implements Runnable {
     for (VulnerableSoftware range : vulnerability.getVulnerableSoftware()) {
       VersionRange versionRange = toVersionRange(range, edition, urlUpdater, id);
       if (versionRange != null) {
-        Cve.mergeVersionRage(versions, versionRange);
+        versions.add(versionRange);
+      }
+    }
+    return mergeVersionRanges(versions);
+  }
+
+  /**
+   * Merges the given {@link VersionRange}s by sorting them and uniting adjacent ranges in a single pass instead of scanning all previous ranges for every
+   * added range.
+   *
+   * @param versions the {@link List} of {@link VersionRange}s to merge. Will be sorted in place.
+   * @return the {@link List} with the merged {@link VersionRange}s sorted by their {@link VersionRange#getMin() minimum}.
+   * @see Cve#mergeVersionRage(List, VersionRange)
+   */
+  static List<VersionRange> mergeVersionRanges(List<VersionRange> versions) {
+
+    if (versions.size() <= 1) {
+      return versions;
+    }
+    Collections.sort(versions);
+    List<VersionRange> merged = new ArrayList<>(versions.size());
+    VersionRange current = versions.getFirst();
+    for (int i = 1; i < versions.size(); i++) {
+      VersionRange next = versions.get(i);
+      VersionRange union = current.union(next, VersionRangeRelation.CONNECTED_LOOSELY);
+      if (union == null) {
+        merged.add(current);
+        current = next;
+      } else {
+        current = union;
       }
     }
-    return versions;
+    merged.add(current);
+    return merged;
   }
 
   private static VersionRange toVersionRange(VulnerableSoftware range, String edition, AbstractUrlUpdater urlUpdater, String id) {
@@ -256,14 +340,14 @@ public class BuildSecurityJsonFiles implements Runnable {
     return (value != null) && !"*".equals(value) && !IGNORED_VALUES.contains(value);
   }
 
-  private static List<Vulnerability> findVulnerabilities(CveDB database, AbstractUrlUpdater updater) {
+  private List<Vulnerability> findVulnerabilities(CveDB database, AbstractUrlUpdater updater) {
 
     List<Cpe> searchCpes = createSearchCpes(updater);
     List<Vulnerability> vulnerabilities = new ArrayList<>();
     Set<String> seenNames = new LinkedHashSet<>();
     for (int i = 0; i < searchCpes.size(); i++) {
       Cpe cpe = searchCpes.get(i);
-      List<Vulnerability> found = database.getVulnerabilities(cpe);
+      List<Vulnerability> found = queryVulnerabilities(database, cpe);
       if ((found != null) && !found.isEmpty()) {
         for (Vulnerability vulnerability : found) {
           if (seenNames.add(vulnerability.getName())) {
@@ -278,6 +362,21 @@ public class BuildSecurityJsonFiles implements Runnable {
     return vulnerabilities;
   }
 
+  private List<Vulnerability> queryVulnerabilities(CveDB database, Cpe cpe) {
+
+    return this.vulnerabilityCache.computeIfAbsent(cpe.getPart() + ":" + cpe.getVendor() + ":" + cpe.getProduct(), key -> {
+      // the CveDB shares a single connection and its prepared statements so queries must not run concurrently
+      synchronized (database) {
+        try {
+          List<Vulnerability> found = database.getVulnerabilities(cpe);
+          return (found == null) ? List.of() : found;
+        } catch (Exception e) {
+          throw new IllegalStateException("Failed to query vulnerabilities for " + key, e);
+        }
+      }
+    });
+  }
+
   private static List<Cpe> createSearchCpes(AbstractUrlUpdater updater) {
 
     AbstractUrlUpdater.CpeRegistry cpe = updater.getCpeRegistry();
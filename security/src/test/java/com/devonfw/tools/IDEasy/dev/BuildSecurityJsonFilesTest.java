@@ -0,0 +1,33 @@
+package com.devonfw.tools.IDEasy.dev;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.version.VersionRange;
+
+/**
+ * Test of {@link BuildSecurityJsonFiles}.
+ */
+class BuildSecurityJsonFilesTest extends Assertions {
+
+  /**
+   * Test of {@link BuildSecurityJsonFiles#mergeVersionRanges(List)} with unsorted, overlapping and loosely connected {@link VersionRange}s.
+   */
+  @Test
+  void testMergeVersionRanges() {
+
+    // arrange
+    List<VersionRange> versions = new ArrayList<>(List.of(VersionRange.of("[2.3,5.0]"), VersionRange.of("[7.0,8.0)"), VersionRange.of("(,1.0)"),
+        VersionRange.of("[2.0,2.2]"), VersionRange.of("[0.5,1.5)")));
+
+    // act
+    List<VersionRange> merged = BuildSecurityJsonFiles.mergeVersionRanges(versions);
+
+    // assert
+    assertThat(merged).containsExactly(VersionRange.of("(,1.5)"), VersionRange.of("[2.0,5.0]"), VersionRange.of("[7.0,8.0)"));
+  }
+
+}
@@ -231,9 +231,8 @@ public class UpdateManager extends AbstractProcessorWithTimeout {
    */
   public void saveStatusFiles() {
 
-    for (UrlStatusFile statusFile : this.statusFiles.values()) {
-      statusFile.save();
-    }
+    int written = UrlStatusFile.saveAll(this.statusFiles.values());
+    logger.debug("Saved {} of {} status files", written, this.statusFiles.size());
   }
 
 }
@@ -1,10 +1,19 @@
 package com.devonfw.tools.ide.url.updater.status;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.devonfw.tools.ide.json.JsonMapping;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,6 +29,9 @@ public class UrlStatusFile {
 
   private static final ObjectMapper MAPPER = JsonMapping.createWithReflectionSupportForUrlUpdaters();
 
+  /** Maximum number of threads used by {@link #saveAll(Collection)} to write status files in parallel. */
+  private static final int MAX_WRITER_THREADS = 8;
+
   private final Path path;
 
   private StatusJson statusJson;
@@ -94,20 +106,102 @@ public class UrlStatusFile {
   }
 
   /**
-   * Saves this status file to disk if it has been modified.
+   * @return {@code true} if this status file has been modified and needs to be {@link #save() saved}, {@code false} otherwise.
+   */
+  public boolean isModified() {
+
+    return this.modified;
+  }
+
+  /**
+   * Saves this status file to disk if it has been modified. The file is written to a temporary file that atomically replaces the original one. If the
+   * serialized content is byte-identical to the existing file, nothing is written at all to avoid touching the file.
+   *
+   * @return {@code true} if the file has actually been written, {@code false} otherwise (unmodified or identical content).
    */
-  public void save() {
+  public boolean save() {
 
-    if (this.modified) {
-      try {
+    if (!this.modified) {
+      return false;
+    }
+    boolean written = false;
+    try {
+      byte[] data = MAPPER.writeValueAsBytes(this.statusJson);
+      if (!isIdentical(data)) {
         Files.createDirectories(this.path.getParent());
-        try (BufferedWriter writer = Files.newBufferedWriter(this.path)) {
-          MAPPER.writeValue(writer, this.statusJson);
+        Path tmpFile = this.path.resolveSibling(STATUS_JSON + ".tmp");
+        Files.write(tmpFile, data);
+        try {
+          Files.move(tmpFile, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmpFile, this.path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        written = true;
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to save file " + this.path, e);
+    }
+    this.modified = false;
+    return written;
+  }
+
+  private boolean isIdentical(byte[] data) throws IOException {
+
+    if (!Files.exists(this.path) || (Files.size(this.path) != data.length)) {
+      return false;
+    }
+    return Arrays.equals(Files.readAllBytes(this.path), data);
+  }
+
+  /**
+   * Saves the given {@link UrlStatusFile}s in parallel using a bounded number of threads. A full run of the URL updater touches thousands of status files
+   * so writing them one after the other is dominated by I/O latency.
+   *
+   * @param statusFiles the {@link Collection} of {@link UrlStatusFile}s to {@link #save() save}. Unmodified ones are skipped.
+   * @return the number of files that have actually been written.
+   */
+  public static int saveAll(Collection<UrlStatusFile> statusFiles) {
+
+    List<UrlStatusFile> modifiedFiles = new ArrayList<>();
+    for (UrlStatusFile statusFile : statusFiles) {
+      if (statusFile.modified) {
+        modifiedFiles.add(statusFile);
+      }
+    }
+    if (modifiedFiles.isEmpty()) {
+      return 0;
+    }
+    int threads = Math.min(Math.min(MAX_WRITER_THREADS, Runtime.getRuntime().availableProcessors()), modifiedFiles.size());
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>(modifiedFiles.size());
+      for (UrlStatusFile statusFile : modifiedFiles) {
+        futures.add(executor.submit(statusFile::save));
+      }
+      int written = 0;
+      IllegalStateException error = null;
+      for (Future<Boolean> future : futures) {
+        try {
+          if (future.get()) {
+            written++;
+          }
+        } catch (ExecutionException e) {
+          if (error == null) {
+            error = new IllegalStateException("Failed to save status files", e.getCause());
+          } else {
+            error.addSuppressed(e.getCause());
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while saving status files", e);
         }
-      } catch (IOException e) {
-        throw new IllegalStateException("Failed to save file " + this.path, e);
       }
-      this.modified = false;
+      if (error != null) {
+        throw error;
+      }
+      return written;
+    } finally {
+      executor.shutdownNow();
     }
   }
 
@@ -3,7 +3,10 @@ package com.devonfw.tools.ide.url.updater.status;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -92,6 +95,67 @@ class UrlStatusFileTest extends Assertions {
     assertThat(path).doesNotExist();
   }
 
+  /**
+   * Test that {@link UrlStatusFile#save()} does not rewrite a file whose serialized content is byte-identical.
+   */
+  @Test
+  void testSaveSkipsIdenticalContent(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path path = tempDir.resolve(UrlStatusFile.STATUS_JSON);
+    UrlStatusFile statusFile = new UrlStatusFile(path);
+    statusFile.markModified();
+    statusFile.save();
+    FileTime lastModified = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+    Files.setLastModifiedTime(path, lastModified);
+    statusFile = new UrlStatusFile(path);
+    statusFile.markModified();
+
+    // act
+    boolean written = statusFile.save();
+
+    // assert
+    assertThat(written).isFalse();
+    assertThat(statusFile.isModified()).isFalse();
+    assertThat(Files.getLastModifiedTime(path)).isEqualTo(lastModified);
+  }
+
+  /**
+   * Test that {@link UrlStatusFile#saveAll(java.util.Collection)} writes all modified status files of a status repository in parallel and skips
+   * unmodified ones.
+   */
+  @Test
+  void testSaveAll(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    List<UrlStatusFile> statusFiles = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      UrlStatusFile statusFile = new UrlStatusFile(tempDir.resolve("tool").resolve("edition").resolve("1." + i).resolve(UrlStatusFile.STATUS_JSON));
+      if (i % 2 == 0) {
+        statusFile.getStatusJson().setManual(true);
+        statusFile.markModified();
+      }
+      statusFiles.add(statusFile);
+    }
+
+    // act
+    int written = UrlStatusFile.saveAll(statusFiles);
+
+    // assert
+    assertThat(written).isEqualTo(10);
+    for (int i = 0; i < 20; i++) {
+      Path path = statusFiles.get(i).getPath();
+      if (i % 2 == 0) {
+        assertThat(path).exists();
+        assertThat(new UrlStatusFile(path).getStatusJson().isManual()).isTrue();
+        assertThat(path.resolveSibling(UrlStatusFile.STATUS_JSON + ".tmp")).doesNotExist();
+      } else {
+        assertThat(path).doesNotExist();
+      }
+      assertThat(statusFiles.get(i).isModified()).isFalse();
+    }
+  }
+
   /**
    * Test that {@link UrlStatusFile#delete()} removes the file from disk.
    */